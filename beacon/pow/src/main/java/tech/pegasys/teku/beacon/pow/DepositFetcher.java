@@ -19,15 +19,22 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -41,6 +48,7 @@ import tech.pegasys.teku.ethereum.pow.api.Eth1EventsChannel;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.Constants;
 
@@ -48,12 +56,20 @@ public class DepositFetcher {
 
   private static final Logger LOG = LogManager.getLogger();
 
+  static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 3;
+  // Shrink the batch size if a request takes longer or returns more logs than this
+  static final long TARGET_REQUEST_DURATION_MILLIS = 2_000;
+  static final int TARGET_DEPOSITS_PER_REQUEST = 1_000;
+  static final int MAX_BLOCKS_PER_BATCH_REQUEST = 100;
+
   private final Eth1Provider eth1Provider;
   private final Eth1EventsChannel eth1EventsChannel;
   private final DepositEventsAccessor depositEventsAccessor;
   private final Eth1BlockFetcher eth1BlockFetcher;
   private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
   private final int maxBlockRange;
+  private final int maxConcurrentRequests;
 
   public DepositFetcher(
       final Eth1Provider eth1Provider,
@@ -61,13 +77,38 @@ public class DepositFetcher {
       final DepositEventsAccessor depositEventsAccessor,
       final Eth1BlockFetcher eth1BlockFetcher,
       final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
       final int maxBlockRange) {
+    this(
+        eth1Provider,
+        eth1EventsChannel,
+        depositEventsAccessor,
+        eth1BlockFetcher,
+        asyncRunner,
+        timeProvider,
+        maxBlockRange,
+        DEFAULT_MAX_CONCURRENT_REQUESTS);
+  }
+
+  @VisibleForTesting
+  DepositFetcher(
+      final Eth1Provider eth1Provider,
+      final Eth1EventsChannel eth1EventsChannel,
+      final DepositEventsAccessor depositEventsAccessor,
+      final Eth1BlockFetcher eth1BlockFetcher,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final int maxBlockRange,
+      final int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "Must allow at least one concurrent request");
     this.eth1Provider = eth1Provider;
     this.eth1EventsChannel = eth1EventsChannel;
     this.depositEventsAccessor = depositEventsAccessor;
     this.eth1BlockFetcher = eth1BlockFetcher;
     this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
     this.maxBlockRange = maxBlockRange;
+    this.maxConcurrentRequests = maxConcurrentRequests;
   }
 
   // Inclusive on both sides
@@ -84,23 +125,33 @@ public class DepositFetcher {
         toBlockNumber);
 
     final DepositFetchState fetchState = new DepositFetchState(fromBlockNumber, toBlockNumber);
-    return sendNextBatchRequest(fetchState);
+    return processNextBatch(fetchState);
   }
 
-  private SafeFuture<Void> sendNextBatchRequest(final DepositFetchState fetchState) {
-    final BigInteger nextBatchEnd = fetchState.getNextBatchEnd();
-    LOG.debug(
-        "Requesting deposits between {} and {}. Batch size: {}",
-        fetchState.nextBatchStart,
-        nextBatchEnd,
-        fetchState.batchSize);
-    return processDepositsInBatch(fetchState.nextBatchStart, nextBatchEnd)
-        .exceptionallyCompose(
-            (err) -> {
+  /**
+   * Keeps up to {@code maxConcurrentRequests} batches in flight and posts the results of each
+   * batch in order as it completes. If a batch fails, any batches after it are discarded and
+   * requests resume from the start of the failed batch.
+   */
+  private SafeFuture<Void> processNextBatch(final DepositFetchState fetchState) {
+    fetchState.sendBatchRequests();
+    final PendingBatch batch = fetchState.takeNextBatch();
+    if (batch == null) {
+      return SafeFuture.COMPLETE;
+    }
+    return batch
+        .result
+        .thenAccept(result -> postDepositEvents(batch, result))
+        .handleComposed(
+            (__, err) -> {
+              if (err == null) {
+                LOG.trace("Batch request completed. Done? {}", fetchState.isDone());
+                return processNextBatch(fetchState);
+              }
               LOG.debug(
                   "Failed to request deposit events for block numbers in the range ({}, {}). Retrying.",
-                  fetchState.nextBatchStart,
-                  nextBatchEnd,
+                  batch.fromBlock,
+                  batch.toBlock,
                   err);
 
               final Throwable rootCause = Throwables.getRootCause(err);
@@ -109,77 +160,55 @@ public class DepositFetcher {
               } else if (rootCause instanceof Eth1RequestException
                   && ((Eth1RequestException) rootCause)
                       .containsExceptionSolvableWithSmallerRange()) {
-                STATUS_LOG.eth1FetchDepositsRequiresSmallerRange(fetchState.batchSize);
+                STATUS_LOG.eth1FetchDepositsRequiresSmallerRange(fetchState.getBatchSize());
                 fetchState.reduceBatchSize();
               }
+              fetchState.restartFrom(batch.fromBlock);
 
               return asyncRunner.runAfterDelay(
-                  () -> sendNextBatchRequest(fetchState),
-                  Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT);
-            })
-        .thenCompose(
-            __ -> {
-              fetchState.moveToNextBatch();
-              LOG.trace("Batch request completed. Done? {}", fetchState.isDone());
-              if (fetchState.isDone()) {
-                return SafeFuture.COMPLETE;
-              } else {
-                return sendNextBatchRequest(fetchState);
-              }
+                  () -> processNextBatch(fetchState), Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT);
             });
   }
 
-  private SafeFuture<Void> processDepositsInBatch(
-      final BigInteger fromBlockNumber, final BigInteger toBlockNumber) {
+  private SafeFuture<BatchResult> requestBatch(
+      final DepositFetchState fetchState,
+      final BigInteger fromBlockNumber,
+      final BigInteger toBlockNumber) {
+    LOG.debug(
+        "Requesting deposits between {} and {}. Batch size: {}",
+        fromBlockNumber,
+        toBlockNumber,
+        fetchState.getBatchSize());
+    final UInt64 requestStartTime = timeProvider.getTimeInMillis();
     return depositEventsAccessor
         .depositEventInRange(
             DefaultBlockParameter.valueOf(fromBlockNumber),
             DefaultBlockParameter.valueOf(toBlockNumber))
+        .thenPeek(
+            events ->
+                fetchState.onBatchReceived(
+                    events.size(),
+                    timeProvider.getTimeInMillis().minusMinZero(requestStartTime).longValue()))
         .thenApply(this::groupDepositEventResponsesByBlockHash)
         .thenCompose(
             eventResponsesByBlockHash ->
-                postDepositEvents(
-                    getListOfEthBlockFutures(eventResponsesByBlockHash.keySet()),
-                    eventResponsesByBlockHash,
-                    fromBlockNumber,
-                    toBlockNumber));
+                getBlocks(eventResponsesByBlockHash.keySet())
+                    .thenApply(blocks -> new BatchResult(blocks, eventResponsesByBlockHash)));
   }
 
-  private SafeFuture<Void> postDepositEvents(
-      List<SafeFuture<EthBlock.Block>> blockRequests,
-      Map<BlockNumberAndHash, List<DepositContract.DepositEventEventResponse>> depositEventsByBlock,
-      BigInteger fromBlock,
-      BigInteger toBlock) {
-    LOG.trace("Posting deposit events for {} blocks", depositEventsByBlock.size());
-    BigInteger from = fromBlock;
-    // First process completed requests using iteration.
-    // Avoid StackOverflowException when there is a long string of requests already completed.
-    while (!blockRequests.isEmpty() && blockRequests.get(0).isDone()) {
-      final EthBlock.Block block = blockRequests.remove(0).join();
-
+  private void postDepositEvents(final PendingBatch batch, final BatchResult result) {
+    LOG.trace("Posting deposit events for {} blocks", result.depositEventsByBlock.size());
+    BigInteger from = batch.fromBlock;
+    for (EthBlock.Block block : result.blocks) {
       // Fetch any empty blocks between this deposit block and the previous one (or start of range)
       final BigInteger to = block.getNumber().subtract(BigInteger.ONE);
       eth1BlockFetcher.fetch(from, to);
       from = block.getNumber().add(BigInteger.ONE);
 
-      postEventsForBlock(block, depositEventsByBlock);
-    }
-
-    // All requests have completed and been processed.
-    if (blockRequests.isEmpty()) {
-      // Fetch any empty blocks between the last deposit and end of the range
-      eth1BlockFetcher.fetch(from, toBlock);
-      return SafeFuture.COMPLETE;
+      postEventsForBlock(block, result.depositEventsByBlock);
     }
-
-    BigInteger remainingRangeStart = from;
-    // Reached a block request that isn't complete so wait for it and recurse back into this method.
-    return blockRequests
-        .get(0)
-        .thenCompose(
-            block ->
-                postDepositEvents(
-                    blockRequests, depositEventsByBlock, remainingRangeStart, toBlock));
+    // Fetch any empty blocks between the last deposit and end of the range
+    eth1BlockFetcher.fetch(from, batch.toBlock);
   }
 
   private synchronized void postEventsForBlock(
@@ -204,12 +233,42 @@ public class DepositFetcher {
         groupedDepositEventResponse.stream().map(DepositEventEventResponse::toDeposit));
   }
 
-  private List<SafeFuture<EthBlock.Block>> getListOfEthBlockFutures(
-      Set<BlockNumberAndHash> neededBlockHashes) {
-    return neededBlockHashes.stream()
-        .map(BlockNumberAndHash::getHash)
-        .map(eth1Provider::getGuaranteedEth1Block)
-        .collect(toList());
+  /**
+   * Requests the blocks containing deposits using batched requests, falling back to requesting
+   * individual blocks if a batch fails or doesn't include a block.
+   */
+  private SafeFuture<List<EthBlock.Block>> getBlocks(
+      final Collection<BlockNumberAndHash> neededBlocks) {
+    final List<String> blockHashes =
+        neededBlocks.stream().map(BlockNumberAndHash::getHash).collect(toList());
+    return SafeFuture.collectAll(
+            Lists.partition(blockHashes, MAX_BLOCKS_PER_BATCH_REQUEST).stream()
+                .map(this::getBlocksInBatch))
+        .thenCompose(
+            batches ->
+                SafeFuture.collectAll(batches.stream().flatMap(Collection::stream)));
+  }
+
+  private SafeFuture<List<SafeFuture<EthBlock.Block>>> getBlocksInBatch(
+      final List<String> blockHashes) {
+    return eth1Provider
+        .getEth1Blocks(blockHashes)
+        .exceptionally(
+            err -> {
+              LOG.debug("Batch request for eth1 blocks failed. Requesting individually.", err);
+              return Collections.nCopies(blockHashes.size(), Optional.empty());
+            })
+        .thenApply(
+            blocks ->
+                IntStream.range(0, blockHashes.size())
+                    .mapToObj(
+                        i ->
+                            blocks
+                                .get(i)
+                                .map(SafeFuture::completedFuture)
+                                .orElseGet(
+                                    () -> eth1Provider.getGuaranteedEth1Block(blockHashes.get(i))))
+                    .collect(toList()));
   }
 
   private NavigableMap<BlockNumberAndHash, List<DepositEventEventResponse>>
@@ -229,40 +288,96 @@ public class DepositFetcher {
   }
 
   private class DepositFetchState {
+    private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
     // Both inclusive
-    BigInteger nextBatchStart;
+    private BigInteger nextBatchStart;
 
-    final BigInteger lastBlock;
-    int batchSize = maxBlockRange;
+    private final BigInteger lastBlock;
+    private int batchSize = maxBlockRange;
 
     public DepositFetchState(final BigInteger fromBlockNumber, final BigInteger toBlockNumber) {
       this.nextBatchStart = fromBlockNumber;
       this.lastBlock = toBlockNumber;
     }
 
-    public void moveToNextBatch() {
-      nextBatchStart = getNextBatchEnd().add(BigInteger.ONE);
-      if (batchSize < maxBlockRange) {
+    public synchronized void sendBatchRequests() {
+      while (pendingBatches.size() < maxConcurrentRequests && !isAllRequested()) {
+        final BigInteger batchStart = nextBatchStart;
+        final BigInteger batchEnd = lastBlock.min(batchStart.add(BigInteger.valueOf(batchSize)));
+        nextBatchStart = batchEnd.add(BigInteger.ONE);
+        pendingBatches.add(
+            new PendingBatch(batchStart, batchEnd, requestBatch(this, batchStart, batchEnd)));
+      }
+    }
+
+    public synchronized PendingBatch takeNextBatch() {
+      return pendingBatches.poll();
+    }
+
+    public synchronized void restartFrom(final BigInteger blockNumber) {
+      // Results of any later batches are discarded so events are always posted in order
+      pendingBatches.clear();
+      nextBatchStart = blockNumber;
+    }
+
+    public synchronized void onBatchReceived(final int depositCount, final long durationMillis) {
+      if (durationMillis > TARGET_REQUEST_DURATION_MILLIS
+          || depositCount > TARGET_DEPOSITS_PER_REQUEST) {
+        reduceBatchSize();
+      } else if (batchSize < maxBlockRange
+          && durationMillis < TARGET_REQUEST_DURATION_MILLIS / 2
+          && depositCount < TARGET_DEPOSITS_PER_REQUEST / 2) {
         // Grow the batch size slowly as we may be past a large blob of logs that caused trouble
         // +1 to guarantee it grows by at least 1
         batchSize = Math.min(maxBlockRange, (int) (batchSize * 1.1 + 1));
       }
     }
 
-    private BigInteger getNextBatchEnd() {
-      return lastBlock.min(nextBatchStart.add(BigInteger.valueOf(batchSize)));
+    private boolean isAllRequested() {
+      return nextBatchStart.compareTo(lastBlock) > 0;
+    }
+
+    public synchronized boolean isDone() {
+      return isAllRequested() && pendingBatches.isEmpty();
     }
 
-    public boolean isDone() {
-      return nextBatchStart.compareTo(lastBlock) >= 0;
+    public synchronized int getBatchSize() {
+      return batchSize;
     }
 
-    public void reduceBatchSize() {
+    public synchronized void reduceBatchSize() {
       batchSize = Math.max(1, batchSize / 2);
       LOG.debug("Reduced batch size to {}", batchSize);
     }
   }
 
+  private static class PendingBatch {
+    private final BigInteger fromBlock;
+    private final BigInteger toBlock;
+    private final SafeFuture<BatchResult> result;
+
+    private PendingBatch(
+        final BigInteger fromBlock,
+        final BigInteger toBlock,
+        final SafeFuture<BatchResult> result) {
+      this.fromBlock = fromBlock;
+      this.toBlock = toBlock;
+      this.result = result;
+    }
+  }
+
+  private static class BatchResult {
+    private final List<EthBlock.Block> blocks;
+    private final Map<BlockNumberAndHash, List<DepositEventEventResponse>> depositEventsByBlock;
+
+    private BatchResult(
+        final List<EthBlock.Block> blocks,
+        final Map<BlockNumberAndHash, List<DepositEventEventResponse>> depositEventsByBlock) {
+      this.blocks = blocks;
+      this.depositEventsByBlock = depositEventsByBlock;
+    }
+  }
+
   private static class BlockNumberAndHash implements Comparable<BlockNumberAndHash> {
     private static final Comparator<BlockNumberAndHash> COMPARATOR =
         Comparator.comparing(BlockNumberAndHash::getNumber)
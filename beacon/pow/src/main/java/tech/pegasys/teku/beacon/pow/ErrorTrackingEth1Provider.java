@@ -64,6 +64,11 @@ public class ErrorTrackingEth1Provider implements Eth1Provider {
     return logStatus(delegate.getGuaranteedEth1Block(blockHash));
   }
 
+  @Override
+  public SafeFuture<List<Optional<EthBlock.Block>>> getEth1Blocks(final List<String> blockHashes) {
+    return logStatus(delegate.getEth1Blocks(blockHashes));
+  }
+
   @Override
   public SafeFuture<EthBlock.Block> getGuaranteedLatestEth1Block() {
     return logStatus(delegate.getGuaranteedLatestEth1Block());
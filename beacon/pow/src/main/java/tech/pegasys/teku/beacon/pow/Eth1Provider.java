@@ -49,6 +49,14 @@ public interface Eth1Provider {
 
   SafeFuture<Block> getGuaranteedEth1Block(String blockHash);
 
+  /**
+   * Requests multiple blocks by hash, in a single batched request where supported.
+   *
+   * @param blockHashes the hashes of the blocks to retrieve
+   * @return the blocks in the same order as {@code blockHashes}, empty if a block was not found
+   */
+  SafeFuture<List<Optional<Block>>> getEth1Blocks(List<String> blockHashes);
+
   SafeFuture<Block> getGuaranteedEth1Block(UInt64 blockNumber);
 
   SafeFuture<Block> getLatestEth1Block();
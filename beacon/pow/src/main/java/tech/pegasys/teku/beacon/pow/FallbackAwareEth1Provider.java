@@ -68,6 +68,11 @@ public class FallbackAwareEth1Provider implements Eth1Provider {
             });
   }
 
+  @Override
+  public SafeFuture<List<Optional<Block>>> getEth1Blocks(final List<String> blockHashes) {
+    return run(eth1Provider -> eth1Provider.getEth1Blocks(blockHashes));
+  }
+
   @Override
   public SafeFuture<EthBlock.Block> getGuaranteedLatestEth1Block() {
     return run(Eth1Provider::getLatestEth1Block)
@@ -62,6 +62,11 @@ public class ThrottlingEth1Provider implements Eth1Provider {
     return taskQueue.queueTask(() -> delegate.getGuaranteedEth1Block(blockHash));
   }
 
+  @Override
+  public SafeFuture<List<Optional<Block>>> getEth1Blocks(final List<String> blockHashes) {
+    return taskQueue.queueTask(() -> delegate.getEth1Blocks(blockHashes));
+  }
+
   @Override
   public SafeFuture<Block> getGuaranteedEth1Block(final UInt64 blockNumber) {
     return taskQueue.queueTask(() -> delegate.getGuaranteedEth1Block(blockNumber));
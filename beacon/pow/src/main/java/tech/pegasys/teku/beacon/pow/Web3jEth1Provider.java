@@ -13,12 +13,17 @@
 
 package tech.pegasys.teku.beacon.pow;
 
+import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.base.Throwables;
 import java.math.BigInteger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -28,6 +33,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.Request;
@@ -134,6 +140,62 @@ public class Web3jEth1Provider extends AbstractMonitorableEth1Provider {
             });
   }
 
+  @Override
+  public SafeFuture<List<Optional<EthBlock.Block>>> getEth1Blocks(final List<String> blockHashes) {
+    if (blockHashes.isEmpty()) {
+      return SafeFuture.completedFuture(Collections.emptyList());
+    }
+    LOG.trace("Getting {} eth1 blocks in batch", blockHashes.size());
+    final BatchRequest batch = web3j.newBatch();
+    final Map<Long, Integer> indexByRequestId = new HashMap<>();
+    for (int i = 0; i < blockHashes.size(); i++) {
+      final Request<?, EthBlock> request = web3j.ethGetBlockByHash(blockHashes.get(i), false);
+      indexByRequestId.put(request.getId(), i);
+      batch.add(request);
+    }
+    try {
+      requestCounter.labels(id, "eth_getBlockByHash").inc(blockHashes.size());
+      return SafeFuture.of(batch.sendAsync())
+          .thenApply(
+              batchResponse -> {
+                // Batch responses aren't guaranteed to be in request order so match them by id
+                final List<Optional<EthBlock.Block>> blocks =
+                    new ArrayList<>(Collections.nCopies(blockHashes.size(), null));
+                for (Response<?> response : batchResponse.getResponses()) {
+                  if (response.hasError()) {
+                    final Error error = response.getError();
+                    throw new RejectedRequestException(error.getCode(), error.getMessage());
+                  }
+                  final Integer index = indexByRequestId.get(response.getId());
+                  checkState(
+                      index != null && blocks.get(index) == null,
+                      "Unexpected response id %s in batch response",
+                      response.getId());
+                  final String blockHash = blockHashes.get(index);
+                  final Optional<EthBlock.Block> block =
+                      Optional.ofNullable(((EthBlock) response).getBlock());
+                  checkState(
+                      block.isEmpty() || block.get().getHash().equalsIgnoreCase(blockHash),
+                      "Batch response for block %s returned block %s",
+                      blockHash,
+                      block.map(EthBlock.Block::getHash).orElse(null));
+                  blocks.set(index, block);
+                }
+                checkState(
+                    !blocks.contains(null),
+                    "Expected %s blocks in batch response but got %s",
+                    blockHashes.size(),
+                    batchResponse.getResponses().size());
+                updateLastCall(Result.SUCCESS);
+                return blocks;
+              })
+          .catchAndRethrow(__ -> updateLastCall(Result.FAILED));
+    } catch (RejectedExecutionException ex) {
+      LOG.debug("shutting down, ignoring error", ex);
+      return new SafeFuture<>();
+    }
+  }
+
   private SafeFuture<EthBlock.Block> getEth1Block(final DefaultBlockParameter blockParameter) {
     return sendAsync(web3j.ethGetBlockByNumber(blockParameter, false))
         .thenApply(EthBlock::getBlock);
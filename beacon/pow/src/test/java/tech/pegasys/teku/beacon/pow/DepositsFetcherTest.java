@@ -16,19 +16,28 @@ package tech.pegasys.teku.beacon.pow;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.primitives.Longs;
 import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InOrder;
@@ -43,6 +52,7 @@ import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.Eth1EventsChannel;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 
 public class DepositsFetcherTest {
 
@@ -52,15 +62,23 @@ public class DepositsFetcherTest {
   private final DepositEventsAccessor depositEventsAccessor = mock(DepositEventsAccessor.class);
   private final Eth1BlockFetcher eth1BlockFetcher = mock(Eth1BlockFetcher.class);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
-
-  private final DepositFetcher depositFetcher =
-      new DepositFetcher(
-          eth1Provider,
-          eth1EventsChannel,
-          depositEventsAccessor,
-          eth1BlockFetcher,
-          asyncRunner,
-          MAX_BLOCK_RANGE);
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final Map<String, EthBlock.Block> blocksByHash = new HashMap<>();
+
+  private final DepositFetcher depositFetcher = createDepositFetcher(1);
+
+  @BeforeEach
+  void setUp() {
+    when(eth1Provider.getEth1Blocks(any()))
+        .thenAnswer(
+            invocation -> {
+              final List<String> blockHashes = invocation.getArgument(0);
+              return SafeFuture.completedFuture(
+                  blockHashes.stream()
+                      .map(hash -> Optional.ofNullable(blocksByHash.get(hash)))
+                      .collect(Collectors.toList()));
+            });
+  }
 
   @Test
   void depositsInConsecutiveBlocks() {
@@ -193,11 +211,126 @@ public class DepositsFetcherTest {
     verifyNoMoreInteractions(depositEventsAccessor);
   }
 
+  @Test
+  void shouldRequestBlocksContainingDepositsInBatch() {
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> depositEventsFuture =
+        mockContractEventsInRange(0, 10);
+    mockBlockForEth1Provider("0x1234", 1, 1000);
+    mockBlockForEth1Provider("0x5678", 5, 1014);
+
+    depositEventsFuture.complete(
+        List.of(
+            mockDepositEventEventResponse(1, "0x1234", 1),
+            mockDepositEventEventResponse(2, "0x5678", 5)));
+
+    assertThat(depositFetcher.fetchDepositsInRange(BigInteger.ZERO, BigInteger.valueOf(10)))
+        .isCompleted();
+
+    verify(eth1Provider).getEth1Blocks(List.of("0x1234", "0x5678"));
+    verify(eth1Provider, never()).getGuaranteedEth1Block(anyString());
+  }
+
+  @Test
+  void shouldRequestBlocksIndividuallyWhenBatchRequestFails() {
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> depositEventsFuture =
+        mockContractEventsInRange(0, 10);
+    mockBlockForEth1Provider("0x1234", 1, 1000);
+    when(eth1Provider.getEth1Blocks(any()))
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("Batch not supported")));
+
+    depositEventsFuture.complete(List.of(mockDepositEventEventResponse(1, "0x1234", 1)));
+
+    assertThat(depositFetcher.fetchDepositsInRange(BigInteger.ZERO, BigInteger.valueOf(10)))
+        .isCompleted();
+
+    verify(eth1Provider).getGuaranteedEth1Block("0x1234");
+    verify(eth1EventsChannel).onDepositsFromBlock(argThat(isEvent(1, 1)));
+  }
+
+  @Test
+  void shouldKeepMultipleBatchesInFlightAndPostResultsInOrder() {
+    final DepositFetcher depositFetcher = createDepositFetcher(3);
+    final BigInteger toBlockNumber = BigInteger.valueOf(4 * MAX_BLOCK_RANGE);
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> batch1Response =
+        new SafeFuture<>();
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> batch2Response =
+        new SafeFuture<>();
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> batch3Response =
+        new SafeFuture<>();
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> batch4Response =
+        new SafeFuture<>();
+    when(depositEventsAccessor.depositEventInRange(any(), any()))
+        .thenReturn(batch1Response)
+        .thenReturn(batch2Response)
+        .thenReturn(batch3Response)
+        .thenReturn(batch4Response);
+
+    final SafeFuture<Void> result =
+        depositFetcher.fetchDepositsInRange(BigInteger.ZERO, toBlockNumber);
+
+    // Three batches are requested up front
+    verify(depositEventsAccessor, times(3)).depositEventInRange(any(), any());
+
+    // Later batches completing first aren't posted until earlier ones are done
+    batch2Response.complete(emptyList());
+    verifyNoInteractions(eth1BlockFetcher);
+    verify(depositEventsAccessor, times(3)).depositEventInRange(any(), any());
+
+    batch1Response.complete(emptyList());
+    final InOrder inOrder = inOrder(eth1BlockFetcher);
+    inOrder.verify(eth1BlockFetcher).fetch(BigInteger.ZERO, BigInteger.valueOf(MAX_BLOCK_RANGE));
+    inOrder
+        .verify(eth1BlockFetcher)
+        .fetch(
+            BigInteger.valueOf(MAX_BLOCK_RANGE + 1), BigInteger.valueOf(2 * MAX_BLOCK_RANGE + 1));
+    verify(depositEventsAccessor, times(4)).depositEventInRange(any(), any());
+
+    batch3Response.complete(emptyList());
+    batch4Response.complete(emptyList());
+    assertThat(result).isCompleted();
+  }
+
+  @Test
+  void shouldReduceBatchSizeWhenResponseIsSlow() {
+    final BigInteger toBlockNumber = BigInteger.valueOf(2 * MAX_BLOCK_RANGE);
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> request1Response =
+        new SafeFuture<>();
+    when(depositEventsAccessor.depositEventInRange(any(), any()))
+        .thenReturn(request1Response)
+        .thenReturn(new SafeFuture<>());
+
+    depositFetcher.fetchDepositsInRange(BigInteger.ZERO, toBlockNumber);
+
+    timeProvider.advanceTimeByMillis(DepositFetcher.TARGET_REQUEST_DURATION_MILLIS + 1);
+    request1Response.complete(emptyList());
+
+    final BigInteger nextBatchStart = BigInteger.valueOf(MAX_BLOCK_RANGE + 1);
+    verify(depositEventsAccessor)
+        .depositEventInRange(
+            refEq(DefaultBlockParameter.valueOf(nextBatchStart)),
+            refEq(
+                DefaultBlockParameter.valueOf(
+                    nextBatchStart.add(BigInteger.valueOf(MAX_BLOCK_RANGE / 2)))));
+  }
+
+  private DepositFetcher createDepositFetcher(final int maxConcurrentRequests) {
+    return new DepositFetcher(
+        eth1Provider,
+        eth1EventsChannel,
+        depositEventsAccessor,
+        eth1BlockFetcher,
+        asyncRunner,
+        timeProvider,
+        MAX_BLOCK_RANGE,
+        maxConcurrentRequests);
+  }
+
   private void mockBlockForEth1Provider(String blockHash, long blockNumber, long timestamp) {
     EthBlock.Block block = mock(EthBlock.Block.class);
     when(block.getTimestamp()).thenReturn(BigInteger.valueOf(timestamp));
     when(block.getNumber()).thenReturn(BigInteger.valueOf(blockNumber));
     when(block.getHash()).thenReturn(blockHash);
+    blocksByHash.put(blockHash, block);
     when(eth1Provider.getGuaranteedEth1Block(blockHash))
         .thenReturn(SafeFuture.completedFuture(block));
   }
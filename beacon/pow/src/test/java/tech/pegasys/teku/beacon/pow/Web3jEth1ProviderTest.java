@@ -18,12 +18,17 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthChainId;
 import org.web3j.protocol.core.methods.response.EthLog;
 import org.web3j.protocol.core.methods.response.EthLog.LogResult;
@@ -223,6 +228,56 @@ public class Web3jEth1ProviderTest {
         .isCompletedExceptionallyWith(RejectedRequestException.class);
   }
 
+  @Test
+  void getEth1Blocks_shouldMatchBatchResponsesToRequestsById() {
+    final BatchRequest batch = mock(BatchRequest.class);
+    when(web3.newBatch()).thenReturn(batch);
+    when(request1.getId()).thenReturn(1L);
+    when(request2.getId()).thenReturn(2L);
+    when(web3.ethGetBlockByHash("0x01", false)).thenReturn(request1);
+    when(web3.ethGetBlockByHash("0x02", false)).thenReturn(request2);
+    final EthBlock response1 = blockResponse(1L, "0x01");
+    final EthBlock response2 = blockResponse(2L, "0x02");
+    when(batch.sendAsync())
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                new BatchResponse(List.of(), List.of(response2, response1))));
+
+    final SafeFuture<List<Optional<EthBlock.Block>>> result =
+        provider.getEth1Blocks(List.of("0x01", "0x02"));
+
+    assertThat(result)
+        .isCompletedWithValue(
+            List.of(Optional.of(response1.getBlock()), Optional.of(response2.getBlock())));
+  }
+
+  @Test
+  void getEth1Blocks_shouldFailWhenResponseIsForDifferentBlock() {
+    final BatchRequest batch = mock(BatchRequest.class);
+    when(web3.newBatch()).thenReturn(batch);
+    when(request1.getId()).thenReturn(1L);
+    when(web3.ethGetBlockByHash("0x01", false)).thenReturn(request1);
+    when(batch.sendAsync())
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                new BatchResponse(List.of(), List.of(blockResponse(1L, "0x02")))));
+
+    final SafeFuture<List<Optional<EthBlock.Block>>> result =
+        provider.getEth1Blocks(List.of("0x01"));
+
+    SafeFutureAssert.assertThatSafeFuture(result)
+        .isCompletedExceptionallyWith(IllegalStateException.class);
+  }
+
+  private EthBlock blockResponse(final long id, final String blockHash) {
+    final EthBlock.Block block = new EthBlock.Block();
+    block.setHash(blockHash);
+    final EthBlock response = new EthBlock();
+    response.setId(id);
+    response.setResult(block);
+    return response;
+  }
+
   private void prepareRequestWithSyncingResponse(Request request, boolean isSyncing) {
     EthSyncing response = new EthSyncing();
     EthSyncing.Result result = new EthSyncing.Result();
@@ -31,6 +31,8 @@ import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.Eth1EventsChannel;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.ethereum.pow.merkletree.DepositTree;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.EventLogger;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
@@ -45,6 +47,7 @@ import tech.pegasys.teku.spec.datastructures.operations.DepositWithIndex;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DepositUtil;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
@@ -57,7 +60,9 @@ public class DepositProvider
 
   private final RecentChainData recentChainData;
   private final Eth1DataCache eth1DataCache;
-  private final DepositTree depositMerkleTree;
+  private final Eth1DepositStorageChannel depositStorageChannel;
+  private DepositTree depositMerkleTree;
+  private long persistedFinalizedDepositCount = 0;
 
   private final NavigableMap<UInt64, DepositWithIndex> depositNavigableMap = new TreeMap<>();
   private final Counter depositCounter;
@@ -71,12 +76,14 @@ public class DepositProvider
       MetricsSystem metricsSystem,
       RecentChainData recentChainData,
       final Eth1DataCache eth1DataCache,
+      final Eth1DepositStorageChannel depositStorageChannel,
       final Spec spec,
       final EventLogger eventLogger,
       final boolean useMissingDepositEventLogging) {
     this.eventLogger = eventLogger;
     this.recentChainData = recentChainData;
     this.eth1DataCache = eth1DataCache;
+    this.depositStorageChannel = depositStorageChannel;
     this.spec = spec;
     depositUtil = new DepositUtil(spec);
     depositMerkleTree = new DepositTree();
@@ -88,9 +95,31 @@ public class DepositProvider
     this.useMissingDepositEventLogging = useMissingDepositEventLogging;
   }
 
+  /**
+   * Initialises the deposit tree from the stored finalized snapshot, if any, so deposits covered by
+   * the snapshot don't need to be replayed. Must complete before deposit events are replayed.
+   */
+  public SafeFuture<Void> loadFinalizedDepositSnapshot() {
+    return depositStorageChannel
+        .getFinalizedDepositSnapshot()
+        .thenAccept(snapshot -> snapshot.ifPresent(this::setFinalizedDepositSnapshot));
+  }
+
+  private synchronized void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+    if (depositMerkleTree.getDepositCount() > 0) {
+      LOG.warn("Ignoring finalized deposit snapshot as deposits have already been processed");
+      return;
+    }
+    LOG.info("Loaded finalized deposit tree snapshot with {} deposits", snapshot.getDeposits());
+    depositMerkleTree = DepositTree.fromSnapshot(snapshot);
+    persistedFinalizedDepositCount = snapshot.getDeposits();
+  }
+
   @Override
   public synchronized void onDepositsFromBlock(DepositsFromBlockEvent event) {
+    final long knownDepositCount = depositMerkleTree.getDepositCount();
     event.getDeposits().stream()
+        .filter(deposit -> deposit.getMerkle_tree_index().isGreaterThanOrEqualTo(knownDepositCount))
         .map(depositUtil::convertDepositEventToOperationDeposit)
         .forEach(
             deposit -> {
@@ -121,10 +150,19 @@ public class DepositProvider
           && depositMerkleTree.getDepositCount()
               >= finalizedState.getEth1Data().getDepositCount().longValue()) {
         depositMerkleTree.finalize(finalizedState.getEth1Data());
+        persistFinalizedDepositSnapshot(finalizedState.getEth1Data().getDepositCount());
       }
     }
   }
 
+  private void persistFinalizedDepositSnapshot(final UInt64 finalizedDepositCount) {
+    if (finalizedDepositCount.longValue() == persistedFinalizedDepositCount) {
+      return;
+    }
+    depositStorageChannel.onFinalizedDepositSnapshot(depositMerkleTree.getSnapshot());
+    persistedFinalizedDepositCount = finalizedDepositCount.longValue();
+  }
+
   private synchronized void pruneDeposits(final UInt64 toIndex) {
     depositNavigableMap.headMap(toIndex, false).clear();
   }
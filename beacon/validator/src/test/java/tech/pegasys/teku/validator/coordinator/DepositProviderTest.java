@@ -27,7 +27,10 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTree;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.EventLogger;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
@@ -49,6 +52,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DepositUtil;
 import tech.pegasys.teku.spec.datastructures.util.MerkleTree;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.store.UpdatableStore;
 
@@ -60,6 +64,8 @@ public class DepositProviderTest {
   private final BeaconState state = mock(BeaconState.class);
   private final Eth1DataCache eth1DataCache = mock(Eth1DataCache.class);
   private final EventLogger eventLogger = mock(EventLogger.class);
+  private final Eth1DepositStorageChannel depositStorageChannel =
+      mock(Eth1DepositStorageChannel.class);
   private List<tech.pegasys.teku.ethereum.pow.api.Deposit> allSeenDepositsList;
   private DepositProvider depositProvider;
   private Eth1Data randomEth1Data;
@@ -76,7 +82,13 @@ public class DepositProviderTest {
     dataStructureUtil = new DataStructureUtil(spec);
     depositProvider =
         new DepositProvider(
-            new StubMetricsSystem(), recentChainData, eth1DataCache, spec, eventLogger, true);
+            new StubMetricsSystem(),
+            recentChainData,
+            eth1DataCache,
+            depositStorageChannel,
+            spec,
+            eventLogger,
+            true);
     depositProvider.onSyncingStatusChanged(true);
     depositMerkleTree = new MerkleTree(spec.getGenesisSpecConfig().getDepositContractTreeDepth());
     mockStateEth1DataVotes();
@@ -167,6 +179,53 @@ public class DepositProviderTest {
     assertThat(depositProvider.getDepositMapSize()).isEqualTo(10);
   }
 
+  @Test
+  void shouldPersistSnapshotWhenFinalizedDepositCountChanges() {
+    setup(16);
+    mockStateEth1DepositIndex(10);
+    mockEth1DataDepositCount(10);
+    mockDepositsFromEth1Block(0, 20);
+    final AnchorPoint anchorPoint = mock(AnchorPoint.class);
+    final UpdatableStore store = mock(UpdatableStore.class);
+    when(recentChainData.getStore()).thenReturn(store);
+    when(store.getLatestFinalized()).thenReturn(anchorPoint);
+    when(anchorPoint.getState()).thenReturn(state);
+
+    depositProvider.onNewFinalizedCheckpoint(new Checkpoint(UInt64.ONE, Bytes32.ZERO), false);
+    // Finalizing again with the same deposit count should not store a new snapshot
+    depositProvider.onNewFinalizedCheckpoint(new Checkpoint(UInt64.ONE, Bytes32.ZERO), false);
+
+    final ArgumentCaptor<DepositTreeSnapshot> snapshotCaptor =
+        ArgumentCaptor.forClass(DepositTreeSnapshot.class);
+    verify(depositStorageChannel).onFinalizedDepositSnapshot(snapshotCaptor.capture());
+    assertThat(snapshotCaptor.getValue().getDeposits()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldSkipDepositsIncludedInLoadedSnapshot() {
+    setup(16);
+    final DepositTree snapshotTree = new DepositTree();
+    allSeenDepositsList.subList(0, 10).stream()
+        .map(depositUtil::convertDepositEventToOperationDeposit)
+        .map(deposit -> deposit.getData().hashTreeRoot())
+        .forEach(snapshotTree::pushLeaf);
+    final Eth1Data finalizedEth1Data =
+        new Eth1Data(snapshotTree.getRoot(), UInt64.valueOf(10), dataStructureUtil.randomBytes32());
+    snapshotTree.finalize(finalizedEth1Data);
+    when(depositStorageChannel.getFinalizedDepositSnapshot())
+        .thenReturn(SafeFuture.completedFuture(Optional.of(snapshotTree.getSnapshot())));
+    assertThat(depositProvider.loadFinalizedDepositSnapshot()).isCompleted();
+
+    mockStateEth1DepositIndex(10);
+    mockEth1DataDepositCount(20);
+    mockDepositsFromEth1Block(0, 20);
+
+    assertThat(depositProvider.getDepositMapSize()).isEqualTo(10);
+    final SszList<Deposit> deposits = depositProvider.getDeposits(state, randomEth1Data);
+    assertThat(deposits).hasSize(10);
+    checkThatDepositProofIsValid(deposits);
+  }
+
   @Test
   void shouldDelegateOnEth1BlockToEth1DataCache() {
     setup(16);
@@ -40,6 +40,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.validator.coordinator.Eth1DataProvider.VotingPeriodInfo;
 
@@ -54,6 +55,8 @@ public class Eth1DataProviderTest {
   private final StateAndMetaData stateAndMetaData =
       new StateAndMetaData(state, SpecMilestone.PHASE0, false, true);
   private final EventLogger eventLogger = mock(EventLogger.class);
+  private final Eth1DepositStorageChannel depositStorageChannel =
+      mock(Eth1DepositStorageChannel.class);
   private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private Eth1DataProvider eth1DataProvider;
 
@@ -68,7 +71,13 @@ public class Eth1DataProviderTest {
     final Eth1DataCache eth1DataCache = new Eth1DataCache(metricsSystem, eth1VotingPeriod);
     final DepositProvider depositProvider =
         new DepositProvider(
-            new StubMetricsSystem(), recentChainData, eth1DataCache, spec, eventLogger, true);
+            new StubMetricsSystem(),
+            recentChainData,
+            eth1DataCache,
+            depositStorageChannel,
+            spec,
+            eventLogger,
+            true);
     depositProvider.onSyncingStatusChanged(true);
     eth1DataProvider = new Eth1DataProvider(eth1DataCache, depositProvider);
 
@@ -38,6 +38,7 @@ import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
@@ -115,6 +116,7 @@ import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.http.ContentTypeNotSupportedException;
 import tech.pegasys.teku.infrastructure.restapi.DefaultExceptionHandler;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseCache;
 import tech.pegasys.teku.infrastructure.restapi.openapi.OpenApiDocBuilder;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.version.VersionProvider;
@@ -135,6 +137,7 @@ public class BeaconRestApi {
   private OpenApiDocBuilder openApiDocBuilder;
   private String migratedOpenApi;
   private SchemaDefinitionCache schemaCache;
+  private ResponseCache responseCache = ResponseCache.DISABLED;
 
   private void initialize(
       final DataProvider dataProvider,
@@ -143,6 +146,7 @@ public class BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     final Info applicationInfo = createApplicationInfo();
     openApiDocBuilder =
@@ -169,6 +173,7 @@ public class BeaconRestApi {
           });
     }
     schemaCache = new SchemaDefinitionCache(spec);
+    responseCache = ResponseCache.create(configuration.getResponseCacheMaxSizeBytes());
     app.jettyServer().setServerHost(configuration.getRestApiInterface());
     app.jettyServer().setServerPort(configuration.getRestApiPort());
 
@@ -176,7 +181,7 @@ public class BeaconRestApi {
 
     addExceptionHandlers();
     addStandardApiHandlers(
-        dataProvider, spec, eventChannels, asyncRunner, timeProvider, configuration);
+        dataProvider, spec, eventChannels, asyncRunner, timeProvider, metricsSystem, configuration);
     addTekuSpecificHandlers(dataProvider, eth1DataProvider);
     migratedOpenApi = openApiDocBuilder.build();
   }
@@ -191,9 +196,11 @@ public class BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final BeaconRestApiConfig configuration) {
     addBeaconHandlers(dataProvider, spec);
-    addEventHandler(dataProvider, eventChannels, asyncRunner, timeProvider, configuration);
+    addEventHandler(
+        dataProvider, eventChannels, asyncRunner, timeProvider, metricsSystem, configuration);
     addNodeHandlers(dataProvider);
     addValidatorHandlers(dataProvider, spec);
     addConfigHandlers(dataProvider, configuration.getEth1DepositContractAddress());
@@ -271,6 +278,7 @@ public class BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     this.app =
         Javalin.create(
@@ -296,6 +304,7 @@ public class BeaconRestApi {
         eventChannels,
         asyncRunner,
         timeProvider,
+        metricsSystem,
         spec);
   }
 
@@ -306,6 +315,7 @@ public class BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Javalin app,
       final Spec spec) {
     this.app = app;
@@ -316,6 +326,7 @@ public class BeaconRestApi {
         eventChannels,
         asyncRunner,
         timeProvider,
+        metricsSystem,
         spec);
   }
 
@@ -392,7 +403,7 @@ public class BeaconRestApi {
   }
 
   private void addMigratedEndpoint(final MigratingEndpointAdapter endpoint) {
-    endpoint.addEndpoint(app);
+    endpoint.addEndpoint(app, responseCache);
     openApiDocBuilder.endpoint(endpoint);
   }
 
@@ -459,6 +470,7 @@ public class BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final BeaconRestApiConfig configuration) {
     app.get(
         GetEvents.ROUTE,
@@ -467,6 +479,7 @@ public class BeaconRestApi {
             eventChannels,
             asyncRunner,
             timeProvider,
+            metricsSystem,
             configuration.getMaxPendingEvents()));
   }
 
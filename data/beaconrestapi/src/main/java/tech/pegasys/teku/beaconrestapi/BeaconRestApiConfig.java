@@ -31,6 +31,7 @@ public class BeaconRestApiConfig {
   public static final List<String> DEFAULT_REST_API_CORS_ALLOWED_ORIGINS = new ArrayList<>();
   public static final boolean DEFAULT_BEACON_LIVENESS_TRACKING_ENABLED = false;
   public static final int DEFAULT_SUBSCRIBE_THREADS_COUNT = 1;
+  public static final long DEFAULT_RESPONSE_CACHE_MAX_SIZE_BYTES = 32L * 1024 * 1024;
 
   // Beacon REST API
   private final int restApiPort;
@@ -44,6 +45,7 @@ public class BeaconRestApiConfig {
   private final int maxUrlLength;
   private final int maxPendingEvents;
   private final int validatorThreads;
+  private final long responseCacheMaxSizeBytes;
 
   private BeaconRestApiConfig(
       final int restApiPort,
@@ -56,7 +58,8 @@ public class BeaconRestApiConfig {
       final int maxUrlLength,
       final int maxPendingEvents,
       final int validatorThreads,
-      final boolean beaconLivenessTrackingEnabled) {
+      final boolean beaconLivenessTrackingEnabled,
+      final long responseCacheMaxSizeBytes) {
     this.restApiPort = restApiPort;
     this.restApiDocsEnabled = restApiDocsEnabled;
     this.restApiEnabled = restApiEnabled;
@@ -68,6 +71,7 @@ public class BeaconRestApiConfig {
     this.maxPendingEvents = maxPendingEvents;
     this.validatorThreads = validatorThreads;
     this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
+    this.responseCacheMaxSizeBytes = responseCacheMaxSizeBytes;
   }
 
   public int getRestApiPort() {
@@ -110,6 +114,10 @@ public class BeaconRestApiConfig {
     return maxUrlLength;
   }
 
+  public long getResponseCacheMaxSizeBytes() {
+    return responseCacheMaxSizeBytes;
+  }
+
   public int getValidatorThreads() {
     return validatorThreads;
   }
@@ -130,6 +138,7 @@ public class BeaconRestApiConfig {
     private int maxPendingEvents = DEFAULT_MAX_EVENT_QUEUE_SIZE;
     private int maxUrlLength = DEFAULT_MAX_URL_LENGTH;
     private int validatorThreads = DEFAULT_SUBSCRIBE_THREADS_COUNT;
+    private long responseCacheMaxSizeBytes = DEFAULT_RESPONSE_CACHE_MAX_SIZE_BYTES;
 
     private Eth1Address eth1DepositContractAddress;
 
@@ -210,6 +219,16 @@ public class BeaconRestApiConfig {
       return this;
     }
 
+    public BeaconRestApiConfigBuilder responseCacheMaxSizeBytes(
+        final long responseCacheMaxSizeBytes) {
+      if (responseCacheMaxSizeBytes < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid responseCacheMaxSizeBytes: %d", responseCacheMaxSizeBytes));
+      }
+      this.responseCacheMaxSizeBytes = responseCacheMaxSizeBytes;
+      return this;
+    }
+
     public BeaconRestApiConfig build() {
       return new BeaconRestApiConfig(
           restApiPort,
@@ -222,7 +241,8 @@ public class BeaconRestApiConfig {
           maxUrlLength,
           maxPendingEvents,
           validatorThreads,
-          beaconLivenessTrackingEnabled);
+          beaconLivenessTrackingEnabled,
+          responseCacheMaxSizeBytes);
     }
 
     public BeaconRestApiConfigBuilder maxUrlLength(final int maxUrlLength) {
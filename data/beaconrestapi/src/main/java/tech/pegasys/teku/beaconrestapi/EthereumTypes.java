@@ -13,8 +13,10 @@
 
 package tech.pegasys.teku.beaconrestapi;
 
+import java.nio.ByteOrder;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import org.apache.tuweni.bytes.Bytes;
 import org.jetbrains.annotations.NotNull;
@@ -27,6 +29,9 @@ import tech.pegasys.teku.infrastructure.json.types.StringValueTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.OctetStreamResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszOutputStreamWriter;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 
@@ -74,6 +79,33 @@ public class EthereumTypes {
         SszData::sszSerialize, value -> getSszHeaders(milestoneSelector, value));
   }
 
+  /**
+   * Creates an SSZ response type for a list of fixed size elements. As SSZ lists of fixed size
+   * elements have no offsets, each element is written directly to the output as the data is
+   * iterated without building the full list or an SSZ object for each element.
+   *
+   * @param elementWriter writes the SSZ encoding of each item, which must always be the same size
+   */
+  public static <T> ResponseContentTypeDefinition<ObjectAndMetaData<Iterable<T>>>
+      sszFixedSizeListResponseType(final BiConsumer<T, SszWriter> elementWriter) {
+    return new OctetStreamResponseContentTypeDefinition<>(
+        (data, out) -> {
+          final SszWriter writer = new SszOutputStreamWriter(out);
+          for (T item : data.getData()) {
+            elementWriter.accept(item, writer);
+          }
+        },
+        value ->
+            Map.of(
+                RestApiConstants.HEADER_CONSENSUS_VERSION,
+                Version.fromMilestone(value.getMilestone()).name()));
+  }
+
+  /** Writes the SSZ encoding of a {@code uint64} field without creating an SSZ object for it. */
+  public static void writeUInt64(final SszWriter writer, final UInt64 value) {
+    writer.write(Bytes.ofUnsignedLong(value.longValue(), ByteOrder.LITTLE_ENDIAN));
+  }
+
   @NotNull
   private static <T extends SszData> Map<String, String> getSszHeaders(
       final Function<T, SpecMilestone> milestoneSelector, final T value) {
@@ -18,22 +18,31 @@ import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.JavalinRestApiRequest;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseCache;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
-import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 
 public abstract class MigratingEndpointAdapter extends RestApiEndpoint implements Handler {
+  private ResponseCache responseCache = ResponseCache.DISABLED;
 
   protected MigratingEndpointAdapter(final EndpointMetadata metadata) {
     super(metadata);
   }
 
   public void addEndpoint(final Javalin app) {
+    addEndpoint(app, ResponseCache.DISABLED);
+  }
+
+  public void addEndpoint(final Javalin app, final ResponseCache responseCache) {
+    this.responseCache = responseCache;
     final EndpointMetadata metadata = getMetadata();
     app.addHandler(metadata.getMethod(), metadata.getPath(), this);
   }
 
   protected void adapt(final Context ctx) throws Exception {
-    final RestApiRequest request = new JavalinRestApiRequest(ctx, getMetadata());
-    handleRequest(request);
+    final JavalinRestApiRequest request =
+        new JavalinRestApiRequest(ctx, getMetadata(), responseCache);
+    if (!request.respondFromCache()) {
+      handleRequest(request);
+    }
   }
 }
@@ -42,6 +42,7 @@ import tech.pegasys.teku.beaconrestapi.MigratingEndpointAdapter;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -100,8 +101,9 @@ public class GetBlock extends MigratingEndpointAdapter {
 
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
+    final String blockId = request.getPathParameter(PARAMETER_BLOCK_ID);
     final SafeFuture<Optional<ObjectAndMetaData<SignedBeaconBlock>>> future =
-        chainDataProvider.getSignedBeaconBlock(request.getPathParameter(PARAMETER_BLOCK_ID));
+        chainDataProvider.getSignedBeaconBlock(blockId);
 
     request.respondAsync(
         future.thenApply(
@@ -122,7 +124,10 @@ public class GetBlock extends MigratingEndpointAdapter {
                 return AsyncApiResponse.respondWithError(SC_BAD_REQUEST, message);
               }
 
-              return AsyncApiResponse.respondOk(response.getData());
+              return chainDataProvider.isFinalizedAndImmutable(
+                      blockId, response, response.getData().getSlot())
+                  ? AsyncApiResponse.respondOk(response.getData(), CacheLength.FINALIZED)
+                  : AsyncApiResponse.respondOk(response.getData());
             }));
   }
 
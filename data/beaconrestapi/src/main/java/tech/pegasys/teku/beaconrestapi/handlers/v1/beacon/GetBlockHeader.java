@@ -43,6 +43,7 @@ import tech.pegasys.teku.beaconrestapi.MigratingEndpointAdapter;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.spec.datastructures.metadata.BlockAndMetaData;
@@ -100,8 +101,9 @@ public class GetBlockHeader extends MigratingEndpointAdapter {
 
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
+    final String blockId = request.getPathParameter(PARAMETER_BLOCK_ID);
     final SafeFuture<Optional<BlockAndMetaData>> future =
-        chainDataProvider.getBlockAndMetaData(request.getPathParameter(PARAMETER_BLOCK_ID));
+        chainDataProvider.getBlockAndMetaData(blockId);
 
     request.respondAsync(
         future.thenApply(
@@ -111,7 +113,10 @@ public class GetBlockHeader extends MigratingEndpointAdapter {
               }
 
               final BlockAndMetaData blockAndMetaData = maybeBlockAndMetaData.get();
-              return AsyncApiResponse.respondOk(blockAndMetaData);
+              return chainDataProvider.isFinalizedAndImmutable(
+                      blockId, blockAndMetaData, blockAndMetaData.getData().getSlot())
+                  ? AsyncApiResponse.respondOk(blockAndMetaData, CacheLength.FINALIZED)
+                  : AsyncApiResponse.respondOk(blockAndMetaData);
             }));
   }
 }
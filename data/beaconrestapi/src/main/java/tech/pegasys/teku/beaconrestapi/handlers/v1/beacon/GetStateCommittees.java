@@ -35,6 +35,7 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SLOT_QUERY_
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT64_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.iterableOf;
 import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.listOf;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -44,7 +45,6 @@ import io.javalin.plugin.openapi.annotations.OpenApi;
 import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
-import java.util.List;
 import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
@@ -75,13 +75,14 @@ public class GetStateCommittees extends MigratingEndpointAdapter {
               committeeAssignment -> UInt64Util.intToUInt64List(committeeAssignment.getCommittee()))
           .build();
 
-  private static final SerializableTypeDefinition<ObjectAndMetaData<List<CommitteeAssignment>>>
+  private static final SerializableTypeDefinition<
+          ObjectAndMetaData<Iterable<CommitteeAssignment>>>
       RESPONSE_TYPE =
-          SerializableTypeDefinition.<ObjectAndMetaData<List<CommitteeAssignment>>>object()
+          SerializableTypeDefinition.<ObjectAndMetaData<Iterable<CommitteeAssignment>>>object()
               .name("GetEpochCommitteesResponse")
               .withField(
                   EXECUTION_OPTIMISTIC, BOOLEAN_TYPE, ObjectAndMetaData::isExecutionOptimistic)
-              .withField("data", listOf(EPOCH_COMMITTEE_TYPE), ObjectAndMetaData::getData)
+              .withField("data", iterableOf(EPOCH_COMMITTEE_TYPE), ObjectAndMetaData::getData)
               .build();
 
   private final ChainDataProvider chainDataProvider;
@@ -139,8 +140,8 @@ public class GetStateCommittees extends MigratingEndpointAdapter {
     final Optional<UInt64> slot =
         request.getOptionalQueryParameter(SLOT_PARAMETER.withDescription(SLOT_QUERY_DESCRIPTION));
 
-    final SafeFuture<Optional<ObjectAndMetaData<List<CommitteeAssignment>>>> future =
-        chainDataProvider.getStateCommittees(
+    final SafeFuture<Optional<ObjectAndMetaData<Iterable<CommitteeAssignment>>>> future =
+        chainDataProvider.streamStateCommittees(
             request.getPathParameter(PARAMETER_STATE_ID), epoch, committeeIndex, slot);
 
     request.respondAsync(
@@ -150,7 +151,7 @@ public class GetStateCommittees extends MigratingEndpointAdapter {
                 return AsyncApiResponse.respondNotFound();
               }
 
-              ObjectAndMetaData<List<CommitteeAssignment>> listObjectAndMetaData =
+              ObjectAndMetaData<Iterable<CommitteeAssignment>> listObjectAndMetaData =
                   maybeListObjectAndMetaData.get();
               return AsyncApiResponse.respondOk(listObjectAndMetaData);
             }));
@@ -52,6 +52,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
@@ -134,8 +135,9 @@ public class GetStateValidator extends MigratingEndpointAdapter {
 
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
+    final String stateId = request.getPathParameter(PARAMETER_STATE_ID);
     final SafeFuture<Optional<StateAndMetaData>> future =
-        chainDataProvider.getBeaconStateAndMetadata(request.getPathParameter(PARAMETER_STATE_ID));
+        chainDataProvider.getBeaconStateAndMetadata(stateId);
 
     request.respondAsync(
         future.thenApply(
@@ -144,13 +146,20 @@ public class GetStateValidator extends MigratingEndpointAdapter {
                 return AsyncApiResponse.respondNotFound();
               }
 
+              final StateAndMetaData stateAndMetaData = maybeStateAndMetadata.get();
               final String validatorIdParam = request.getPathParameter(PARAMETER_VALIDATOR_ID);
               Optional<ObjectAndMetaData<StateValidatorData>> response =
-                  chainDataProvider.getStateValidator(
-                      maybeStateAndMetadata.get(), validatorIdParam);
+                  chainDataProvider.getStateValidator(stateAndMetaData, validatorIdParam);
 
+              final boolean immutable =
+                  chainDataProvider.isFinalizedAndImmutable(
+                      stateId, stateAndMetaData, stateAndMetaData.getData().getSlot());
               return response
-                  .map(AsyncApiResponse::respondOk)
+                  .map(
+                      validator ->
+                          immutable
+                              ? AsyncApiResponse.respondOk(validator, CacheLength.FINALIZED)
+                              : AsyncApiResponse.respondOk(validator))
                   .orElseGet(AsyncApiResponse::respondNotFound);
             }));
   }
@@ -15,7 +15,11 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.ID_PARAMETER;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.PARAMETER_STATE_ID;
+import static tech.pegasys.teku.beaconrestapi.EthereumTypes.sszFixedSizeListResponseType;
+import static tech.pegasys.teku.beaconrestapi.EthereumTypes.writeUInt64;
 import static tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler.routeWithBracedParameters;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.JSON;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.EXECUTION_OPTIMISTIC;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.PARAM_ID;
@@ -28,7 +32,7 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_NOT_FOU
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE;
-import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.listOf;
+import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.iterableOf;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
@@ -50,25 +54,42 @@ import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 
 public class GetStateValidatorBalances extends MigratingEndpointAdapter {
   private static final String OAPI_ROUTE = "/eth/v1/beacon/states/:state_id/validator_balances";
   public static final String ROUTE = routeWithBracedParameters(OAPI_ROUTE);
 
+  private static final String DESCRIPTION =
+      "Returns filterable list of validator balances.\n\n"
+          + "Use Accept header to select `application/octet-stream` if SSZ response type is required. "
+          + "The SSZ response is a list of containers with the fields `index: uint64` and "
+          + "`balance: uint64`.";
+
   private static final SerializableTypeDefinition<
-          ObjectAndMetaData<List<StateValidatorBalanceData>>>
+          ObjectAndMetaData<Iterable<StateValidatorBalanceData>>>
       RESPONSE_TYPE =
-          SerializableTypeDefinition.<ObjectAndMetaData<List<StateValidatorBalanceData>>>object()
+          SerializableTypeDefinition
+              .<ObjectAndMetaData<Iterable<StateValidatorBalanceData>>>object()
               .name("GetStateValidatorBalancesResponse")
               .withField(
                   EXECUTION_OPTIMISTIC, BOOLEAN_TYPE, ObjectAndMetaData::isExecutionOptimistic)
               .withField(
                   "data",
-                  listOf(StateValidatorBalanceData.getJsonTypeDefinition()),
+                  iterableOf(StateValidatorBalanceData.getJsonTypeDefinition()),
                   ObjectAndMetaData::getData)
               .build();
 
+  private static final ResponseContentTypeDefinition<
+          ObjectAndMetaData<Iterable<StateValidatorBalanceData>>>
+      SSZ_RESPONSE_TYPE =
+          sszFixedSizeListResponseType(
+              (data, writer) -> {
+                writeUInt64(writer, data.getIndex());
+                writeUInt64(writer, data.getBalance());
+              });
+
   private final ChainDataProvider chainDataProvider;
 
   public GetStateValidatorBalances(final DataProvider dataProvider) {
@@ -80,11 +101,11 @@ public class GetStateValidatorBalances extends MigratingEndpointAdapter {
         EndpointMetadata.get(ROUTE)
             .operationId("getStateValidatorBalances")
             .summary("Get validator balances from state")
-            .description("Returns filterable list of validator balances.")
+            .description(DESCRIPTION)
             .tags(TAG_BEACON)
             .pathParam(PARAMETER_STATE_ID)
             .queryListParam(ID_PARAMETER)
-            .response(SC_OK, "Request successful", RESPONSE_TYPE)
+            .response(SC_OK, "Request successful", RESPONSE_TYPE, SSZ_RESPONSE_TYPE)
             .withNotFoundResponse()
             .build());
     this.chainDataProvider = chainDataProvider;
@@ -95,7 +116,7 @@ public class GetStateValidatorBalances extends MigratingEndpointAdapter {
       method = HttpMethod.GET,
       summary = "Get validator balances from state",
       tags = {TAG_BEACON},
-      description = "Returns filterable list of validator balances.",
+      description = DESCRIPTION,
       pathParams = {@OpenApiParam(name = PARAM_STATE_ID, description = PARAM_STATE_ID_DESCRIPTION)},
       queryParams = {
         @OpenApiParam(
@@ -106,7 +127,10 @@ public class GetStateValidatorBalances extends MigratingEndpointAdapter {
       responses = {
         @OpenApiResponse(
             status = RES_OK,
-            content = @OpenApiContent(from = GetStateValidatorBalancesResponse.class)),
+            content = {
+              @OpenApiContent(type = JSON, from = GetStateValidatorBalancesResponse.class),
+              @OpenApiContent(type = OCTET_STREAM)
+            }),
         @OpenApiResponse(status = RES_BAD_REQUEST),
         @OpenApiResponse(status = RES_NOT_FOUND),
         @OpenApiResponse(status = RES_INTERNAL_ERROR)
@@ -120,8 +144,8 @@ public class GetStateValidatorBalances extends MigratingEndpointAdapter {
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
     final List<String> validators = request.getQueryParameterList(ID_PARAMETER);
 
-    final SafeFuture<Optional<ObjectAndMetaData<List<StateValidatorBalanceData>>>> future =
-        chainDataProvider.getStateValidatorBalances(
+    final SafeFuture<Optional<ObjectAndMetaData<Iterable<StateValidatorBalanceData>>>> future =
+        chainDataProvider.streamStateValidatorBalances(
             request.getPathParameter(PARAMETER_STATE_ID), validators);
 
     request.respondAsync(
@@ -16,8 +16,12 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.ID_PARAMETER;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.PARAMETER_STATE_ID;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.STATUS_PARAMETER;
+import static tech.pegasys.teku.beaconrestapi.EthereumTypes.sszFixedSizeListResponseType;
+import static tech.pegasys.teku.beaconrestapi.EthereumTypes.writeUInt64;
 import static tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler.routeWithBracedParameters;
 import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.GetStateValidator.STATE_VALIDATOR_DATA_TYPE;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.JSON;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.EXECUTION_OPTIMISTIC;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.PARAM_ID;
@@ -34,7 +38,7 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SERVICE_UNA
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.STATUS;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE;
-import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.listOf;
+import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.iterableOf;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.Sets;
@@ -59,21 +63,43 @@ import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 
 public class GetStateValidators extends MigratingEndpointAdapter {
   private static final String OAPI_ROUTE = "/eth/v1/beacon/states/:state_id/validators";
   public static final String ROUTE = routeWithBracedParameters(OAPI_ROUTE);
 
-  private static final SerializableTypeDefinition<ObjectAndMetaData<List<StateValidatorData>>>
+  private static final String DESCRIPTION =
+      "Returns filterable list of validators with their balance, status and index.\n\n"
+          + "Use Accept header to select `application/octet-stream` if SSZ response type is required. "
+          + "The SSZ response is a list of containers with the fields `index: uint64`, "
+          + "`balance: uint64`, `status: uint8` and `validator: Validator`. "
+          + "The status is the zero based position in the list `pending_initialized`, "
+          + "`pending_queued`, `active_ongoing`, `active_exiting`, `active_slashed`, "
+          + "`exited_unslashed`, `exited_slashed`, `withdrawal_possible`, `withdrawal_done`.";
+
+  private static final SerializableTypeDefinition<ObjectAndMetaData<Iterable<StateValidatorData>>>
       RESPONSE_TYPE =
-          SerializableTypeDefinition.<ObjectAndMetaData<List<StateValidatorData>>>object()
+          SerializableTypeDefinition.<ObjectAndMetaData<Iterable<StateValidatorData>>>object()
               .name("GetStateValidatorsResponse")
               .withField(
                   EXECUTION_OPTIMISTIC, BOOLEAN_TYPE, ObjectAndMetaData::isExecutionOptimistic)
-              .withField("data", listOf(STATE_VALIDATOR_DATA_TYPE), ObjectAndMetaData::getData)
+              .withField(
+                  "data", iterableOf(STATE_VALIDATOR_DATA_TYPE), ObjectAndMetaData::getData)
               .build();
 
+  private static final ResponseContentTypeDefinition<
+          ObjectAndMetaData<Iterable<StateValidatorData>>>
+      SSZ_RESPONSE_TYPE =
+          sszFixedSizeListResponseType(
+              (data, writer) -> {
+                writeUInt64(writer, data.getIndex());
+                writeUInt64(writer, data.getBalance());
+                writer.write(new byte[] {(byte) data.getStatus().ordinal()});
+                data.getValidator().sszSerialize(writer);
+              });
+
   private final ChainDataProvider chainDataProvider;
 
   public GetStateValidators(final DataProvider dataProvider) {
@@ -85,13 +111,12 @@ public class GetStateValidators extends MigratingEndpointAdapter {
         EndpointMetadata.get(ROUTE)
             .operationId("getStateValidators")
             .summary("Get validators from state")
-            .description(
-                "Returns filterable list of validators with their balance, status and index.")
+            .description(DESCRIPTION)
             .pathParam(PARAMETER_STATE_ID)
             .queryListParam(ID_PARAMETER)
             .queryListParam(STATUS_PARAMETER)
             .tags(TAG_BEACON)
-            .response(SC_OK, "Request successful", RESPONSE_TYPE)
+            .response(SC_OK, "Request successful", RESPONSE_TYPE, SSZ_RESPONSE_TYPE)
             .withNotFoundResponse()
             .build());
     this.chainDataProvider = provider;
@@ -102,7 +127,7 @@ public class GetStateValidators extends MigratingEndpointAdapter {
       method = HttpMethod.GET,
       summary = "Get validators from state",
       tags = {TAG_BEACON},
-      description = "Returns filterable list of validators with their balance, status and index.",
+      description = DESCRIPTION,
       pathParams = {
         @OpenApiParam(name = PARAM_STATE_ID, description = PARAM_STATE_ID_DESCRIPTION),
       },
@@ -116,7 +141,10 @@ public class GetStateValidators extends MigratingEndpointAdapter {
       responses = {
         @OpenApiResponse(
             status = RES_OK,
-            content = @OpenApiContent(from = GetStateValidatorsResponse.class)),
+            content = {
+              @OpenApiContent(type = JSON, from = GetStateValidatorsResponse.class),
+              @OpenApiContent(type = OCTET_STREAM)
+            }),
         @OpenApiResponse(status = RES_BAD_REQUEST),
         @OpenApiResponse(status = RES_INTERNAL_ERROR),
         @OpenApiResponse(status = RES_NOT_FOUND),
@@ -133,8 +161,8 @@ public class GetStateValidators extends MigratingEndpointAdapter {
     final Set<ValidatorStatus> statusFilter =
         Sets.newHashSet(request.getQueryParameterList(STATUS_PARAMETER));
 
-    SafeFuture<Optional<ObjectAndMetaData<List<StateValidatorData>>>> future =
-        chainDataProvider.getStateValidators(
+    SafeFuture<Optional<ObjectAndMetaData<Iterable<StateValidatorData>>>> future =
+        chainDataProvider.streamStateValidators(
             request.getPathParameter(PARAMETER_STATE_ID), validators, statusFilter);
 
     request.respondAsync(
@@ -21,9 +21,12 @@ import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -37,12 +40,16 @@ public class EventSubscriber {
   private final List<EventType> eventTypes;
   private final SseClient sseClient;
   private final Queue<QueuedEvent> queuedEvents;
+  // ConcurrentLinkedQueue.size() is O(n) so track the number of queued events separately
+  private final AtomicInteger queuedEventCount = new AtomicInteger();
   private final Runnable closeCallback;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
   private final AtomicBoolean processingQueue;
   private final AsyncRunner asyncRunner;
   private final AtomicLong excessiveQueueingDisconnectionTime = new AtomicLong(Long.MAX_VALUE);
+  private final LabelledMetric<Counter> droppedEventCounter;
+  private final Counter slowClientDisconnectCounter;
 
   public EventSubscriber(
       final List<String> eventTypes,
@@ -50,7 +57,9 @@ public class EventSubscriber {
       final Runnable closeCallback,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final LabelledMetric<Counter> droppedEventCounter,
+      final Counter slowClientDisconnectCounter) {
     this.eventTypes = EventType.getTopics(eventTypes);
     this.sseClient = sseClient;
     this.closeCallback = closeCallback;
@@ -59,6 +68,8 @@ public class EventSubscriber {
     this.queuedEvents = new ConcurrentLinkedQueue<>();
     this.processingQueue = new AtomicBoolean(false);
     this.asyncRunner = asyncRunner;
+    this.droppedEventCounter = droppedEventCounter;
+    this.slowClientDisconnectCounter = slowClientDisconnectCounter;
     this.sseClient.onClose(closeCallback);
 
     keepAlive();
@@ -69,7 +80,7 @@ public class EventSubscriber {
     if (!eventTypes.contains(eventType)) {
       return;
     }
-    final boolean queueSizeBelowLimit = queuedEvents.size() < maxPendingEvents;
+    final boolean queueSizeBelowLimit = queuedEventCount.get() < maxPendingEvents;
     final long now = timeProvider.getTimeInMillis().longValue();
     final long queuingDisconnectTime = excessiveQueueingDisconnectionTime.get();
     if (queueSizeBelowLimit) {
@@ -79,6 +90,7 @@ public class EventSubscriber {
       // Had excessive queuing for too long, disconnect.
       if (stopped.compareAndSet(false, true)) {
         LOG.debug("Closing event connection due to exceeding the pending message limit");
+        slowClientDisconnectCounter.inc();
         sseClient.ctx.req.getAsyncContext().complete();
         closeCallback.run();
       }
@@ -86,20 +98,46 @@ public class EventSubscriber {
       if (now + EXCESSIVE_QUEUING_TOLERANCE_MS < queuingDisconnectTime) {
         excessiveQueueingDisconnectionTime.set(now + EXCESSIVE_QUEUING_TOLERANCE_MS);
       }
+      // Keep the buffer bounded while the client has a chance to catch up
+      dropOldestEvent();
       addEventToQueue(eventType, message);
     }
   }
 
+  private void dropOldestEvent() {
+    final QueuedEvent droppedEvent = pollEvent();
+    if (droppedEvent != null) {
+      droppedEventCounter.labels(droppedEvent.getEventType().name()).inc();
+    }
+  }
+
   private void addEventToQueue(final EventType eventType, final EventSource<?> message)
       throws JsonProcessingException {
     queuedEvents.add(QueuedEvent.of(eventType, message.get()));
+    queuedEventCount.incrementAndGet();
     processEventQueue();
   }
 
+  private QueuedEvent pollEvent() {
+    final QueuedEvent event = queuedEvents.poll();
+    if (event != null) {
+      queuedEventCount.decrementAndGet();
+    }
+    return event;
+  }
+
   public SseClient getSseClient() {
     return sseClient;
   }
 
+  public List<EventType> getEventTypes() {
+    return eventTypes;
+  }
+
+  public int getQueuedEventCount() {
+    return queuedEventCount.get();
+  }
+
   private void processEventQueue() {
     if (!stopped.get() && !processingQueue.compareAndSet(false, true)) {
       // any queue processing in progress will clear the queue, no need to run another instance
@@ -110,20 +148,20 @@ public class EventSubscriber {
             () -> {
               LOG.trace(
                   "Processing queue with {} elements for event client {}",
-                  queuedEvents.size(),
+                  queuedEventCount.get(),
                   sseClient.hashCode());
-              QueuedEvent event = queuedEvents.poll();
+              QueuedEvent event = pollEvent();
               while (event != null && !stopped.get()) {
                 sseClient.sendEvent(
                     event.getEventType().name(),
                     new ByteArrayInputStream(event.getMessageData().toArrayUnsafe()));
-                event = queuedEvents.poll();
+                event = pollEvent();
               }
             })
         .alwaysRun(
             () -> {
               processingQueue.set(false);
-              if (queuedEvents.size() > 0) {
+              if (queuedEventCount.get() > 0) {
                 processEventQueue();
               }
             })
@@ -15,17 +15,23 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TOPICS;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.BEACON;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.sse.SseClient;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
@@ -34,6 +40,8 @@ import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.beacon.sync.events.SyncState;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.events.EventQueueConfig;
+import tech.pegasys.teku.infrastructure.events.EventQueueConfig.OverflowPolicy;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.ListQueryParameterUtils;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
@@ -50,6 +58,13 @@ import tech.pegasys.teku.storage.api.ReorgContext;
 
 public class EventSubscriptionManager implements ChainHeadChannel, FinalizedCheckpointChannel {
   private static final Logger LOG = LogManager.getLogger();
+  // The event stream is best effort so falling behind must never block the chain head and
+  // finalization publishers. Head and reorg events are kept in order where possible but only the
+  // latest finalized checkpoint matters.
+  static final EventQueueConfig CHAIN_HEAD_QUEUE_CONFIG =
+      EventQueueConfig.create(EventQueueConfig.DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+  static final EventQueueConfig FINALIZED_CHECKPOINT_QUEUE_CONFIG =
+      EventQueueConfig.create(EventQueueConfig.DEFAULT_CAPACITY, OverflowPolicy.COALESCE);
 
   private final ConfigProvider configProvider;
   private final ChainDataProvider provider;
@@ -58,6 +73,11 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
   private final int maxPendingEvents;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
+  // subscribers indexed by topic so events are only offered to clients that want them
+  private final Map<EventType, Collection<EventSubscriber>> eventSubscribersByTopic =
+      new EnumMap<>(EventType.class);
+  private final LabelledMetric<Counter> droppedEventCounter;
+  private final Counter slowClientDisconnectCounter;
 
   public EventSubscriptionManager(
       final NodeDataProvider nodeDataProvider,
@@ -67,15 +87,41 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
       final AsyncRunner asyncRunner,
       final EventChannels eventChannels,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final int maxPendingEvents) {
     this.provider = chainDataProvider;
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
-    this.eventSubscribers = new ConcurrentLinkedQueue<>();
+    this.eventSubscribers = ConcurrentHashMap.newKeySet();
+    for (EventType eventType : EventType.values()) {
+      eventSubscribersByTopic.put(eventType, ConcurrentHashMap.newKeySet());
+    }
     this.configProvider = configProvider;
-    eventChannels.subscribe(ChainHeadChannel.class, this);
-    eventChannels.subscribe(FinalizedCheckpointChannel.class, this);
+    metricsSystem.createIntegerGauge(
+        BEACON,
+        "event_stream_clients",
+        "Number of clients subscribed to the event stream",
+        eventSubscribers::size);
+    metricsSystem.createIntegerGauge(
+        BEACON,
+        "event_stream_queued_events",
+        "Number of events waiting to be sent to event stream clients",
+        this::getQueuedEventCount);
+    this.droppedEventCounter =
+        metricsSystem.createLabelledCounter(
+            BEACON,
+            "event_stream_dropped_events_total",
+            "Number of events dropped because an event stream client was not keeping up",
+            "topic");
+    this.slowClientDisconnectCounter =
+        metricsSystem.createCounter(
+            BEACON,
+            "event_stream_slow_client_disconnects_total",
+            "Number of event stream clients disconnected for exceeding the pending event limit");
+    eventChannels.subscribe(ChainHeadChannel.class, this, CHAIN_HEAD_QUEUE_CONFIG);
+    eventChannels.subscribe(
+        FinalizedCheckpointChannel.class, this, FINALIZED_CHECKPOINT_QUEUE_CONFIG);
     syncDataProvider.subscribeToSyncStateChanges(this::onSyncStateChange);
     nodeDataProvider.subscribeToReceivedBlocks(this::onNewBlock);
     nodeDataProvider.subscribeToValidAttestations(this::onNewAttestation);
@@ -93,12 +139,26 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
             sseClient,
             () -> {
               eventSubscribers.removeIf(sub -> sub.getSseClient().equals(sseClient));
+              eventSubscribersByTopic
+                  .values()
+                  .forEach(
+                      subscribers ->
+                          subscribers.removeIf(sub -> sub.getSseClient().equals(sseClient)));
               LOG.trace("disconnected " + sseClient.hashCode());
             },
             asyncRunner,
             timeProvider,
-            maxPendingEvents);
+            maxPendingEvents,
+            droppedEventCounter,
+            slowClientDisconnectCounter);
     eventSubscribers.add(subscriber);
+    subscriber
+        .getEventTypes()
+        .forEach(eventType -> eventSubscribersByTopic.get(eventType).add(subscriber));
+  }
+
+  private int getQueuedEventCount() {
+    return eventSubscribers.stream().mapToInt(EventSubscriber::getQueuedEventCount).sum();
   }
 
   @Override
@@ -186,9 +246,15 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
   }
 
   private void notifySubscribersOfEvent(final EventType eventType, final Event<?> event) {
+    final Collection<EventSubscriber> subscribers = eventSubscribersByTopic.get(eventType);
+    if (subscribers.isEmpty()) {
+      // Avoid serializing events nobody is listening for
+      return;
+    }
+    // Serialized at most once and the same bytes are shared by every subscriber
     final EventSource<?> eventSource = new EventSource<>(event);
     try {
-      for (EventSubscriber subscriber : eventSubscribers) {
+      for (EventSubscriber subscriber : subscribers) {
         subscriber.onEvent(eventType, eventSource);
       }
     } catch (final JsonProcessingException e) {
@@ -204,7 +270,7 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
       this.event = event;
     }
 
-    public Bytes get() throws JsonProcessingException {
+    public synchronized Bytes get() throws JsonProcessingException {
       if (value == null) {
         value =
             Bytes.wrap(
@@ -34,6 +34,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
@@ -56,6 +57,7 @@ public class GetEvents implements Handler {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final int maxPendingEvents) {
     this(
         dataProvider.getNodeDataProvider(),
@@ -65,6 +67,7 @@ public class GetEvents implements Handler {
         eventChannels,
         asyncRunner,
         timeProvider,
+        metricsSystem,
         maxPendingEvents);
   }
 
@@ -76,6 +79,7 @@ public class GetEvents implements Handler {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final int maxPendingEvents) {
     eventSubscriptionManager =
         new EventSubscriptionManager(
@@ -86,6 +90,7 @@ public class GetEvents implements Handler {
             asyncRunner,
             eventChannels,
             timeProvider,
+            metricsSystem,
             maxPendingEvents);
   }
 
@@ -49,6 +49,7 @@ import tech.pegasys.teku.beaconrestapi.MigratingEndpointAdapter;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -111,8 +112,9 @@ public class GetBlock extends MigratingEndpointAdapter {
 
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
+    final String blockId = request.getPathParameter(PARAMETER_BLOCK_ID);
     final SafeFuture<Optional<ObjectAndMetaData<SignedBeaconBlock>>> future =
-        chainDataProvider.getBlock(request.getPathParameter(PARAMETER_BLOCK_ID));
+        chainDataProvider.getBlock(blockId);
 
     request.respondAsync(
         future.thenApply(
@@ -123,7 +125,10 @@ public class GetBlock extends MigratingEndpointAdapter {
                           request.header(
                               HEADER_CONSENSUS_VERSION,
                               Version.fromMilestone(blockAndMetaData.getMilestone()).name());
-                          return AsyncApiResponse.respondOk(blockAndMetaData);
+                          return chainDataProvider.isFinalizedAndImmutable(
+                                  blockId, blockAndMetaData, blockAndMetaData.getData().getSlot())
+                              ? AsyncApiResponse.respondOk(blockAndMetaData, CacheLength.FINALIZED)
+                              : AsyncApiResponse.respondOk(blockAndMetaData);
                         })
                     .orElseGet(AsyncApiResponse::respondNotFound)));
   }
@@ -15,6 +15,8 @@ package tech.pegasys.teku.beaconrestapi;
 
 import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.ImmutableList;
+import java.util.List;
 import java.util.function.IntSupplier;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.NetworkDataProvider;
@@ -74,4 +76,10 @@ public abstract class AbstractMigratedBeaconHandlerTest {
   protected <T> ObjectAndMetaData<T> withMetaData(final T value) {
     return new ObjectAndMetaData<>(value, spec.getGenesisSpec().getMilestone(), false, true);
   }
+
+  /** Collects a response body with lazily iterated data into a list so it can be compared. */
+  @SuppressWarnings("unchecked")
+  protected <T> ObjectAndMetaData<List<T>> collectIterableData(final Object responseBody) {
+    return ((ObjectAndMetaData<Iterable<T>>) responseBody).map(ImmutableList::copyOf);
+  }
 }
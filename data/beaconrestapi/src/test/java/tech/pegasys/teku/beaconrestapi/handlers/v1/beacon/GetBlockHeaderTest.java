@@ -30,6 +30,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerWithChainDataProviderTest;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.restapi.StubRestApiRequest;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -64,6 +66,29 @@ class GetBlockHeaderTest extends AbstractMigratedBeaconHandlerWithChainDataProvi
     assertThat(request.getResponseBody()).isEqualTo(blockAndMetaData.get());
   }
 
+  @Test
+  public void shouldAllowFinalizedBlockHeaderToBeCached() throws JsonProcessingException {
+    final StubRestApiRequest genesisRequest =
+        StubRestApiRequest.builder()
+            .metadata(handler.getMetadata())
+            .pathParameter("block_id", "genesis")
+            .build();
+
+    handler.handleRequest(genesisRequest);
+
+    assertThat(genesisRequest.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(genesisRequest.getCacheLength()).isEqualTo(CacheLength.FINALIZED);
+  }
+
+  @Test
+  public void shouldNotCacheBlockHeaderRequestedByMovingIdentifier()
+      throws JsonProcessingException {
+    handler.handleRequest(request);
+
+    assertThat(request.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(request.getCacheLength()).isNull();
+  }
+
   @Test
   void metadata_shouldHandle400() throws JsonProcessingException {
     verifyMetadataErrorResponse(handler, SC_BAD_REQUEST);
@@ -75,7 +75,7 @@ public class GetStateCommitteesTest extends AbstractMigratedBeaconHandlerWithCha
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(expectedData.get());
+    assertThat(collectIterableData(request.getResponseBody())).isEqualTo(expectedData.get());
   }
 
   @ParameterizedTest
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
@@ -24,15 +25,18 @@ import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.verifyMe
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.io.Resources;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.migrated.StateValidatorBalanceData;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerWithChainDataProviderTest;
 import tech.pegasys.teku.infrastructure.restapi.StubRestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
@@ -63,7 +67,8 @@ public class GetStateValidatorBalancesTest
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(stateValidatorBalancesData.orElseThrow());
+    assertThat(collectIterableData(request.getResponseBody()))
+        .isEqualTo(stateValidatorBalancesData.orElseThrow());
   }
 
   @Test
@@ -80,7 +85,8 @@ public class GetStateValidatorBalancesTest
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(stateValidatorBalancesData.orElseThrow());
+    assertThat(collectIterableData(request.getResponseBody()))
+        .isEqualTo(stateValidatorBalancesData.orElseThrow());
   }
 
   @Test
@@ -117,4 +123,26 @@ public class GetStateValidatorBalancesTest
             UTF_8);
     assertThat(data).isEqualTo(expected);
   }
+
+  @Test
+  void metadata_shouldHandle200Ssz() throws IOException {
+    final UInt64 balance1 = dataStructureUtil.randomUInt64();
+    final UInt64 balance2 = dataStructureUtil.randomUInt64();
+    final ObjectAndMetaData<List<StateValidatorBalanceData>> responseData =
+        withMetaData(
+            List.of(
+                new StateValidatorBalanceData(UInt64.ONE, balance1),
+                new StateValidatorBalanceData(UInt64.valueOf(2), balance2)));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    handler.getMetadata().serialize(SC_OK, OCTET_STREAM, responseData, out);
+
+    assertThat(Bytes.wrap(out.toByteArray()))
+        .isEqualTo(
+            Bytes.concatenate(
+                SszUInt64.of(UInt64.ONE).sszSerialize(),
+                SszUInt64.of(balance1).sszSerialize(),
+                SszUInt64.of(UInt64.valueOf(2)).sszSerialize(),
+                SszUInt64.of(balance2).sszSerialize()));
+  }
 }
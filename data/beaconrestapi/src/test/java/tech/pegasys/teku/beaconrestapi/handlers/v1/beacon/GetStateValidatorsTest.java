@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus.active_exiting;
 import static tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus.active_ongoing;
 import static tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus.withdrawal_done;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
 import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.getResponseStringFromMetadata;
@@ -30,9 +31,11 @@ import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.verifyMe
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.io.Resources;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,9 +44,11 @@ import tech.pegasys.teku.api.migrated.StateValidatorData;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerWithChainDataProviderTest;
 import tech.pegasys.teku.infrastructure.http.HttpStatusCodes;
 import tech.pegasys.teku.infrastructure.restapi.StubRestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
 
 public class GetStateValidatorsTest extends AbstractMigratedBeaconHandlerWithChainDataProviderTest {
 
@@ -73,7 +78,7 @@ public class GetStateValidatorsTest extends AbstractMigratedBeaconHandlerWithCha
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(expectedResponse);
+    assertThat(collectIterableData(request.getResponseBody())).isEqualTo(expectedResponse);
   }
 
   @Test
@@ -97,7 +102,7 @@ public class GetStateValidatorsTest extends AbstractMigratedBeaconHandlerWithCha
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(expectedResponse);
+    assertThat(collectIterableData(request.getResponseBody())).isEqualTo(expectedResponse);
   }
 
   @Test
@@ -153,4 +158,32 @@ public class GetStateValidatorsTest extends AbstractMigratedBeaconHandlerWithCha
             UTF_8);
     AssertionsForClassTypes.assertThat(data).isEqualTo(expected);
   }
+
+  @Test
+  void metadata_shouldHandle200Ssz() throws IOException {
+    final UInt64 balance1 = dataStructureUtil.randomUInt64();
+    final UInt64 balance2 = dataStructureUtil.randomUInt64();
+    final Validator validator1 = dataStructureUtil.randomValidator();
+    final Validator validator2 = dataStructureUtil.randomValidator();
+    final ObjectAndMetaData<List<StateValidatorData>> responseData =
+        withMetaData(
+            List.of(
+                new StateValidatorData(UInt64.valueOf(3), balance1, active_ongoing, validator1),
+                new StateValidatorData(UInt64.valueOf(7), balance2, withdrawal_done, validator2)));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    handler.getMetadata().serialize(SC_OK, OCTET_STREAM, responseData, out);
+
+    assertThat(Bytes.wrap(out.toByteArray()))
+        .isEqualTo(
+            Bytes.concatenate(
+                SszUInt64.of(UInt64.valueOf(3)).sszSerialize(),
+                SszUInt64.of(balance1).sszSerialize(),
+                Bytes.of(2),
+                validator1.sszSerialize(),
+                SszUInt64.of(UInt64.valueOf(7)).sszSerialize(),
+                SszUInt64.of(balance2).sszSerialize(),
+                Bytes.of(8),
+                validator2.sszSerialize()));
+  }
 }
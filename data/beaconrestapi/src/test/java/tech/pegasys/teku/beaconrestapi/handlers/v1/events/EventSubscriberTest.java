@@ -20,6 +20,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.BEACON;
 
 import io.javalin.http.Context;
 import io.javalin.http.sse.SseClient;
@@ -39,6 +40,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 
 public class EventSubscriberTest {
@@ -53,6 +55,7 @@ public class EventSubscriberTest {
 
   private final Context context = new Context(req, res, Collections.emptyMap());
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private final List<EventType> allEventTypes =
       Arrays.stream(EventType.values()).collect(Collectors.toList());
 
@@ -123,6 +126,31 @@ public class EventSubscriberTest {
     verify(asyncContext).complete();
     asyncRunner.executeQueuedActions();
     assertThat(outputStream.getWriteCounter()).isEqualTo(0);
+    assertThat(
+            metricsSystem
+                .getCounter(BEACON, "event_stream_slow_client_disconnects_total")
+                .getValue())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldDropOldestEventsWhenQueueIsFull() throws Exception {
+    EventSubscriber eventSubscriber = createSubscriber("head");
+
+    for (int i = 0; i < MAX_PENDING_EVENTS + 3; i++) {
+      eventSubscriber.onEvent(EventType.head, event("test" + i));
+    }
+    assertThat(eventSubscriber.getQueuedEventCount()).isEqualTo(MAX_PENDING_EVENTS);
+    assertThat(
+            metricsSystem
+                .getCounter(BEACON, "event_stream_dropped_events_total")
+                .getValue(EventType.head.name()))
+        .isEqualTo(3);
+
+    asyncRunner.executeQueuedActions();
+    assertThat(outputStream.countEvents()).isEqualTo(MAX_PENDING_EVENTS);
+    assertThat(eventSubscriber.getQueuedEventCount()).isZero();
+    verifyNoInteractions(onCloseCallback);
   }
 
   @Test
@@ -229,6 +257,9 @@ public class EventSubscriberTest {
         onCloseCallback,
         asyncRunner,
         timeProvider,
-        MAX_PENDING_EVENTS);
+        MAX_PENDING_EVENTS,
+        metricsSystem.createLabelledCounter(
+            BEACON, "event_stream_dropped_events_total", "", "topic"),
+        metricsSystem.createCounter(BEACON, "event_stream_slow_client_disconnects_total", ""));
   }
 }
@@ -15,7 +15,9 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.BEACON;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
@@ -39,7 +41,9 @@ import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.beacon.sync.events.SyncState;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.events.EventQueueConfig.OverflowPolicy;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -52,6 +56,8 @@ import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedCo
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.ReorgContext;
 
 public class EventSubscriptionManagerTest {
@@ -106,6 +112,7 @@ public class EventSubscriptionManagerTest {
   private final TestServletOutputStream outputStream = new TestServletOutputStream();
   private final Context ctx = new Context(req, res, Collections.emptyMap());
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private SseClient client1;
 
   private EventSubscriptionManager manager;
@@ -124,10 +131,27 @@ public class EventSubscriptionManagerTest {
             asyncRunner,
             channels,
             StubTimeProvider.withTimeInMillis(1000),
+            metricsSystem,
             10);
     client1 = new SseClient(ctx);
   }
 
+  @Test
+  void shouldSubscribeWithQueuesThatNeverBlockPublishers() {
+    verify(channels)
+        .subscribe(
+            ChainHeadChannel.class, manager, EventSubscriptionManager.CHAIN_HEAD_QUEUE_CONFIG);
+    verify(channels)
+        .subscribe(
+            FinalizedCheckpointChannel.class,
+            manager,
+            EventSubscriptionManager.FINALIZED_CHECKPOINT_QUEUE_CONFIG);
+    assertThat(EventSubscriptionManager.CHAIN_HEAD_QUEUE_CONFIG.getOverflowPolicy())
+        .isNotEqualTo(OverflowPolicy.BLOCK);
+    assertThat(EventSubscriptionManager.FINALIZED_CHECKPOINT_QUEUE_CONFIG.getOverflowPolicy())
+        .isNotEqualTo(OverflowPolicy.BLOCK);
+  }
+
   @Test
   void shouldPropagateReorgMessages() throws IOException {
     when(req.getQueryString()).thenReturn("&topics=chain_reorg");
@@ -277,6 +301,42 @@ public class EventSubscriptionManagerTest {
     assertThat(outputStream.countEvents()).isEqualTo(0);
   }
 
+  @Test
+  void shouldReportConnectedClientsAndQueuedEvents() {
+    when(req.getQueryString()).thenReturn("&topics=head");
+    manager.registerClient(client1);
+    assertThat(metricsSystem.getGauge(BEACON, "event_stream_clients").getValue()).isEqualTo(1);
+
+    manager.chainHeadUpdated(
+        headEvent.getData().getSlot(),
+        headEvent.getData().getState(),
+        headEvent.getData().getBlock(),
+        false,
+        true,
+        headEvent.getData().getPreviousDutyDependentRoot(),
+        headEvent.getData().getCurrentDutyDependentRoot(),
+        Optional.empty());
+    assertThat(metricsSystem.getGauge(BEACON, "event_stream_queued_events").getValue())
+        .isEqualTo(1);
+
+    asyncRunner.executeQueuedActions();
+    assertThat(metricsSystem.getGauge(BEACON, "event_stream_queued_events").getValue())
+        .isEqualTo(0);
+  }
+
+  @Test
+  void shouldOnlyDeliverEventsToClientsSubscribedToTopic() {
+    final SseClient client2 = new SseClient(ctx);
+    when(req.getQueryString()).thenReturn("&topics=head");
+    manager.registerClient(client1);
+    when(req.getQueryString()).thenReturn("&topics=finalized_checkpoint");
+    manager.registerClient(client2);
+
+    triggerHeadEvent();
+    // Both clients share the same output stream so only a single event is expected
+    assertThat(outputStream.countEvents()).isEqualTo(1);
+  }
+
   private void triggerVoluntaryExitEvent() {
     manager.onNewVoluntaryExit(sampleVoluntaryExit, InternalValidationResult.ACCEPT, false);
     asyncRunner.executeQueuedActions();
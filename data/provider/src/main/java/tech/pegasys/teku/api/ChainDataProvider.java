@@ -32,6 +32,7 @@ import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -159,6 +160,30 @@ public class ChainDataProvider {
     return combinedChainDataClient.isStoreAvailable();
   }
 
+  /**
+   * Checks whether the response to a query by block or state identifier can never change, so may
+   * be cached indefinitely. Identifiers which track a moving checkpoint such as {@code head} are
+   * never immutable, and the data itself must be canonical, finalized and not optimistic.
+   *
+   * @param blockOrStateId the block or state identifier from the request
+   * @param metaData the metadata of the response
+   * @param slot the slot of the block or state the response was created from
+   * @return true if the response will never change
+   */
+  public boolean isFinalizedAndImmutable(
+      final String blockOrStateId, final ObjectAndMetaData<?> metaData, final UInt64 slot) {
+    switch (blockOrStateId) {
+      case "head":
+      case "finalized":
+      case "justified":
+        return false;
+      default:
+        return metaData.isCanonical()
+            && !metaData.isExecutionOptimistic()
+            && combinedChainDataClient.isFinalized(slot);
+    }
+  }
+
   public SafeFuture<Optional<ObjectAndMetaData<BeaconState>>> getSchemaBeaconState(
       final String stateIdParam) {
     return fromState(stateIdParam, schemaObjectProvider::getBeaconState);
@@ -275,14 +300,30 @@ public class ChainDataProvider {
     return fromState(stateIdParam, state -> getValidatorBalancesFromState(state, validators));
   }
 
+  /**
+   * Returns the balances of the selected validators as an {@link Iterable} which creates each
+   * entry from the state as it is iterated, so the response can be serialized without building the
+   * full list. The result can only be iterated once.
+   */
+  public SafeFuture<Optional<ObjectAndMetaData<Iterable<StateValidatorBalanceData>>>>
+      streamStateValidatorBalances(final String stateIdParam, final List<String> validators) {
+    return fromState(
+        stateIdParam, state -> asIterable(streamValidatorBalancesFromState(state, validators)));
+  }
+
   @VisibleForTesting
   List<StateValidatorBalanceData> getValidatorBalancesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators) {
+    return streamValidatorBalancesFromState(state, validators).collect(Collectors.toList());
+  }
+
+  private Stream<StateValidatorBalanceData> streamValidatorBalancesFromState(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators) {
     return getValidatorSelector(state, validators)
         .mapToObj(index -> StateValidatorBalanceData.fromState(state, index))
-        .flatMap(Optional::stream)
-        .collect(Collectors.toList());
+        .flatMap(Optional::stream);
   }
 
   public Optional<Bytes32> getStateRootFromBlockRoot(final Bytes32 blockRoot) {
@@ -320,17 +361,38 @@ public class ChainDataProvider {
         stateIdParam, state -> getFilteredValidatorList(state, validators, statusFilter));
   }
 
+  /**
+   * Returns the selected validators as an {@link Iterable} which creates each entry from the state
+   * as it is iterated, so the response can be serialized without building the full list. The
+   * result can only be iterated once.
+   */
+  public SafeFuture<Optional<ObjectAndMetaData<Iterable<StateValidatorData>>>>
+      streamStateValidators(
+          final String stateIdParam,
+          final List<String> validators,
+          final Set<ValidatorStatus> statusFilter) {
+    return fromState(
+        stateIdParam,
+        state -> asIterable(streamFilteredValidators(state, validators, statusFilter)));
+  }
+
   @VisibleForTesting
   List<StateValidatorData> getFilteredValidatorList(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
+    return streamFilteredValidators(state, validators, statusFilter).collect(toList());
+  }
+
+  private Stream<StateValidatorData> streamFilteredValidators(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators,
+      final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
     return getValidatorSelector(state, validators)
         .filter(getStatusPredicate(state, statusFilter))
         .mapToObj(index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
-        .flatMap(Optional::stream)
-        .collect(toList());
+        .flatMap(Optional::stream);
   }
 
   public Optional<ObjectAndMetaData<StateValidatorData>> getStateValidator(
@@ -356,6 +418,21 @@ public class ChainDataProvider {
         stateIdParameter, state -> getCommitteesFromState(state, epoch, committeeIndex, slot));
   }
 
+  /**
+   * Returns the matching committees as an {@link Iterable} which applies the committee index and
+   * slot filters as it is iterated. The result can only be iterated once.
+   */
+  public SafeFuture<Optional<ObjectAndMetaData<Iterable<CommitteeAssignment>>>>
+      streamStateCommittees(
+          final String stateIdParameter,
+          final Optional<UInt64> epoch,
+          final Optional<UInt64> committeeIndex,
+          final Optional<UInt64> slot) {
+    return fromState(
+        stateIdParameter,
+        state -> asIterable(streamCommitteesFromState(state, epoch, committeeIndex, slot)));
+  }
+
   public SafeFuture<Optional<ValidatorStatuses>> getValidatorInclusionAtEpoch(final UInt64 epoch) {
     final Optional<UInt64> maybeCurrentEpoch = getCurrentEpoch();
     if (maybeCurrentEpoch.isEmpty()) {
@@ -389,6 +466,14 @@ public class ChainDataProvider {
       final Optional<UInt64> epoch,
       final Optional<UInt64> committeeIndex,
       final Optional<UInt64> slot) {
+    return streamCommitteesFromState(state, epoch, committeeIndex, slot).collect(toList());
+  }
+
+  private Stream<CommitteeAssignment> streamCommitteesFromState(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final Optional<UInt64> epoch,
+      final Optional<UInt64> committeeIndex,
+      final Optional<UInt64> slot) {
     final Predicate<CommitteeAssignment> slotFilter =
         slot.isEmpty() ? __ -> true : (assignment) -> assignment.getSlot().equals(slot.get());
 
@@ -411,8 +496,7 @@ public class ChainDataProvider {
     }
     return combinedChainDataClient.getCommitteesFromState(state, epoch.orElse(stateEpoch)).stream()
         .filter(slotFilter)
-        .filter(committeeFilter)
-        .collect(toList());
+        .filter(committeeFilter);
   }
 
   private IntPredicate getStatusPredicate(
@@ -427,12 +511,21 @@ public class ChainDataProvider {
   private IntStream getValidatorSelector(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators) {
-    return validators.isEmpty()
-        ? IntStream.range(0, state.getValidators().size())
-        : validators.stream()
+    if (validators.isEmpty()) {
+      return IntStream.range(0, state.getValidators().size());
+    }
+    // Resolve requested validators eagerly so invalid parameters are reported before a lazily
+    // serialized response has started to be written
+    return IntStream.of(
+        validators.stream()
             .flatMapToInt(
                 validatorParameter ->
-                    validatorParameterToIndex(state, validatorParameter).stream().mapToInt(a -> a));
+                    validatorParameterToIndex(state, validatorParameter).stream().mapToInt(a -> a))
+            .toArray());
+  }
+
+  private static <T> Iterable<T> asIterable(final Stream<T> stream) {
+    return stream::iterator;
   }
 
   public List<ProtoNodeData> getChainHeads() {
@@ -27,6 +27,7 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 
 import java.util.List;
@@ -161,6 +162,53 @@ public class ChainDataProviderTest {
         .isEqualTo(new GenesisData(genesisTime, genesisValidatorsRoot, genesisForkVersion));
   }
 
+  @Test
+  public void isFinalizedAndImmutable_shouldBeTrueForFinalizedSlotOrRoot() {
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, mockCombinedChainDataClient);
+    when(mockCombinedChainDataClient.isFinalized(ONE)).thenReturn(true);
+    final ObjectAndMetaData<String> metaData =
+        new ObjectAndMetaData<>("data", spec.getGenesisSpec().getMilestone(), false, true);
+
+    assertThat(provider.isFinalizedAndImmutable("1", metaData, ONE)).isTrue();
+    assertThat(provider.isFinalizedAndImmutable(blockRoot.toHexString(), metaData, ONE)).isTrue();
+    assertThat(provider.isFinalizedAndImmutable("genesis", metaData, ONE)).isTrue();
+  }
+
+  @Test
+  public void isFinalizedAndImmutable_shouldBeFalseForMovingIdentifiers() {
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, mockCombinedChainDataClient);
+    when(mockCombinedChainDataClient.isFinalized(ONE)).thenReturn(true);
+    final ObjectAndMetaData<String> metaData =
+        new ObjectAndMetaData<>("data", spec.getGenesisSpec().getMilestone(), false, true);
+
+    assertThat(provider.isFinalizedAndImmutable("head", metaData, ONE)).isFalse();
+    assertThat(provider.isFinalizedAndImmutable("finalized", metaData, ONE)).isFalse();
+    assertThat(provider.isFinalizedAndImmutable("justified", metaData, ONE)).isFalse();
+  }
+
+  @Test
+  public void isFinalizedAndImmutable_shouldBeFalseWhenNotFinalizedOrOptimistic() {
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, mockCombinedChainDataClient);
+    when(mockCombinedChainDataClient.isFinalized(ONE)).thenReturn(true);
+    final SpecMilestone milestone = spec.getGenesisSpec().getMilestone();
+
+    assertThat(
+            provider.isFinalizedAndImmutable(
+                "2", new ObjectAndMetaData<>("data", milestone, false, true), UInt64.valueOf(2)))
+        .isFalse();
+    assertThat(
+            provider.isFinalizedAndImmutable(
+                "1", new ObjectAndMetaData<>("data", milestone, true, true), ONE))
+        .isFalse();
+    assertThat(
+            provider.isFinalizedAndImmutable(
+                "1", new ObjectAndMetaData<>("data", milestone, false, false), ONE))
+        .isFalse();
+  }
+
   @Test
   public void getBeaconState_shouldReturnEmptyWhenRootNotFound() {
     final ChainDataProvider provider =
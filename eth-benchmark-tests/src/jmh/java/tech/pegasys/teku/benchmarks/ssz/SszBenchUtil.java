@@ -20,6 +20,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockHeader;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.BeaconBlockBody;
+import tech.pegasys.teku.spec.datastructures.operations.AggregateAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.AttesterSlashing;
@@ -27,8 +28,10 @@ import tech.pegasys.teku.spec.datastructures.operations.Deposit;
 import tech.pegasys.teku.spec.datastructures.operations.DepositData;
 import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.operations.VoluntaryExit;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.PendingAttestation;
 
@@ -81,6 +84,24 @@ public class SszBenchUtil {
     bh.consume(a.getAggregateSignature());
   }
 
+  public static void iterateData(SignedAggregateAndProof s, Blackhole bh) {
+    iterateData(s.getMessage(), bh);
+    bh.consume(s.getSignature());
+  }
+
+  public static void iterateData(AggregateAndProof a, Blackhole bh) {
+    bh.consume(a.getIndex());
+    iterateData(a.getAggregate(), bh);
+    bh.consume(a.getSelectionProof());
+  }
+
+  public static void iterateData(SyncCommitteeMessage m, Blackhole bh) {
+    bh.consume(m.getSlot());
+    bh.consume(m.getBeaconBlockRoot());
+    bh.consume(m.getValidatorIndex());
+    bh.consume(m.getSignature());
+  }
+
   public static void iterateData(AttesterSlashing s, Blackhole bh) {
     iterateData(s.getAttestation1(), bh);
     iterateData(s.getAttestation2(), bh);
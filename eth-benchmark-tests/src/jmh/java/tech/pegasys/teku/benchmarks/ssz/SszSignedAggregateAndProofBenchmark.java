@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof.SignedAggregateAndProofSchema;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class SszSignedAggregateAndProofBenchmark
+    extends SszAbstractContainerBenchmark<SignedAggregateAndProof> {
+
+  private static final Spec spec = TestSpecFactory.createDefault();
+  private static final DataStructureUtil dataStructureUtil = new DataStructureUtil(1, spec);
+  private static final SignedAggregateAndProof aSignedAggregateAndProof =
+      dataStructureUtil.randomSignedAggregateAndProof();
+
+  private static final AggregateAndProof message = aSignedAggregateAndProof.getMessage();
+  private static final BLSSignature signature = aSignedAggregateAndProof.getSignature();
+
+  @Override
+  protected SignedAggregateAndProof createContainer() {
+    return getContainerType().create(message, signature);
+  }
+
+  @Override
+  protected SignedAggregateAndProofSchema getContainerType() {
+    return spec.getGenesisSchemaDefinitions().getSignedAggregateAndProofSchema();
+  }
+
+  @Override
+  protected void iterateData(SignedAggregateAndProof pa, Blackhole bh) {
+    SszBenchUtil.iterateData(pa, bh);
+  }
+}
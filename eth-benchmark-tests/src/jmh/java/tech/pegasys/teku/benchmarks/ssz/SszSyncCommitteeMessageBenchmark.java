@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessageSchema;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class SszSyncCommitteeMessageBenchmark
+    extends SszAbstractContainerBenchmark<SyncCommitteeMessage> {
+
+  private static final Spec spec = TestSpecFactory.createMinimalAltair();
+  private static final DataStructureUtil dataStructureUtil = new DataStructureUtil(1, spec);
+  private static final SyncCommitteeMessage aSyncCommitteeMessage =
+      dataStructureUtil.randomSyncCommitteeMessage();
+
+  @Override
+  protected SyncCommitteeMessage createContainer() {
+    return getContainerType()
+        .create(
+            aSyncCommitteeMessage.getSlot(),
+            aSyncCommitteeMessage.getBeaconBlockRoot(),
+            aSyncCommitteeMessage.getValidatorIndex(),
+            aSyncCommitteeMessage.getSignature());
+  }
+
+  @Override
+  protected SyncCommitteeMessageSchema getContainerType() {
+    return SchemaDefinitionsAltair.required(spec.getGenesisSchemaDefinitions())
+        .getSyncCommitteeMessageSchema();
+  }
+
+  @Override
+  protected void iterateData(SyncCommitteeMessage message, Blackhole bh) {
+    SszBenchUtil.iterateData(message, bh);
+  }
+}
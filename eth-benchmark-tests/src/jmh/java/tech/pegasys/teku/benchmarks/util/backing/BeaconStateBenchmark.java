@@ -22,6 +22,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
@@ -83,4 +84,33 @@ public class BeaconStateBenchmark {
             });
     bh.consume(stateW.hashTreeRoot());
   }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void bulkUpdateBalancesAndHash(Blackhole bh) {
+    BeaconState stateW =
+        beaconState.updated(
+            state -> {
+              SszMutableUInt64List balances = state.getBalances();
+              balances.setAll(i -> balances.getElement(i).longValue() + 777);
+            });
+    bh.consume(stateW.hashTreeRoot());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void incrementBalancesAndHash(Blackhole bh) {
+    BeaconState stateW =
+        beaconState.updated(
+            state -> {
+              SszMutableUInt64List balances = state.getBalances();
+              int size = balances.size();
+              for (int i = 0; i < size; i++) {
+                balances.setElement(i, balances.getElement(i).plus(777));
+              }
+            });
+    bh.consume(stateW.hashTreeRoot());
+  }
 }
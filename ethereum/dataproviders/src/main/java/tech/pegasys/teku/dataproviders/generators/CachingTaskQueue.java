@@ -151,6 +151,11 @@ public class CachingTaskQueue<K, V> {
     return Optional.ofNullable(cache.get(key));
   }
 
+  /** Returns a snapshot of the completed results currently held in the cache. */
+  public Map<K, V> getCachedValues() {
+    return Map.copyOf(cache);
+  }
+
   private void queueTask(final CacheableTask<K, V> task) {
     queuedTasks.add(task);
     tryProcessNext();
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.web3j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthChainId;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import tech.pegasys.teku.infrastructure.json.JsonTestUtil;
+
+public class JsonRpcHttpServiceTest {
+  private final MockWebServer mockWebServer = new MockWebServer();
+  private JsonRpcHttpService service;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockWebServer.start();
+    service =
+        new JsonRpcHttpService(
+            "http://localhost:" + mockWebServer.getPort(), new OkHttpClient.Builder().build());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void shouldSendRequestAndParseResponse() throws Exception {
+    enqueueChainIdResponse();
+
+    final EthChainId response = createChainIdRequest().send();
+
+    assertThat(response.getChainId()).isEqualTo(BigInteger.valueOf(5));
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getHeader("Content-Type")).startsWith("application/json");
+    final Map<String, Object> data =
+        JsonTestUtil.parse(request.getBody().readString(StandardCharsets.UTF_8));
+    assertThat(data).containsEntry("method", "eth_chainId");
+  }
+
+  @Test
+  void shouldReuseConnectionForSubsequentRequests() throws Exception {
+    enqueueChainIdResponse();
+    enqueueChainIdResponse();
+
+    createChainIdRequest().send();
+    createChainIdRequest().send();
+
+    assertThat(mockWebServer.takeRequest().getSequenceNumber()).isZero();
+    assertThat(mockWebServer.takeRequest().getSequenceNumber()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldThrowWhenResponseIsNotSuccessful() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(401).setBody("Unauthorized"));
+
+    assertThatThrownBy(() -> createChainIdRequest().send())
+        .isInstanceOf(ClientConnectionException.class)
+        .hasMessageContaining("401")
+        .hasMessageContaining("Unauthorized");
+  }
+
+  private Request<?, EthChainId> createChainIdRequest() {
+    return new Request<>("eth_chainId", Collections.emptyList(), service, EthChainId.class);
+  }
+
+  private void enqueueChainIdResponse() {
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": \"0x5\"}")
+            .addHeader("Content-Type", "application/json"));
+  }
+}
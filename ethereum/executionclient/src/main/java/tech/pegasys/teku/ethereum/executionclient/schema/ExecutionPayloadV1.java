@@ -23,8 +23,8 @@ import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
-import tech.pegasys.teku.ethereum.executionclient.serialization.BytesDeserializer;
 import tech.pegasys.teku.ethereum.executionclient.serialization.BytesSerializer;
+import tech.pegasys.teku.ethereum.executionclient.serialization.TransactionDeserializer;
 import tech.pegasys.teku.infrastructure.bytes.Bytes20;
 import tech.pegasys.teku.infrastructure.ssz.collections.impl.SszByteListImpl;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -33,7 +33,7 @@ import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadSchema;
 
 public class ExecutionPayloadV1 extends ExecutionPayloadCommon {
   @JsonSerialize(contentUsing = BytesSerializer.class)
-  @JsonDeserialize(contentUsing = BytesDeserializer.class)
+  @JsonDeserialize(contentUsing = TransactionDeserializer.class)
   public final List<Bytes> transactions;
 
   public ExecutionPayloadV1(
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.serialization;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import org.apache.tuweni.bytes.AbstractBytes;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+
+/**
+ * Bytes stored as a sequence of SSZ leaf sized chunks rather than a single array.
+ *
+ * <p>Slicing at a chunk boundary returns the stored chunk itself, so when an SSZ byte list is
+ * created from these bytes each chunk becomes the data of a leaf node without the whole value ever
+ * being held in one contiguous array.
+ */
+class LeafChunkedBytes extends AbstractBytes {
+  static final int CHUNK_SIZE = LeafNode.MAX_BYTE_SIZE;
+
+  private final Bytes[] chunks;
+  private final int size;
+
+  private LeafChunkedBytes(final Bytes[] chunks, final int size) {
+    this.chunks = chunks;
+    this.size = size;
+  }
+
+  /**
+   * Decodes a hex string, with or without a 0x prefix, directly into leaf sized chunks. An odd
+   * number of hex digits is treated as having a leading zero, as {@link Bytes#fromHexString} does.
+   */
+  static LeafChunkedBytes fromHexString(final char[] chars, final int offset, final int length) {
+    int pos = offset;
+    final int end = offset + length;
+    if (length >= 2 && chars[pos] == '0' && (chars[pos + 1] == 'x' || chars[pos + 1] == 'X')) {
+      pos += 2;
+    }
+    final int hexLength = end - pos;
+    final int byteLength = (hexLength + 1) / 2;
+    final Bytes[] chunks = new Bytes[(byteLength + CHUNK_SIZE - 1) / CHUNK_SIZE];
+    boolean leadingNibble = (hexLength & 1) == 1;
+    for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+      final byte[] chunk = new byte[Math.min(CHUNK_SIZE, byteLength - chunkIndex * CHUNK_SIZE)];
+      for (int i = 0; i < chunk.length; i++) {
+        if (leadingNibble) {
+          chunk[i] = (byte) hexDigit(chars[pos++]);
+          leadingNibble = false;
+        } else {
+          chunk[i] = (byte) ((hexDigit(chars[pos]) << 4) | hexDigit(chars[pos + 1]));
+          pos += 2;
+        }
+      }
+      chunks[chunkIndex] = chunk.length == CHUNK_SIZE ? Bytes32.wrap(chunk) : Bytes.wrap(chunk);
+    }
+    return new LeafChunkedBytes(chunks, byteLength);
+  }
+
+  private static int hexDigit(final char c) {
+    final int digit = Character.digit(c, 16);
+    if (digit < 0) {
+      throw new IllegalArgumentException("Illegal character '" + c + "' found in hex string");
+    }
+    return digit;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public byte get(final int i) {
+    checkElementIndex(i, size);
+    return chunks[i / CHUNK_SIZE].get(i % CHUNK_SIZE);
+  }
+
+  @Override
+  public Bytes slice(final int i, final int length) {
+    checkPositionIndexes(i, i + length, size);
+    if (length == 0) {
+      return Bytes.EMPTY;
+    }
+    final int chunkOffset = i % CHUNK_SIZE;
+    final Bytes chunk = chunks[i / CHUNK_SIZE];
+    if (chunkOffset + length <= chunk.size()) {
+      return chunkOffset == 0 && length == chunk.size() ? chunk : chunk.slice(chunkOffset, length);
+    }
+    final byte[] result = new byte[length];
+    copyRange(i, result);
+    return Bytes.wrap(result);
+  }
+
+  @Override
+  public Bytes copy() {
+    return Bytes.wrap(toArray());
+  }
+
+  @Override
+  public MutableBytes mutableCopy() {
+    return MutableBytes.wrap(toArray());
+  }
+
+  @Override
+  public byte[] toArray() {
+    final byte[] result = new byte[size];
+    copyRange(0, result);
+    return result;
+  }
+
+  private void copyRange(final int from, final byte[] target) {
+    int copied = 0;
+    while (copied < target.length) {
+      final int index = from + copied;
+      final byte[] chunk = chunks[index / CHUNK_SIZE].toArrayUnsafe();
+      final int chunkOffset = index % CHUNK_SIZE;
+      final int count = Math.min(chunk.length - chunkOffset, target.length - copied);
+      System.arraycopy(chunk, chunkOffset, target, copied, count);
+      copied += count;
+    }
+  }
+}
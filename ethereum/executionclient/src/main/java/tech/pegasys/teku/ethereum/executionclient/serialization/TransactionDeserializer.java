@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Decodes a hex encoded transaction straight from the parser's character buffer into SSZ leaf
+ * sized chunks, avoiding the intermediate String and byte array which would otherwise be created
+ * for every transaction in a payload.
+ */
+public class TransactionDeserializer extends JsonDeserializer<Bytes> {
+
+  @Override
+  public Bytes deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.hasToken(JsonToken.VALUE_STRING)) {
+      return (Bytes) ctxt.handleUnexpectedToken(Bytes.class, p);
+    }
+    return LeafChunkedBytes.fromHexString(
+        p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+  }
+}
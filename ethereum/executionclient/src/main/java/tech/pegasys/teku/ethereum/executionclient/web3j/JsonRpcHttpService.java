@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.web3j;
+
+import java.io.IOException;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.http.HttpService;
+
+/**
+ * An {@link HttpService} which avoids buffering whole requests and responses as intermediate
+ * strings and byte arrays.
+ *
+ * <p>The request is serialized directly to UTF-8 bytes and the response is deserialized from the
+ * HTTP body stream while it is being received. Execution payloads with many transactions are
+ * several megabytes of hex so the extra copies made by the default implementation add noticeable
+ * latency and allocation to every {@code engine_newPayload} and {@code engine_getPayload} call.
+ * Connections are kept alive and reused by the shared {@link OkHttpClient}.
+ */
+class JsonRpcHttpService extends HttpService {
+  private final String url;
+  private final OkHttpClient httpClient;
+
+  JsonRpcHttpService(final String url, final OkHttpClient httpClient) {
+    super(url, httpClient);
+    this.url = url;
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes") // superclass uses raw types
+  public <T extends Response> T send(final Request request, final Class<T> responseType)
+      throws IOException {
+    final RequestBody requestBody =
+        RequestBody.create(objectMapper.writeValueAsBytes(request), JSON_MEDIA_TYPE);
+    final okhttp3.Request httpRequest =
+        new okhttp3.Request.Builder().url(url).post(requestBody).build();
+    try (okhttp3.Response response = httpClient.newCall(httpRequest).execute()) {
+      final ResponseBody responseBody = response.body();
+      if (!response.isSuccessful()) {
+        final String text = responseBody == null ? "N/A" : responseBody.string();
+        throw new ClientConnectionException(
+            "Invalid response received: " + response.code() + "; " + text);
+      }
+      if (responseBody == null) {
+        return null;
+      }
+      return objectMapper.readValue(responseBody.byteStream(), responseType);
+    }
+  }
+}
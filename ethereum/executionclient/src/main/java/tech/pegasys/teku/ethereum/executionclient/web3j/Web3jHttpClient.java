@@ -20,7 +20,6 @@ import okhttp3.OkHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.web3j.protocol.Web3jService;
-import org.web3j.protocol.http.HttpService;
 import tech.pegasys.teku.ethereum.executionclient.OkHttpClientCreator;
 import tech.pegasys.teku.ethereum.executionclient.auth.JwtConfig;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
@@ -36,7 +35,7 @@ class Web3jHttpClient extends Web3JClient {
     super(timeProvider);
     final OkHttpClient okHttpClient =
         OkHttpClientCreator.create(timeout, LOG, jwtConfig, timeProvider);
-    final Web3jService httpService = new HttpService(endpoint.toString(), okHttpClient);
+    final Web3jService httpService = new JsonRpcHttpService(endpoint.toString(), okHttpClient);
     initWeb3jService(httpService);
   }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.execution.TransactionSchema;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsBellatrix;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class TransactionDeserializerTest {
+  private final Spec spec = TestSpecFactory.createMinimalBellatrix();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TransactionDeserializer deserializer = new TransactionDeserializer();
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 31, 32, 33, 64, 100, 1000})
+  void shouldDecodeSameBytesAsFromHexString(final int size) throws IOException {
+    final Bytes original = dataStructureUtil.randomBytes(size);
+
+    final Bytes result = deserialize("\"" + original.toHexString() + "\"");
+
+    assertThat(result).isEqualTo(original);
+    assertThat(result.toHexString()).isEqualTo(original.toHexString());
+  }
+
+  @Test
+  void shouldDecodeOddNumberOfHexDigitsWithLeadingZero() throws IOException {
+    assertThat(deserialize("\"0xabc\"")).isEqualTo(Bytes.fromHexString("0x0abc"));
+  }
+
+  @Test
+  void shouldDecodeWithoutPrefix() throws IOException {
+    assertThat(deserialize("\"abcd\"")).isEqualTo(Bytes.fromHexString("0xabcd"));
+  }
+
+  @Test
+  void shouldRejectInvalidHexCharacters() {
+    assertThatThrownBy(() -> deserialize("\"0xzz\"")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReturnStoredChunksWhenSlicedAtLeafBoundaries() throws IOException {
+    final Bytes original = dataStructureUtil.randomBytes(70);
+    final Bytes result = deserialize("\"" + original.toHexString() + "\"");
+
+    assertThat(result.slice(32, 32)).isSameAs(result.slice(32, 32));
+    assertThat(result.slice(64, 6)).isSameAs(result.slice(64, 6));
+    assertThat(result.slice(30, 10)).isEqualTo(original.slice(30, 10));
+    assertThat(result.slice(40, 4)).isEqualTo(original.slice(40, 4));
+  }
+
+  @Test
+  void shouldCreateSameTransactionAsFromOriginalBytes() throws IOException {
+    final TransactionSchema schema =
+        SchemaDefinitionsBellatrix.required(spec.getGenesisSchemaDefinitions())
+            .getExecutionPayloadSchema()
+            .getTransactionSchema();
+    final Bytes original = dataStructureUtil.randomBytes(1000);
+
+    final Bytes result = deserialize("\"" + original.toHexString() + "\"");
+
+    assertThat(schema.fromBytes(result)).isEqualTo(schema.fromBytes(original));
+    assertThat(schema.fromBytes(result).hashTreeRoot())
+        .isEqualTo(schema.fromBytes(original).hashTreeRoot());
+  }
+
+  private Bytes deserialize(final String json) throws IOException {
+    final JsonParser parser = objectMapper.getFactory().createParser(json);
+    parser.nextToken();
+    return deserializer.deserialize(parser, objectMapper.getDeserializationContext());
+  }
+}
@@ -16,17 +16,24 @@ package tech.pegasys.teku.ethereum.executionlayer;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static tech.pegasys.teku.infrastructure.logging.EventLogger.EVENT_LOG;
+import static tech.pegasys.teku.spec.config.Constants.EL_BUILDER_GET_HEADER_TIMEOUT;
 import static tech.pegasys.teku.spec.config.Constants.MAXIMUM_CONCURRENT_EB_REQUESTS;
 import static tech.pegasys.teku.spec.config.Constants.MAXIMUM_CONCURRENT_EE_REQUESTS;
 
+import java.time.Duration;
+import java.util.Locale;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.executionclient.ExecutionBuilderClient;
 import tech.pegasys.teku.ethereum.executionclient.ExecutionEngineClient;
@@ -44,8 +51,10 @@ import tech.pegasys.teku.ethereum.executionclient.schema.TransitionConfiguration
 import tech.pegasys.teku.ethereum.executionclient.web3j.Web3JClient;
 import tech.pegasys.teku.ethereum.executionclient.web3j.Web3JExecutionEngineClient;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.logging.EventLogger;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -56,6 +65,7 @@ import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadContext;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadHeader;
 import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
+import tech.pegasys.teku.spec.datastructures.execution.SignedBuilderBid;
 import tech.pegasys.teku.spec.datastructures.execution.SignedValidatorRegistration;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
@@ -89,6 +99,9 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
 
   private final EventLogger eventLogger;
   private final BuilderBidValidator builderBidValidator;
+  private final UInt256 builderBidMinimumValue;
+  private final Duration builderGetHeaderDeadline;
+  private final LabelledMetric<Counter> executionPayloadSourceCounter;
 
   public static ExecutionLayerManagerImpl create(
       final Web3JClient engineWeb3JClient,
@@ -96,7 +109,8 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
       final Version version,
       final Spec spec,
       final MetricsSystem metricsSystem,
-      final BuilderBidValidator builderBidValidator) {
+      final BuilderBidValidator builderBidValidator,
+      final UInt256 builderBidMinimumValue) {
     checkNotNull(version);
 
     return new ExecutionLayerManagerImpl(
@@ -104,7 +118,10 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
         createBuilderClient(builderRestClient, spec, metricsSystem),
         spec,
         EVENT_LOG,
-        builderBidValidator);
+        builderBidValidator,
+        builderBidMinimumValue,
+        EL_BUILDER_GET_HEADER_TIMEOUT,
+        metricsSystem);
   }
 
   private static ExecutionEngineClient createEngineClient(
@@ -134,13 +151,25 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
       final Optional<ExecutionBuilderClient> executionBuilderClient,
       final Spec spec,
       final EventLogger eventLogger,
-      final BuilderBidValidator builderBidValidator) {
+      final BuilderBidValidator builderBidValidator,
+      final UInt256 builderBidMinimumValue,
+      final Duration builderGetHeaderDeadline,
+      final MetricsSystem metricsSystem) {
     this.executionEngineClient = executionEngineClient;
     this.executionBuilderClient = executionBuilderClient;
     this.latestBuilderAvailability = new AtomicBoolean(executionBuilderClient.isPresent());
     this.spec = spec;
     this.eventLogger = eventLogger;
     this.builderBidValidator = builderBidValidator;
+    this.builderBidMinimumValue = builderBidMinimumValue;
+    this.builderGetHeaderDeadline = builderGetHeaderDeadline;
+    this.executionPayloadSourceCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "execution_payload_source_total",
+            "Total number of execution payload headers produced for blinded blocks, broken down by source and the reason the builder bid was not used",
+            "source",
+            "fallback_reason");
   }
 
   @Override
@@ -304,7 +333,7 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
 
     if (forceLocalFallback || !isBuilderAvailable() || validatorRegistration.isEmpty()) {
       // fallback to local execution engine
-      return doFallbackToLocal(localExecutionPayload, slot);
+      return doFallbackToLocal(localExecutionPayload, slot, FallbackReason.NOT_REQUESTED);
     }
 
     final BLSPublicKey validatorPublicKey = validatorRegistration.get().getMessage().getPublicKey();
@@ -315,10 +344,16 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
         validatorPublicKey,
         executionPayloadContext.getParentHash());
 
-    return executionBuilderClient
-        .orElseThrow()
-        .getHeader(slot, validatorPublicKey, executionPayloadContext.getParentHash())
-        .thenApply(ExecutionLayerManagerImpl::unwrapResponseOrThrow)
+    // the local payload is already being produced, so the builder only has until the deadline to
+    // answer before we carry on with the local payload
+    final SafeFuture<SignedBuilderBid> signedBuilderBidFuture =
+        executionBuilderClient
+            .orElseThrow()
+            .getHeader(slot, validatorPublicKey, executionPayloadContext.getParentHash())
+            .thenApply(ExecutionLayerManagerImpl::unwrapResponseOrThrow)
+            .orTimeout(builderGetHeaderDeadline);
+
+    return signedBuilderBidFuture
         .thenPeek(
             signedBuilderBid -> {
               LOG.trace(
@@ -331,16 +366,41 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
               logReceivedBuilderBid(builderBid);
             })
         .thenApplyChecked(
-            signedBuilderBid ->
-                builderBidValidator.validateAndGetPayloadHeader(
-                    spec, signedBuilderBid, validatorRegistration.get(), state))
-        .thenPeek(__ -> slotToLocalElFallbackPayload.put(slot, Optional.empty()))
-        .exceptionallyCompose(
-            error -> {
-              LOG.error(
-                  "Unable to obtain a valid payload from builder. Falling back to local execution engine.",
-                  error);
-              return doFallbackToLocal(localExecutionPayload, slot);
+            signedBuilderBid -> {
+              final UInt256 bidValue = signedBuilderBid.getMessage().getValue();
+              if (bidValue.compareTo(builderBidMinimumValue) < 0) {
+                LOG.info(
+                    "Builder bid value of {} wei is below the minimum of {} wei. Falling back to local execution engine.",
+                    bidValue.toDecimalString(),
+                    builderBidMinimumValue.toDecimalString());
+                return Optional.<ExecutionPayloadHeader>empty();
+              }
+              return Optional.of(
+                  builderBidValidator.validateAndGetPayloadHeader(
+                      spec, signedBuilderBid, validatorRegistration.get(), state));
+            })
+        .handleComposed(
+            (maybeBuilderHeader, error) -> {
+              if (error != null) {
+                if (ExceptionUtil.hasCause(error, TimeoutException.class)) {
+                  LOG.warn(
+                      "Builder did not provide a header within {} ms. Falling back to local execution engine.",
+                      builderGetHeaderDeadline.toMillis());
+                  return doFallbackToLocal(
+                      localExecutionPayload, slot, FallbackReason.BUILDER_TIMEOUT);
+                }
+                LOG.error(
+                    "Unable to obtain a valid payload from builder. Falling back to local execution engine.",
+                    error);
+                return doFallbackToLocal(localExecutionPayload, slot, FallbackReason.BUILDER_ERROR);
+              }
+              if (maybeBuilderHeader.isEmpty()) {
+                return doFallbackToLocal(
+                    localExecutionPayload, slot, FallbackReason.BID_BELOW_MINIMUM_VALUE);
+              }
+              slotToLocalElFallbackPayload.put(slot, Optional.empty());
+              recordPayloadSource(PayloadSource.BUILDER, FallbackReason.NONE);
+              return SafeFuture.completedFuture(maybeBuilderHeader.get());
             });
   }
 
@@ -379,12 +439,15 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
   }
 
   private SafeFuture<ExecutionPayloadHeader> doFallbackToLocal(
-      final SafeFuture<ExecutionPayload> localExecutionPayload, final UInt64 slot) {
+      final SafeFuture<ExecutionPayload> localExecutionPayload,
+      final UInt64 slot,
+      final FallbackReason reason) {
 
     return localExecutionPayload.thenApply(
         executionPayload -> {
           // store the fallback payload for this slot
           slotToLocalElFallbackPayload.put(slot, Optional.of(executionPayload));
+          recordPayloadSource(PayloadSource.LOCAL, reason);
 
           return spec.atSlot(slot)
               .getSchemaDefinitions()
@@ -455,4 +518,23 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
         payloadHeader.getGasLimit(),
         payloadHeader.getGasUsed());
   }
+
+  private void recordPayloadSource(final PayloadSource source, final FallbackReason reason) {
+    executionPayloadSourceCounter
+        .labels(source.name().toLowerCase(Locale.ROOT), reason.name().toLowerCase(Locale.ROOT))
+        .inc();
+  }
+
+  private enum PayloadSource {
+    BUILDER,
+    LOCAL
+  }
+
+  private enum FallbackReason {
+    NONE,
+    NOT_REQUESTED,
+    BUILDER_TIMEOUT,
+    BUILDER_ERROR,
+    BID_BELOW_MINIMUM_VALUE
+  }
 }
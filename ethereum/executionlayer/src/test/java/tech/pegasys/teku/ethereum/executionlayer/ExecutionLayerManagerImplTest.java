@@ -15,14 +15,17 @@ package tech.pegasys.teku.ethereum.executionlayer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import tech.pegasys.teku.ethereum.executionclient.ExecutionBuilderClient;
@@ -31,6 +34,8 @@ import tech.pegasys.teku.ethereum.executionclient.schema.ExecutionPayloadV1;
 import tech.pegasys.teku.ethereum.executionclient.schema.Response;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.EventLogger;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -55,6 +60,10 @@ class ExecutionLayerManagerImplTest {
 
   private final EventLogger eventLogger = mock(EventLogger.class);
 
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  private final Duration builderGetHeaderDeadline = Duration.ofMillis(100);
+
   private ExecutionLayerManagerImpl executionLayerManager =
       createExecutionLayerChannelImpl(true, false);
 
@@ -145,6 +154,7 @@ class ExecutionLayerManagerImplTest {
     // we expect result from the builder
     assertThat(executionLayerManager.builderGetHeader(executionPayloadContext, state, false))
         .isCompletedWithValue(header);
+    assertThat(getPayloadSourceCount("builder", "none")).isEqualTo(1);
 
     // we expect both builder and local engine have been called
     verify(executionBuilderClient)
@@ -194,6 +204,7 @@ class ExecutionLayerManagerImplTest {
     // we expect local engine header as result
     assertThat(executionLayerManager.builderGetHeader(executionPayloadContext, state, false))
         .isCompletedWithValue(header);
+    assertThat(getPayloadSourceCount("local", "builder_error")).isEqualTo(1);
 
     // we expect both builder and local engine have been called
     verify(executionBuilderClient)
@@ -267,6 +278,115 @@ class ExecutionLayerManagerImplTest {
     verifyNoMoreInteractions(executionEngineClient);
   }
 
+  @Test
+  public void builderGetHeaderGetPayload_shouldReturnHeaderAndPayloadViaEngineOnBuilderTimeout() {
+    setBuilderOnline();
+
+    final ExecutionPayloadContext executionPayloadContext =
+        dataStructureUtil.randomPayloadExecutionContext(false, true);
+    final UInt64 slot = executionPayloadContext.getForkChoiceState().getHeadBlockSlot();
+    final BeaconState state = dataStructureUtil.randomBeaconState(slot);
+
+    final SafeFuture<Response<SignedBuilderBid>> builderResponse = new SafeFuture<>();
+    when(executionBuilderClient.getHeader(
+            slot,
+            executionPayloadContext
+                .getPayloadBuildingAttributes()
+                .getValidatorRegistrationPublicKey()
+                .orElseThrow(),
+            executionPayloadContext.getParentHash()))
+        .thenReturn(builderResponse);
+    final ExecutionPayload payload = prepareEngineGetPayloadResponse(executionPayloadContext);
+
+    final ExecutionPayloadHeader header =
+        spec.getGenesisSpec()
+            .getSchemaDefinitions()
+            .toVersionBellatrix()
+            .orElseThrow()
+            .getExecutionPayloadHeaderSchema()
+            .createFromExecutionPayload(payload);
+
+    // we expect local engine header as result once the builder deadline has passed
+    assertThat(executionLayerManager.builderGetHeader(executionPayloadContext, state, false))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(header);
+    assertThat(getPayloadSourceCount("local", "builder_timeout")).isEqualTo(1);
+
+    // a late builder response must not replace the local payload
+    builderResponse.complete(new Response<>(dataStructureUtil.randomSignedBuilderBid()));
+
+    final SignedBeaconBlock signedBlindedBeaconBlock =
+        dataStructureUtil.randomSignedBlindedBeaconBlock(slot);
+
+    // we expect result from the cached payload
+    assertThat(executionLayerManager.builderGetPayload(signedBlindedBeaconBlock))
+        .isCompletedWithValue(payload);
+    assertThat(getPayloadSourceCount("builder", "none")).isZero();
+
+    verify(executionBuilderClient, never()).getPayload(signedBlindedBeaconBlock);
+  }
+
+  @Test
+  public void
+      builderGetHeaderGetPayload_shouldReturnHeaderAndPayloadViaEngineIfBidIsBelowMinimumValue() {
+    final SignedBuilderBid signedBuilderBid = dataStructureUtil.randomSignedBuilderBid();
+    executionLayerManager =
+        createExecutionLayerChannelImpl(
+            true, false, signedBuilderBid.getMessage().getValue().add(1));
+    setBuilderOnline();
+
+    final ExecutionPayloadContext executionPayloadContext =
+        dataStructureUtil.randomPayloadExecutionContext(false, true);
+    final UInt64 slot = executionPayloadContext.getForkChoiceState().getHeadBlockSlot();
+    final BeaconState state = dataStructureUtil.randomBeaconState(slot);
+
+    prepareBuilderGetHeaderResponse(executionPayloadContext, signedBuilderBid);
+    final ExecutionPayload payload = prepareEngineGetPayloadResponse(executionPayloadContext);
+
+    final ExecutionPayloadHeader header =
+        spec.getGenesisSpec()
+            .getSchemaDefinitions()
+            .toVersionBellatrix()
+            .orElseThrow()
+            .getExecutionPayloadHeaderSchema()
+            .createFromExecutionPayload(payload);
+
+    // we expect local engine header as result
+    assertThat(executionLayerManager.builderGetHeader(executionPayloadContext, state, false))
+        .isCompletedWithValue(header);
+    assertThat(getPayloadSourceCount("local", "bid_below_minimum_value")).isEqualTo(1);
+
+    final SignedBeaconBlock signedBlindedBeaconBlock =
+        dataStructureUtil.randomSignedBlindedBeaconBlock(slot);
+
+    // we expect result from the cached payload
+    assertThat(executionLayerManager.builderGetPayload(signedBlindedBeaconBlock))
+        .isCompletedWithValue(payload);
+
+    verify(executionBuilderClient, never()).getPayload(signedBlindedBeaconBlock);
+  }
+
+  @Test
+  public void builderGetHeader_shouldUseBuilderIfBidMatchesMinimumValue() {
+    final SignedBuilderBid signedBuilderBid = dataStructureUtil.randomSignedBuilderBid();
+    executionLayerManager =
+        createExecutionLayerChannelImpl(true, false, signedBuilderBid.getMessage().getValue());
+    setBuilderOnline();
+
+    final ExecutionPayloadContext executionPayloadContext =
+        dataStructureUtil.randomPayloadExecutionContext(false, true);
+    final UInt64 slot = executionPayloadContext.getForkChoiceState().getHeadBlockSlot();
+    final BeaconState state = dataStructureUtil.randomBeaconState(slot);
+
+    final ExecutionPayloadHeader header =
+        prepareBuilderGetHeaderResponse(executionPayloadContext, signedBuilderBid);
+    prepareEngineGetPayloadResponse(executionPayloadContext);
+
+    assertThat(executionLayerManager.builderGetHeader(executionPayloadContext, state, false))
+        .isCompletedWithValue(header);
+    assertThat(getPayloadSourceCount("builder", "none")).isEqualTo(1);
+  }
+
   @Test
   public void builderGetHeaderGetPayload_shouldReturnHeaderAndPayloadViaEngineIfBuilderNotActive() {
     setBuilderOffline();
@@ -428,9 +548,14 @@ class ExecutionLayerManagerImplTest {
 
   private ExecutionPayloadHeader prepareBuilderGetHeaderResponse(
       final ExecutionPayloadContext executionPayloadContext) {
-    final UInt64 slot = executionPayloadContext.getForkChoiceState().getHeadBlockSlot();
+    return prepareBuilderGetHeaderResponse(
+        executionPayloadContext, dataStructureUtil.randomSignedBuilderBid());
+  }
 
-    SignedBuilderBid signedBuilderBid = dataStructureUtil.randomSignedBuilderBid();
+  private ExecutionPayloadHeader prepareBuilderGetHeaderResponse(
+      final ExecutionPayloadContext executionPayloadContext,
+      final SignedBuilderBid signedBuilderBid) {
+    final UInt64 slot = executionPayloadContext.getForkChoiceState().getHeadBlockSlot();
 
     when(executionBuilderClient.getHeader(
             slot,
@@ -484,6 +609,11 @@ class ExecutionLayerManagerImplTest {
 
   private ExecutionLayerManagerImpl createExecutionLayerChannelImpl(
       boolean builderEnabled, boolean builderValidatorEnabled) {
+    return createExecutionLayerChannelImpl(builderEnabled, builderValidatorEnabled, UInt256.ZERO);
+  }
+
+  private ExecutionLayerManagerImpl createExecutionLayerChannelImpl(
+      boolean builderEnabled, boolean builderValidatorEnabled, UInt256 builderBidMinimumValue) {
     return new ExecutionLayerManagerImpl(
         executionEngineClient,
         builderEnabled ? Optional.of(executionBuilderClient) : Optional.empty(),
@@ -491,7 +621,16 @@ class ExecutionLayerManagerImplTest {
         eventLogger,
         builderValidatorEnabled
             ? new BuilderBidValidatorImpl(eventLogger)
-            : BuilderBidValidator.NOOP);
+            : BuilderBidValidator.NOOP,
+        builderBidMinimumValue,
+        builderGetHeaderDeadline,
+        metricsSystem);
+  }
+
+  private long getPayloadSourceCount(final String source, final String fallbackReason) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.BEACON, "execution_payload_source_total")
+        .getValue(source, fallbackReason);
   }
 
   private void updateBuilderStatus(SafeFuture<Response<Void>> builderClientResponse) {
@@ -24,6 +24,7 @@ import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.util.SyncCommitteePublicKeys;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 
@@ -51,6 +52,7 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
+          NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache()) {
 
         @Override
@@ -81,6 +83,7 @@ public class TransitionCaches {
   private final Cache<UInt64, UInt64> baseRewardPerIncrement;
 
   private final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache;
+  private final Cache<UInt64, SyncCommitteePublicKeys> syncCommitteePublicKeys;
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
 
@@ -95,6 +98,7 @@ public class TransitionCaches {
     committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
     effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
     syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
+    syncCommitteePublicKeys = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
     baseRewardPerIncrement = LRUCache.create(MAX_BASE_REWARD_PER_INCREMENT_CACHE);
   }
 
@@ -109,6 +113,7 @@ public class TransitionCaches {
       Cache<Bytes32, IntList> committeeShuffle,
       Cache<UInt64, List<UInt64>> effectiveBalances,
       Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
+      Cache<UInt64, SyncCommitteePublicKeys> syncCommitteePublicKeys,
       Cache<UInt64, UInt64> baseRewardPerIncrement) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
@@ -120,6 +125,7 @@ public class TransitionCaches {
     this.committeeShuffle = committeeShuffle;
     this.effectiveBalances = effectiveBalances;
     this.syncCommitteeCache = syncCommitteeCache;
+    this.syncCommitteePublicKeys = syncCommitteePublicKeys;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
   }
 
@@ -192,6 +198,11 @@ public class TransitionCaches {
     return syncCommitteeCache;
   }
 
+  /** (sync committee period) -> (sync committee public keys and aggregates) */
+  public Cache<UInt64, SyncCommitteePublicKeys> getSyncCommitteePublicKeys() {
+    return syncCommitteePublicKeys;
+  }
+
   public Cache<UInt64, UInt64> getBaseRewardPerIncrement() {
     return baseRewardPerIncrement;
   }
@@ -212,6 +223,7 @@ public class TransitionCaches {
         committeeShuffle.copy(),
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
+        syncCommitteePublicKeys.copy(),
         baseRewardPerIncrement.copy());
   }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Suppliers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
+
+/**
+ * Holds the public keys of a sync committee along with lazily calculated aggregates of the whole
+ * committee and of each subcommittee.
+ *
+ * <p>Participation is usually close to complete, so the aggregate of the participants is derived
+ * by removing the few non-participants from the cached aggregate rather than adding up every
+ * participant.
+ */
+public class SyncCommitteePublicKeys {
+
+  private final List<BLSPublicKey> publicKeys;
+  private final int subcommitteeSize;
+  private final Supplier<BLSPublicKey> aggregatePublicKey;
+  private final List<Supplier<BLSPublicKey>> subcommitteeAggregatePublicKeys;
+
+  public SyncCommitteePublicKeys(final List<BLSPublicKey> publicKeys, final int subcommitteeSize) {
+    checkArgument(
+        subcommitteeSize > 0 && publicKeys.size() % subcommitteeSize == 0,
+        "Sync committee size %s is not a multiple of subcommittee size %s",
+        publicKeys.size(),
+        subcommitteeSize);
+    this.publicKeys = List.copyOf(publicKeys);
+    this.subcommitteeSize = subcommitteeSize;
+    this.aggregatePublicKey = Suppliers.memoize(() -> BLSPublicKey.aggregate(this.publicKeys));
+    this.subcommitteeAggregatePublicKeys =
+        IntStream.range(0, publicKeys.size() / subcommitteeSize)
+            .mapToObj(
+                subcommitteeIndex ->
+                    Suppliers.memoize(
+                        () -> BLSPublicKey.aggregate(getSubcommitteePublicKeys(subcommitteeIndex))))
+            .collect(Collectors.toList());
+  }
+
+  public BLSPublicKey getPublicKey(final int committeeIndex) {
+    return publicKeys.get(committeeIndex);
+  }
+
+  public int size() {
+    return publicKeys.size();
+  }
+
+  /**
+   * Returns the aggregate public key of the sync committee members with their bit set.
+   *
+   * @param participationBits the participation bits covering the whole committee, at least one of
+   *     which must be set
+   * @return the aggregate public key of the participants
+   */
+  public BLSPublicKey getAggregatePublicKey(final SszBitvector participationBits) {
+    return aggregateParticipants(publicKeys, aggregatePublicKey, participationBits);
+  }
+
+  /**
+   * Returns the aggregate public key of the subcommittee members with their bit set.
+   *
+   * @param subcommitteeIndex the index of the subcommittee
+   * @param participationBits the participation bits covering the subcommittee, at least one of
+   *     which must be set
+   * @return the aggregate public key of the participants
+   */
+  public BLSPublicKey getSubcommitteeAggregatePublicKey(
+      final int subcommitteeIndex, final SszBitvector participationBits) {
+    return aggregateParticipants(
+        getSubcommitteePublicKeys(subcommitteeIndex),
+        subcommitteeAggregatePublicKeys.get(subcommitteeIndex),
+        participationBits);
+  }
+
+  private List<BLSPublicKey> getSubcommitteePublicKeys(final int subcommitteeIndex) {
+    final int startIndex = subcommitteeIndex * subcommitteeSize;
+    return publicKeys.subList(startIndex, startIndex + subcommitteeSize);
+  }
+
+  private static BLSPublicKey aggregateParticipants(
+      final List<BLSPublicKey> members,
+      final Supplier<BLSPublicKey> membersAggregate,
+      final SszBitvector participationBits) {
+    checkArgument(
+        participationBits.size() == members.size(),
+        "Expected %s participation bits but got %s",
+        members.size(),
+        participationBits.size());
+    final int participantCount = participationBits.getBitCount();
+    checkArgument(participantCount > 0, "Can't aggregate public keys without participants");
+
+    // If any member key is invalid the aggregate is the point at infinity and can't be subtracted
+    // from, so fall back to adding up the participants.
+    final boolean mostlyIdle = participantCount * 2 <= members.size();
+    if (mostlyIdle || !isValid(membersAggregate)) {
+      return BLSPublicKey.aggregate(selectMembers(members, participationBits, true));
+    }
+    return BLSPublicKey.subtract(
+        membersAggregate.get(), selectMembers(members, participationBits, false));
+  }
+
+  private static boolean isValid(final Supplier<BLSPublicKey> publicKey) {
+    try {
+      return publicKey.get().isValid();
+    } catch (final IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static List<BLSPublicKey> selectMembers(
+      final List<BLSPublicKey> members,
+      final SszBitvector participationBits,
+      final boolean participating) {
+    final List<BLSPublicKey> selected = new ArrayList<>();
+    for (int i = 0; i < members.size(); i++) {
+      if (participationBits.getBit(i) == participating) {
+        selected.add(members.get(i));
+      }
+    }
+    return selected;
+  }
+}
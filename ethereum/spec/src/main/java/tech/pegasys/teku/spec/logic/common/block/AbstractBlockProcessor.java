@@ -23,6 +23,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -128,20 +130,41 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final IndexedAttestationCache indexedAttestationCache,
       final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor)
       throws StateTransitionException {
-    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
-    final BeaconState result =
-        processAndValidateBlock(
-            signedBlock,
-            blockSlotState,
-            indexedAttestationCache,
-            signatureVerifier,
-            payloadExecutor);
-    if (!signatureVerifier.batchVerify()) {
-      throw new StateTransitionException(
-          "Batch signature verification failed for block "
-              + LogFormatter.formatBlock(signedBlock.getSlot(), signedBlock.getRoot()));
+    return processAndValidateBlock(
+        signedBlock,
+        blockSlotState,
+        indexedAttestationCache,
+        ForkJoinPool.commonPool(),
+        payloadExecutor);
+  }
+
+  @Override
+  public BeaconState processAndValidateBlock(
+      final SignedBeaconBlock signedBlock,
+      final BeaconState blockSlotState,
+      final IndexedAttestationCache indexedAttestationCache,
+      final Executor signatureExecutor,
+      final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor)
+      throws StateTransitionException {
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier(signatureExecutor);
+    try {
+      final BeaconState result =
+          processAndValidateBlock(
+              signedBlock,
+              blockSlotState,
+              indexedAttestationCache,
+              signatureVerifier,
+              payloadExecutor);
+      if (!signatureVerifier.batchVerify()) {
+        throw new StateTransitionException(
+            "Batch signature verification failed for block "
+                + LogFormatter.formatBlock(signedBlock.getSlot(), signedBlock.getRoot()));
+      }
+      return result;
+    } finally {
+      // Stop preparing signatures for a block which failed processing
+      signatureVerifier.cancel();
     }
-    return result;
   }
 
   @Override
@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.logic.common.block;
 
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
@@ -50,6 +51,28 @@ public interface BlockProcessor {
       final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor)
       throws StateTransitionException;
 
+  /**
+   * Processes and validates the given block, batch verifying its signatures. Signatures are
+   * prepared for verification on {@code signatureExecutor} while the rest of the block is
+   * processed.
+   *
+   * @param signedBlock The block to be processed
+   * @param blockSlotState The preState on which this block should be processed, this preState must
+   *     already be advanced to the block's slot
+   * @param indexedAttestationCache A cache of indexed attestations
+   * @param signatureExecutor The executor to prepare signatures for batch verification on
+   * @param payloadExecutor the optimistic payload executor to begin execution with
+   * @return The post state after processing the block on top of {@code blockSlotState}
+   * @throws StateTransitionException If the block is invalid or cannot be processed
+   */
+  BeaconState processAndValidateBlock(
+      SignedBeaconBlock signedBlock,
+      BeaconState blockSlotState,
+      IndexedAttestationCache indexedAttestationCache,
+      Executor signatureExecutor,
+      Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor)
+      throws StateTransitionException;
+
   /**
    * Processes the given block on top of {@code blockSlotState} and optionally validates the block
    *
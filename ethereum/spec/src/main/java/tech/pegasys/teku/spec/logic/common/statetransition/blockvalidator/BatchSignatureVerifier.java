@@ -18,7 +18,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -31,6 +36,13 @@ import tech.pegasys.teku.bls.BatchSemiAggregate;
  * BLSSignature)} call but just collects signatures which are then validated in a batched optimized
  * way with {@link #batchVerify()} call.
  *
+ * <p>The expensive preparation step of each signature ({@link BLS#prepareBatchVerify(int, List,
+ * Bytes, BLSSignature)}) is submitted to the supplied executor as soon as the signature is added,
+ * so it overlaps with whatever work the caller does before calling {@link #batchVerify()}. Any
+ * signature the executor hasn't started preparing by then is prepared by the thread calling {@link
+ * #batchVerify()}. If the batch is abandoned, {@link #cancel()} should be called so preparation
+ * which hasn't started yet is skipped.
+ *
  * <p>Every instance of this class is disposable, i.e. it is intended for just a single batch and a
  * single {@link #batchVerify()} call.
  *
@@ -38,11 +50,14 @@ import tech.pegasys.teku.bls.BatchSemiAggregate;
  */
 public class BatchSignatureVerifier implements BLSSignatureVerifier {
 
-  private static class Job {
+  @VisibleForTesting
+  static class Job {
     final int idx;
     final List<BLSPublicKey> publicKeys;
     final Bytes message;
     final BLSSignature signature;
+    final CompletableFuture<BatchSemiAggregate> semiAggregate = new CompletableFuture<>();
+    private final AtomicBoolean claimed = new AtomicBoolean(false);
 
     public Job(int idx, List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
       this.idx = idx;
@@ -50,11 +65,38 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
       this.message = message;
       this.signature = signature;
     }
+
+    /** Prepares the signature unless another thread has already claimed it. */
+    void prepareIfUnclaimed() {
+      if (!claimed.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        semiAggregate.complete(BLS.prepareBatchVerify(idx, publicKeys, message, signature));
+      } catch (final Throwable t) {
+        semiAggregate.completeExceptionally(t);
+      }
+    }
+
+    void cancel() {
+      claimed.set(true);
+    }
   }
 
+  private final Executor prepareExecutor;
+
   @VisibleForTesting final List<Job> toVerify = new ArrayList<>();
   private boolean complete = false;
 
+  public BatchSignatureVerifier() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /** @param prepareExecutor the executor to prepare each signature on as it is added */
+  public BatchSignatureVerifier(final Executor prepareExecutor) {
+    this.prepareExecutor = prepareExecutor;
+  }
+
   @Override
   public synchronized boolean verify(
       List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
@@ -63,7 +105,13 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
     }
 
     checkArgument(!publicKeys.isEmpty(), "No public keys supplied for verify");
-    toVerify.add(new Job(toVerify.size(), publicKeys, message, signature));
+    final Job job = new Job(toVerify.size(), publicKeys, message, signature);
+    toVerify.add(job);
+    try {
+      prepareExecutor.execute(job::prepareIfUnclaimed);
+    } catch (final RejectedExecutionException e) {
+      // Will be prepared by batchVerify instead
+    }
     return true;
   }
 
@@ -82,7 +130,8 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
 
   /**
    * Performs verification of all the signatures collected with one or more calls to {@link
-   * #verify(List, Bytes, BLSSignature)}
+   * #verify(List, Bytes, BLSSignature)}, preparing any which haven't been prepared in the
+   * background yet.
    *
    * <p>After this method completes the instance should be disposed and any subsequent calls to this
    * instance methods would fail with exception
@@ -91,15 +140,36 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
     if (complete) {
       throw new IllegalStateException("Reuse of disposable instance");
     }
-    List<BatchSemiAggregate> batchSemiAggregates =
-        toVerify.stream()
-            .parallel()
-            .map(job -> BLS.prepareBatchVerify(job.idx, job.publicKeys, job.message, job.signature))
-            .collect(Collectors.toList());
     complete = true;
+    final List<BatchSemiAggregate> batchSemiAggregates = joinSemiAggregates();
     if (batchSemiAggregates.isEmpty()) {
       return true;
     }
     return BLS.completeBatchVerify(batchSemiAggregates);
   }
+
+  /**
+   * Disposes this instance without verifying, skipping preparation of any signatures which hasn't
+   * started yet. Has no effect if {@link #batchVerify()} has already been called.
+   */
+  public synchronized void cancel() {
+    complete = true;
+    toVerify.forEach(Job::cancel);
+  }
+
+  private List<BatchSemiAggregate> joinSemiAggregates() {
+    final List<BatchSemiAggregate> result = new ArrayList<>(toVerify.size());
+    for (Job job : toVerify) {
+      job.prepareIfUnclaimed();
+      try {
+        result.add(job.semiAggregate.join());
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+    return result;
+  }
 }
@@ -212,13 +212,16 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   protected void applyDeltas(
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
-    // To optimize performance, calculate validator size once outside of the loop
-    int validatorsCount = state.getValidators().size();
-    for (int i = 0; i < validatorsCount; i++) {
-      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
-      balances.setElement(
-          i, balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty()));
-    }
+    // Nearly every balance changes so update them in bulk rather than tracking each change
+    balances.setAll(
+        i -> {
+          final RewardAndPenalty delta = attestationDeltas.getDelta(i);
+          return balances
+              .getElement(i)
+              .plus(delta.getReward())
+              .minusMinZero(delta.getPenalty())
+              .longValue();
+        });
   }
 
   /** Processes validator registry updates */
@@ -54,6 +54,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconStat
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
+import tech.pegasys.teku.spec.datastructures.util.SyncCommitteePublicKeys;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
@@ -154,12 +155,6 @@ public class SyncCommitteeUtil {
         .getOrDefault(validatorIndex, SyncSubcommitteeAssignments.NONE);
   }
 
-  public BLSPublicKey getCurrentSyncCommitteeParticipantPubKey(
-      final BeaconStateAltair state, final int committeeIndex) {
-    final SyncCommittee syncCommittee = state.getCurrentSyncCommittee();
-    return getSyncCommitteeParticipantPubKey(state, syncCommittee, committeeIndex);
-  }
-
   public BLSPublicKey getSyncCommitteeParticipantPubKey(
       final BeaconStateAltair state, final SyncCommittee syncCommittee, final int committeeIndex) {
     final BLSPublicKey uncachedPublicKey =
@@ -175,6 +170,33 @@ public class SyncCommitteeUtil {
             () -> new IllegalStateException("Validator in sync committee has no public key"));
   }
 
+  public SyncCommitteePublicKeys getCurrentSyncCommitteePublicKeys(final BeaconStateAltair state) {
+    return getSyncCommitteePublicKeys(state, beaconStateAccessors.getCurrentEpoch(state));
+  }
+
+  /**
+   * Returns the public keys of the sync committee for the given epoch. The result, including the
+   * aggregate public keys it calculates, is cached for the whole sync committee period.
+   */
+  public SyncCommitteePublicKeys getSyncCommitteePublicKeys(
+      final BeaconState state, final UInt64 epoch) {
+    final SyncCommittee syncCommittee = getSyncCommittee(state, epoch);
+    final BeaconStateAltair altairState = BeaconStateAltair.required(state);
+    return BeaconStateCache.getTransitionCaches(altairState)
+        .getSyncCommitteePublicKeys()
+        .get(
+            computeSyncCommitteePeriod(epoch),
+            period -> {
+              final int committeeSize = syncCommittee.getPubkeys().size();
+              final List<BLSPublicKey> publicKeys = new ArrayList<>(committeeSize);
+              for (int index = 0; index < committeeSize; index++) {
+                publicKeys.add(
+                    getSyncCommitteeParticipantPubKey(altairState, syncCommittee, index));
+              }
+              return new SyncCommitteePublicKeys(publicKeys, getSubcommitteeSize());
+            });
+  }
+
   public int getSubcommitteeSize() {
     return specConfig.getSyncCommitteeSize() / SYNC_COMMITTEE_SUBNET_COUNT;
   }
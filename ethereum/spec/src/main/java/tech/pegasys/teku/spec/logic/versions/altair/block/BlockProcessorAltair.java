@@ -44,6 +44,7 @@ import tech.pegasys.teku.spec.datastructures.operations.Deposit;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.util.SyncCommitteePublicKeys;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
@@ -182,12 +183,13 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
       final BLSSignatureVerifier signatureVerifier)
       throws BlockProcessingException {
     final MutableBeaconStateAltair state = MutableBeaconStateAltair.required(baseState);
+    final SyncCommitteePublicKeys syncCommitteePublicKeys =
+        syncCommitteeUtil.getCurrentSyncCommitteePublicKeys(state);
     final List<BLSPublicKey> participantPubkeys = new ArrayList<>();
     final List<BLSPublicKey> idlePubkeys = new ArrayList<>();
 
     for (int i = 0; i < specConfigAltair.getSyncCommitteeSize(); i++) {
-      final BLSPublicKey publicKey =
-          syncCommitteeUtil.getCurrentSyncCommitteeParticipantPubKey(state, i);
+      final BLSPublicKey publicKey = syncCommitteePublicKeys.getPublicKey(i);
       if (aggregate.getSyncCommitteeBits().getBit(i)) {
         participantPubkeys.add(publicKey);
       } else {
@@ -205,9 +207,16 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
         miscHelpersAltair.computeSigningRoot(
             beaconStateAccessors.getBlockRootAtSlot(state, previousSlot), domain);
 
+    // Verify against the aggregate of the participants' keys, which is derived from the cached
+    // aggregate of the whole committee when most members participated.
+    final List<BLSPublicKey> signingPubkeys =
+        participantPubkeys.isEmpty()
+            ? List.of()
+            : List.of(
+                syncCommitteePublicKeys.getAggregatePublicKey(aggregate.getSyncCommitteeBits()));
     if (!eth2FastAggregateVerify(
         signatureVerifier,
-        participantPubkeys,
+        signingPubkeys,
         signingRoot,
         aggregate.getSyncCommitteeSignature().getSignature())) {
       throw new BlockProcessingException("Invalid sync committee signature in " + aggregate);
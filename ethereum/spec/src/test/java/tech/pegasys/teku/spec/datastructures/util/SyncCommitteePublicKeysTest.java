@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitvectorSchema;
+
+class SyncCommitteePublicKeysTest {
+  private static final int COMMITTEE_SIZE = 8;
+  private static final int SUBCOMMITTEE_SIZE = 4;
+  private static final BLSPublicKey INFINITY_PUBLIC_KEY =
+      BLSPublicKey.fromBytesCompressed(
+          Bytes48.fromHexString(
+              "0xc00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000"));
+
+  private final List<BLSPublicKey> publicKeys =
+      IntStream.range(0, COMMITTEE_SIZE)
+          .mapToObj(BLSTestUtil::randomPublicKey)
+          .collect(Collectors.toList());
+  private final SyncCommitteePublicKeys syncCommitteePublicKeys =
+      new SyncCommitteePublicKeys(publicKeys, SUBCOMMITTEE_SIZE);
+
+  @Test
+  void getAggregatePublicKey_shouldAggregateWhenMostMembersParticipate() {
+    assertThat(syncCommitteePublicKeys.getAggregatePublicKey(committeeBits(0, 1, 2, 4, 5, 6, 7)))
+        .isEqualTo(aggregate(0, 1, 2, 4, 5, 6, 7));
+  }
+
+  @Test
+  void getAggregatePublicKey_shouldAggregateWhenAllMembersParticipate() {
+    assertThat(syncCommitteePublicKeys.getAggregatePublicKey(committeeBits(0, 1, 2, 3, 4, 5, 6, 7)))
+        .isEqualTo(BLSPublicKey.aggregate(publicKeys));
+  }
+
+  @Test
+  void getAggregatePublicKey_shouldAggregateWhenFewMembersParticipate() {
+    assertThat(syncCommitteePublicKeys.getAggregatePublicKey(committeeBits(3, 6)))
+        .isEqualTo(aggregate(3, 6));
+  }
+
+  @Test
+  void getAggregatePublicKey_shouldRejectEmptyParticipation() {
+    assertThatThrownBy(() -> syncCommitteePublicKeys.getAggregatePublicKey(committeeBits()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void getSubcommitteeAggregatePublicKey_shouldAggregateParticipantsOfSubcommittee() {
+    assertThat(
+            syncCommitteePublicKeys.getSubcommitteeAggregatePublicKey(1, subcommitteeBits(0, 1, 3)))
+        .isEqualTo(aggregate(4, 5, 7));
+    assertThat(syncCommitteePublicKeys.getSubcommitteeAggregatePublicKey(0, subcommitteeBits(2)))
+        .isEqualTo(aggregate(2));
+  }
+
+  @Test
+  void getAggregatePublicKey_shouldAggregateDirectlyWhenCommitteeContainsInvalidKey() {
+    final List<BLSPublicKey> keysWithInvalid =
+        IntStream.range(0, COMMITTEE_SIZE)
+            .mapToObj(i -> i == 3 ? INFINITY_PUBLIC_KEY : publicKeys.get(i))
+            .collect(Collectors.toList());
+    final SyncCommitteePublicKeys committee =
+        new SyncCommitteePublicKeys(keysWithInvalid, SUBCOMMITTEE_SIZE);
+
+    assertThat(committee.getAggregatePublicKey(committeeBits(0, 1, 2, 4, 5, 6, 7)))
+        .isEqualTo(aggregate(0, 1, 2, 4, 5, 6, 7));
+  }
+
+  private BLSPublicKey aggregate(final int... indices) {
+    return BLSPublicKey.aggregate(
+        IntStream.of(indices).mapToObj(publicKeys::get).collect(Collectors.toList()));
+  }
+
+  private SszBitvector committeeBits(final int... setBits) {
+    return SszBitvectorSchema.create(COMMITTEE_SIZE).ofBits(setBits);
+  }
+
+  private SszBitvector subcommitteeBits(final int... setBits) {
+    return SszBitvectorSchema.create(SUBCOMMITTEE_SIZE).ofBits(setBits);
+  }
+}
@@ -17,16 +17,20 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
@@ -100,4 +104,77 @@ public class BatchSignatureVerifierTest {
     final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
     assertThat(verifier.batchVerify()).isTrue();
   }
+
+  @Test
+  void shouldVerifyValidSignatures() {
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    addValidSignatures(verifier, 10);
+
+    assertThat(verifier.batchVerify()).isTrue();
+  }
+
+  @Test
+  void shouldFailWhenAnySignatureIsInvalid() {
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    addValidSignatures(verifier, 10);
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(10);
+    verifier.verify(
+        List.of(keyPair.getPublicKey()),
+        Bytes.of(10),
+        BLS.sign(keyPair.getSecretKey(), Bytes.of(11)));
+
+    assertThat(verifier.batchVerify()).isFalse();
+  }
+
+  @Test
+  void shouldRejectReuse() {
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    verifier.batchVerify();
+
+    assertThatThrownBy(verifier::batchVerify).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldPrepareSignaturesNotStartedByExecutorWhenBatchVerifying() {
+    final List<Runnable> queuedTasks = new ArrayList<>();
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier(queuedTasks::add);
+    addValidSignatures(verifier, 3);
+
+    assertThat(queuedTasks).hasSize(3);
+    assertThat(verifier.batchVerify()).isTrue();
+  }
+
+  @Test
+  void shouldPrepareSignaturesWhenExecutorRejectsTasks() {
+    final BatchSignatureVerifier verifier =
+        new BatchSignatureVerifier(
+            task -> {
+              throw new RejectedExecutionException("Shutdown");
+            });
+    addValidSignatures(verifier, 3);
+
+    assertThat(verifier.batchVerify()).isTrue();
+  }
+
+  @Test
+  void shouldSkipPendingPreparationWhenCancelled() {
+    final List<Runnable> queuedTasks = new ArrayList<>();
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier(queuedTasks::add);
+    addValidSignatures(verifier, 3);
+
+    verifier.cancel();
+    queuedTasks.forEach(Runnable::run);
+
+    assertThat(verifier.toVerify).noneMatch(job -> job.semiAggregate.isDone());
+    assertThatThrownBy(verifier::batchVerify).isInstanceOf(IllegalStateException.class);
+  }
+
+  private void addValidSignatures(final BatchSignatureVerifier verifier, final int count) {
+    for (int i = 0; i < count; i++) {
+      final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(i);
+      final Bytes message = Bytes.of(i);
+      verifier.verify(
+          List.of(keyPair.getPublicKey()), message, BLS.sign(keyPair.getSecretKey(), message));
+    }
+  }
 }
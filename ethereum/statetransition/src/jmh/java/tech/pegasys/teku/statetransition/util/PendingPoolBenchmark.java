@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+public class PendingPoolBenchmark {
+  private static final int SLOTS = 64;
+  private static final UInt64 CURRENT_SLOT = UInt64.valueOf(1000);
+
+  @Param({"1000", "5000"})
+  int itemCount;
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final PendingPoolFactory poolFactory = new PendingPoolFactory(new NoOpMetricsSystem());
+  private final List<Bytes32> parentRoots = new ArrayList<>();
+  private final List<SignedBeaconBlock> blocks = new ArrayList<>();
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < SLOTS; i++) {
+      parentRoots.add(dataStructureUtil.randomBytes32());
+    }
+    for (int i = 0; i < itemCount; i++) {
+      final UInt64 slot = CURRENT_SLOT.minus(i % SLOTS);
+      blocks.add(dataStructureUtil.randomSignedBeaconBlock(slot, parentRoots.get(i % SLOTS)));
+    }
+  }
+
+  @Benchmark
+  public void addAndRemoveDependents(final Blackhole bh) {
+    final PendingPool<SignedBeaconBlock> pool = createPool();
+    blocks.forEach(pool::add);
+    for (Bytes32 parentRoot : parentRoots) {
+      bh.consume(pool.removeItemsDependingOn(parentRoot, false));
+    }
+  }
+
+  @Benchmark
+  public void addAndPrune(final Blackhole bh) {
+    final PendingPool<SignedBeaconBlock> pool = createPool();
+    blocks.forEach(pool::add);
+    pool.onSlot(CURRENT_SLOT.plus(SLOTS / 2));
+    pool.prune();
+    bh.consume(pool.size());
+  }
+
+  @Benchmark
+  public void addBeyondLimit(final Blackhole bh) {
+    final PendingPool<SignedBeaconBlock> pool = createPool(itemCount / 2);
+    blocks.forEach(pool::add);
+    bh.consume(pool.size());
+  }
+
+  private PendingPool<SignedBeaconBlock> createPool() {
+    return createPool(itemCount);
+  }
+
+  private PendingPool<SignedBeaconBlock> createPool(final int maxItems) {
+    final PendingPool<SignedBeaconBlock> pool =
+        poolFactory.createForBlocks(
+            spec, UInt64.valueOf(SLOTS * 2), FutureItems.DEFAULT_FUTURE_SLOT_TOLERANCE, maxItems);
+    pool.onSlot(CURRENT_SLOT);
+    return pool;
+  }
+}
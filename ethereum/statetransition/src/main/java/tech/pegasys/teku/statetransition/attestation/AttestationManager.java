@@ -177,17 +177,15 @@ public class AttestationManager extends Service
     final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
     activeValidatorChannel.onBlockImported(block);
     pendingAttestations
-        .getItemsDependingOn(blockRoot, false)
+        .removeItemsDependingOn(blockRoot, false)
         .forEach(
-            attestation -> {
-              pendingAttestations.remove(attestation);
-              onAttestation(attestation)
-                  .finish(
-                      err ->
-                          LOG.error(
-                              "Failed to process pending attestation dependent on " + blockRoot,
-                              err));
-            });
+            attestation ->
+                onAttestation(attestation)
+                    .finish(
+                        err ->
+                            LOG.error(
+                                "Failed to process pending attestation dependent on " + blockRoot,
+                                err)));
   }
 
   public SafeFuture<AttestationProcessingResult> onAttestation(
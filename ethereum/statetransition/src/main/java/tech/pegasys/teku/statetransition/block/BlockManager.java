@@ -151,8 +151,8 @@ public class BlockManager extends Service
     // Check if any pending blocks can now be imported
     final Bytes32 blockRoot = block.getRoot();
     pendingBlocks.remove(block);
-    final List<SignedBeaconBlock> children = pendingBlocks.getItemsDependingOn(blockRoot, false);
-    children.forEach(pendingBlocks::remove);
+    final List<SignedBeaconBlock> children =
+        pendingBlocks.removeItemsDependingOn(blockRoot, false);
     children.forEach(this::importBlockIgnoringResult);
   }
 
@@ -265,14 +265,12 @@ public class BlockManager extends Service
     pendingBlocks.remove(block);
 
     pendingBlocks
-        .getItemsDependingOn(blockRoot, true)
+        .removeItemsDependingOn(blockRoot, true)
         .forEach(
-            blockToDrop -> {
-              invalidBlockRoots.put(
-                  blockToDrop.getMessage().hashTreeRoot(),
-                  BlockImportResult.FAILED_DESCENDANT_OF_INVALID_BLOCK);
-              pendingBlocks.remove(blockToDrop);
-            });
+            blockToDrop ->
+                invalidBlockRoots.put(
+                    blockToDrop.getMessage().hashTreeRoot(),
+                    BlockImportResult.FAILED_DESCENDANT_OF_INVALID_BLOCK));
   }
 
   private void lateBlockImportCheck(
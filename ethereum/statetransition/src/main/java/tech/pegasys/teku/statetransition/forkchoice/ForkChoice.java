@@ -23,6 +23,8 @@ import com.google.common.base.Throwables;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -80,6 +82,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   private final boolean proposerBoostEnabled;
   private final boolean equivocatingIndicesEnabled;
   private final AttestationStateSelector attestationStateSelector;
+  private final Executor signatureVerificationExecutor;
   private final DeferredAttestations deferredAttestations = new DeferredAttestations();
 
   private final Subscribers<OptimisticHeadSubscriber> optimisticSyncSubscribers =
@@ -94,7 +97,8 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final ForkChoiceNotifier forkChoiceNotifier,
       final MergeTransitionBlockValidator transitionBlockValidator,
       final boolean proposerBoostEnabled,
-      final boolean equivocatingIndicesEnabled) {
+      final boolean equivocatingIndicesEnabled,
+      final Executor signatureVerificationExecutor) {
     this.spec = spec;
     this.forkChoiceExecutor = forkChoiceExecutor;
     this.recentChainData = recentChainData;
@@ -102,12 +106,32 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     this.transitionBlockValidator = transitionBlockValidator;
     this.proposerBoostEnabled = proposerBoostEnabled;
     this.equivocatingIndicesEnabled = equivocatingIndicesEnabled;
+    this.signatureVerificationExecutor = signatureVerificationExecutor;
     this.attestationStateSelector = new AttestationStateSelector(spec, recentChainData);
     this.tickProcessor = new TickProcessor(spec, recentChainData);
     recentChainData.subscribeStoreInitialized(this::initializeProtoArrayForkChoice);
     forkChoiceNotifier.subscribeToForkChoiceUpdatedResult(this);
   }
 
+  public ForkChoice(
+      final Spec spec,
+      final EventThread forkChoiceExecutor,
+      final RecentChainData recentChainData,
+      final ForkChoiceNotifier forkChoiceNotifier,
+      final MergeTransitionBlockValidator transitionBlockValidator,
+      final boolean proposerBoostEnabled,
+      final boolean equivocatingIndicesEnabled) {
+    this(
+        spec,
+        forkChoiceExecutor,
+        recentChainData,
+        forkChoiceNotifier,
+        transitionBlockValidator,
+        proposerBoostEnabled,
+        equivocatingIndicesEnabled,
+        ForkJoinPool.commonPool());
+  }
+
   /**
    * @deprecated Provided only to avoid having to hard code proposerBoostEnabled in lots of tests.
    *     Will be removed when the feature toggle is removed.
@@ -265,6 +289,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                   block,
                   blockSlotState.get(),
                   indexedAttestationCache,
+                  signatureVerificationExecutor,
                   Optional.of(payloadExecutor));
     } catch (final StateTransitionException e) {
       final BlockImportResult result = BlockImportResult.failedStateTransition(e);
@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -31,14 +30,13 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
-import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.ContributionAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
-import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
@@ -228,24 +226,18 @@ public class SignedContributionAndProofValidator {
           "Rejecting proof %s because aggregator signature is invalid", proof.getSignature());
     }
 
-    final SpecConfigAltair config =
-        SpecConfigAltair.required(spec.getSpecConfig(contributionEpoch));
-    final SyncCommittee syncCommittee =
-        syncCommitteeUtil.getSyncCommittee(state, contributionEpoch);
-    final int subcommitteeSize = config.getSyncCommitteeSize() / SYNC_COMMITTEE_SUBNET_COUNT;
-
     // [REJECT] The aggregate signature is valid for the message beacon_block_root and
     // aggregate pubkey derived from the participation info in aggregation_bits for the
     // subcommittee specified by the subcommittee_index.
+    final SszBitvector aggregationBits = contribution.getAggregationBits();
     final List<BLSPublicKey> contributorPublicKeys =
-        contribution
-            .getAggregationBits()
-            .streamAllSetBits()
-            .mapToObj(
-                participantIndex ->
-                    getParticipantPublicKey(
-                        state, syncCommittee, contribution, subcommitteeSize, participantIndex))
-            .collect(Collectors.toList());
+        aggregationBits.getBitCount() == 0
+            ? List.of()
+            : List.of(
+                syncCommitteeUtil
+                    .getSyncCommitteePublicKeys(state, contributionEpoch)
+                    .getSubcommitteeAggregatePublicKey(
+                        contribution.getSubcommitteeIndex().intValue(), aggregationBits));
 
     if (!signatureVerifier.verify(
         contributorPublicKeys,
@@ -279,18 +271,6 @@ public class SignedContributionAndProofValidator {
             });
   }
 
-  private BLSPublicKey getParticipantPublicKey(
-      final BeaconStateAltair state,
-      final SyncCommittee syncCommittee,
-      final SyncCommitteeContribution contribution,
-      final int subcommitteeSize,
-      final int participantIndex) {
-    final int committeeIndex =
-        contribution.getSubcommitteeIndex().intValue() * subcommitteeSize + participantIndex;
-    return spec.getSyncCommitteeUtilRequired(state.getSlot())
-        .getSyncCommitteeParticipantPubKey(state, syncCommittee, committeeIndex);
-  }
-
   private boolean isInSyncSubcommittee(
       final SyncCommitteeUtil syncCommitteeUtil,
       final SyncCommitteeContribution contribution,
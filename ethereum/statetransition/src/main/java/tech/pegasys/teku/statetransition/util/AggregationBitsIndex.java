@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitSet;
+
+/**
+ * Tracks a collection of aggregation bits and answers whether a given set of bits is a subset of
+ * any one of them.
+ *
+ * <p>Bits are stored as packed long words so subset checks compare 64 validators at a time. Entries
+ * are bucketed by the number of bits set, as only entries with at least as many bits can be a
+ * superset, and the union of all entries is tracked so bits that include any new validator are
+ * rejected without checking individual entries. Entries that become a subset of a newly added entry
+ * are discarded as they can no longer affect the result.
+ *
+ * <p>This class is not thread safe.
+ */
+public class AggregationBitsIndex {
+
+  private final NavigableMap<Integer, List<long[]>> entriesByBitCount =
+      new TreeMap<>(Comparator.reverseOrder()); // Most bits first
+
+  private long[] union = new long[0];
+
+  /**
+   * Checks whether the given bits are a subset of (or equal to) any single entry in the index.
+   *
+   * @param bits the bits to check
+   * @return true if an entry exists that includes every bit set in {@code bits}
+   */
+  public boolean containsSupersetOf(final SszBitSet bits) {
+    return containsSupersetOf(bits.toLongArray());
+  }
+
+  /**
+   * Adds the given bits to the index unless they are already a subset of an existing entry.
+   *
+   * @param bits the bits to add
+   * @return true if the bits were added, false if they were already covered by an existing entry
+   */
+  public boolean add(final SszBitSet bits) {
+    final long[] words = bits.toLongArray();
+    if (containsSupersetOf(words)) {
+      return false;
+    }
+    final int bitCount = bitCount(words);
+    // Drop entries made redundant by the new one. Equal bit counts can't be a strict subset.
+    for (Iterator<List<long[]>> buckets =
+            entriesByBitCount.tailMap(bitCount, false).values().iterator();
+        buckets.hasNext(); ) {
+      final List<long[]> bucket = buckets.next();
+      bucket.removeIf(entry -> isSubset(entry, words));
+      if (bucket.isEmpty()) {
+        buckets.remove();
+      }
+    }
+    entriesByBitCount.computeIfAbsent(bitCount, __ -> new ArrayList<>()).add(words);
+    union = or(union, words);
+    return true;
+  }
+
+  public boolean isEmpty() {
+    return entriesByBitCount.isEmpty();
+  }
+
+  public int size() {
+    return entriesByBitCount.values().stream().mapToInt(List::size).sum();
+  }
+
+  private boolean containsSupersetOf(final long[] words) {
+    if (isEmpty() || !isSubset(words, union)) {
+      return false;
+    }
+    for (List<long[]> bucket : entriesByBitCount.headMap(bitCount(words), true).values()) {
+      for (long[] entry : bucket) {
+        if (isSubset(words, entry)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isSubset(final long[] subset, final long[] superset) {
+    for (int i = 0; i < subset.length; i++) {
+      final long supersetWord = i < superset.length ? superset[i] : 0;
+      if ((subset[i] & ~supersetWord) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long[] or(final long[] a, final long[] b) {
+    final long[] longer = a.length >= b.length ? a : b;
+    final long[] shorter = a.length >= b.length ? b : a;
+    final long[] result = longer.clone();
+    for (int i = 0; i < shorter.length; i++) {
+      result[i] |= shorter[i];
+    }
+    return result;
+  }
+
+  private static int bitCount(final long[] words) {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+}
@@ -16,24 +16,27 @@ package tech.pegasys.teku.statetransition.util;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableSet;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
@@ -42,12 +45,17 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 
+/**
+ * Holds items which can't be processed until the blocks they depend on are available.
+ *
+ * <p>Items are bucketed by slot so that pruning and enforcing the size limit remove whole slots at
+ * a time. Modifications are synchronized but lookups by root don't take the lock. Subscribers are
+ * notified while the lock is held so that the required and dropped notifications for a root are
+ * always delivered in order.
+ */
 public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointChannel {
   private static final Logger LOG = LogManager.getLogger();
 
-  private static final Comparator<SlotAndRoot> SLOT_AND_ROOT_COMPARATOR =
-      Comparator.comparing(SlotAndRoot::getSlot).thenComparing(SlotAndRoot::getRoot);
-
   private final String itemType;
   private final Spec spec;
   private final Subscribers<RequiredBlockRootSubscriber> requiredBlockRootSubscribers =
@@ -55,9 +63,8 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
   private final Subscribers<RequiredBlockRootDroppedSubscriber>
       requiredBlockRootDroppedSubscribers = Subscribers.create(true);
 
-  private final Map<Bytes32, T> pendingItems = new HashMap<>();
-  private final NavigableSet<SlotAndRoot> orderedPendingItems =
-      new TreeSet<>(SLOT_AND_ROOT_COMPARATOR);
+  private final Map<Bytes32, T> pendingItems = new ConcurrentHashMap<>();
+  private final NavigableMap<UInt64, Set<Bytes32>> pendingItemsBySlot = new TreeMap<>();
   private final Map<Bytes32, Set<Bytes32>> pendingItemsByRequiredBlockRoot = new HashMap<>();
   // Define the range of slots we care about
   private final UInt64 futureSlotTolerance;
@@ -68,12 +75,15 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
   private final Function<T, Collection<Bytes32>> requiredBlockRootsFunction;
   private final Function<T, UInt64> targetSlotFunction;
   private final SettableLabelledGauge sizeGauge;
+  private final Counter evictedItemsCounter;
+  private final Counter prunedItemsCounter;
 
   private volatile UInt64 currentSlot = UInt64.ZERO;
   private volatile UInt64 latestFinalizedSlot = GENESIS_SLOT;
 
   PendingPool(
       final SettableLabelledGauge sizeGauge,
+      final LabelledMetric<Counter> droppedItemsCounter,
       final String itemType,
       final Spec spec,
       final UInt64 historicalSlotTolerance,
@@ -91,57 +101,85 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
     this.requiredBlockRootsFunction = requiredBlockRootsFunction;
     this.targetSlotFunction = targetSlotFunction;
     this.sizeGauge = sizeGauge;
+    this.evictedItemsCounter = droppedItemsCounter.labels(itemType, "evicted");
+    this.prunedItemsCounter = droppedItemsCounter.labels(itemType, "pruned");
     sizeGauge.set(0, itemType); // Init the label so it appears in metrics immediately
   }
 
-  public synchronized void add(T item) {
+  public void add(T item) {
     if (shouldIgnoreItem(item)) {
       // Ignore items outside of the range we care about
       return;
     }
 
-    // Make room for the new item
-    while (pendingItems.size() > (maxItems - 1)) {
-      final SlotAndRoot toRemove = orderedPendingItems.pollFirst();
-      if (toRemove == null) {
-        break;
-      }
-      remove(pendingItems.get(toRemove.getRoot()));
-    }
-
+    final UInt64 itemSlot = targetSlotFunction.apply(item);
     final Bytes32 itemRoot = hashTreeRootFunction.apply(item);
     final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(item);
 
-    requiredRoots.forEach(
-        requiredRoot ->
-            // Index item by required roots
-            pendingItemsByRequiredBlockRoot
-                .computeIfAbsent(
-                    requiredRoot,
-                    (key) -> {
-                      final Set<Bytes32> dependants = new HashSet<>();
-                      requiredBlockRootSubscribers.forEach(
-                          c -> c.onRequiredBlockRoot(requiredRoot));
-                      return dependants;
-                    })
-                .add(itemRoot));
-
-    // Index item by root
-    if (pendingItems.putIfAbsent(itemRoot, item) == null) {
-      LOG.trace(
-          "Save unattached item at slot {} for future import: {}",
-          targetSlotFunction.apply(item),
-          item);
-      sizeGauge.set(pendingItems.size(), itemType);
-    }
+    synchronized (this) {
+      // Make room for the new item
+      int evictedItems = 0;
+      while (pendingItems.size() > (maxItems - 1) && !pendingItemsBySlot.isEmpty()) {
+        final Set<Bytes32> oldestSlotItems = pendingItemsBySlot.firstEntry().getValue();
+        final Bytes32 toRemove = oldestSlotItems.iterator().next();
+        removeItem(pendingItems.get(toRemove));
+        evictedItems++;
+      }
+      evictedItemsCounter.inc(evictedItems);
+
+      requiredRoots.forEach(
+          requiredRoot ->
+              // Index item by required roots
+              pendingItemsByRequiredBlockRoot
+                  .computeIfAbsent(
+                      requiredRoot,
+                      (key) -> {
+                        requiredBlockRootSubscribers.forEach(
+                            c -> c.onRequiredBlockRoot(requiredRoot));
+                        return new HashSet<>();
+                      })
+                  .add(itemRoot));
+
+      // Index item by root
+      if (pendingItems.putIfAbsent(itemRoot, item) == null) {
+        LOG.trace("Save unattached item at slot {} for future import: {}", itemSlot, item);
+        sizeGauge.set(pendingItems.size(), itemType);
+      }
 
-    orderedPendingItems.add(toSlotAndRoot(item));
+      pendingItemsBySlot.computeIfAbsent(itemSlot, __ -> new LinkedHashSet<>()).add(itemRoot);
+    }
   }
 
   public synchronized void remove(T item) {
-    final SlotAndRoot itemSlotAndRoot = toSlotAndRoot(item);
-    orderedPendingItems.remove(itemSlotAndRoot);
-    pendingItems.remove(itemSlotAndRoot.getRoot());
+    removeItem(item);
+  }
+
+  /**
+   * Removes and returns any items that are dependent on the given block root in a single pass.
+   *
+   * @param blockRoot The block root that some pending items may depend on.
+   * @param includeIndirectDependents Whether to include items that depend indirectly on the given
+   *     root. See {@link #getItemsDependingOn(Bytes32, boolean)}.
+   * @return The list of items removed from the pool.
+   */
+  public synchronized List<T> removeItemsDependingOn(
+      final Bytes32 blockRoot, final boolean includeIndirectDependents) {
+    final List<T> items = getItemsDependingOn(blockRoot, includeIndirectDependents);
+    items.forEach(this::removeItem);
+    return items;
+  }
+
+  private void removeItem(final T item) {
+    final UInt64 itemSlot = targetSlotFunction.apply(item);
+    final Bytes32 itemRoot = hashTreeRootFunction.apply(item);
+    final Set<Bytes32> slotItems = pendingItemsBySlot.get(itemSlot);
+    if (slotItems != null) {
+      slotItems.remove(itemRoot);
+      if (slotItems.isEmpty()) {
+        pendingItemsBySlot.remove(itemSlot);
+      }
+    }
+    pendingItems.remove(itemRoot);
 
     final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(item);
     requiredRoots.forEach(
@@ -150,7 +188,7 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
           if (childSet == null) {
             return;
           }
-          childSet.remove(itemSlotAndRoot.getRoot());
+          childSet.remove(itemRoot);
           if (pendingItemsByRequiredBlockRoot.remove(requiredRoot, Collections.emptySet())) {
             requiredBlockRootDroppedSubscribers.forEach(
                 s -> s.onRequiredBlockRootDropped(requiredRoot));
@@ -159,7 +197,7 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
     sizeGauge.set(pendingItems.size(), itemType);
   }
 
-  public synchronized int size() {
+  public int size() {
     return pendingItems.size();
   }
 
@@ -168,11 +206,11 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
     return contains(itemRoot);
   }
 
-  public synchronized boolean contains(final Bytes32 itemRoot) {
+  public boolean contains(final Bytes32 itemRoot) {
     return pendingItems.containsKey(itemRoot);
   }
 
-  public synchronized Optional<T> get(final Bytes32 itemRoot) {
+  public Optional<T> get(final Bytes32 itemRoot) {
     return Optional.ofNullable(pendingItems.get(itemRoot));
   }
 
@@ -284,16 +322,22 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
   @VisibleForTesting
   synchronized void prune() {
     final UInt64 slotLimit = latestFinalizedSlot.max(calculateItemAgeLimit());
-
-    final List<T> toRemove = new ArrayList<>();
-    for (SlotAndRoot slotAndRoot : orderedPendingItems) {
-      if (slotAndRoot.getSlot().isGreaterThan(slotLimit)) {
-        break;
+    int prunedItems = 0;
+    for (Iterator<Set<Bytes32>> slots =
+            pendingItemsBySlot.headMap(slotLimit, true).values().iterator();
+        slots.hasNext(); ) {
+      final Set<Bytes32> slotItems = slots.next();
+      // Remove the whole slot at once rather than one item at a time
+      slots.remove();
+      for (Bytes32 itemRoot : slotItems) {
+        final T item = pendingItems.get(itemRoot);
+        if (item != null) {
+          removeItem(item);
+          prunedItems++;
+        }
       }
-      toRemove.add(pendingItems.get(slotAndRoot.getRoot()));
     }
-
-    toRemove.forEach(this::remove);
+    prunedItemsCounter.inc(prunedItems);
   }
 
   private boolean shouldIgnoreItem(final T item) {
@@ -328,12 +372,6 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
     return currentSlot.plus(futureSlotTolerance);
   }
 
-  private SlotAndRoot toSlotAndRoot(final T item) {
-    final UInt64 slot = targetSlotFunction.apply(item);
-    final Bytes32 root = hashTreeRootFunction.apply(item);
-    return new SlotAndRoot(slot, root);
-  }
-
   public interface RequiredBlockRootSubscriber {
     void onRequiredBlockRoot(final Bytes32 blockRoot);
   }
@@ -341,22 +379,4 @@ public class PendingPool<T> implements SlotEventsChannel, FinalizedCheckpointCha
   public interface RequiredBlockRootDroppedSubscriber {
     void onRequiredBlockRootDropped(final Bytes32 blockRoot);
   }
-
-  private static class SlotAndRoot {
-    private final UInt64 slot;
-    private final Bytes32 root;
-
-    private SlotAndRoot(final UInt64 slot, final Bytes32 root) {
-      this.slot = slot;
-      this.root = root;
-    }
-
-    public UInt64 getSlot() {
-      return slot;
-    }
-
-    public Bytes32 getRoot() {
-      return root;
-    }
-  }
 }
@@ -15,6 +15,8 @@ package tech.pegasys.teku.statetransition.util;
 
 import java.util.Collections;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -27,6 +29,7 @@ public class PendingPoolFactory {
   private static final UInt64 DEFAULT_HISTORICAL_SLOT_TOLERANCE = UInt64.valueOf(320);
   private static final int DEFAULT_MAX_ITEMS = 5000;
   private final SettableLabelledGauge sizeGauge;
+  private final LabelledMetric<Counter> droppedItemsCounter;
 
   public PendingPoolFactory(final MetricsSystem metricsSystem) {
     this.sizeGauge =
@@ -36,6 +39,13 @@ public class PendingPoolFactory {
             "pending_pool_size",
             "Number of items in pending pool",
             "type");
+    this.droppedItemsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "pending_pool_dropped_total",
+            "Number of items dropped from pending pool before they could be processed",
+            "type",
+            "reason");
   }
 
   public PendingPool<SignedBeaconBlock> createForBlocks(final Spec spec) {
@@ -53,6 +63,7 @@ public class PendingPoolFactory {
       final int maxItems) {
     return new PendingPool<>(
         sizeGauge,
+        droppedItemsCounter,
         "blocks",
         spec,
         historicalBlockTolerance,
@@ -66,6 +77,7 @@ public class PendingPoolFactory {
   public PendingPool<ValidateableAttestation> createForAttestations(final Spec spec) {
     return new PendingPool<>(
         sizeGauge,
+        droppedItemsCounter,
         "attestations",
         spec,
         DEFAULT_HISTORICAL_SLOT_TOLERANCE,
@@ -13,39 +13,33 @@
 
 package tech.pegasys.teku.statetransition.util;
 
-import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitSet;
 
 public class SeenAggregatesCache<KeyT> {
 
-  private final Map<KeyT, Set<SszBitSet>> seenAggregationBitsByDataRoot;
+  private final Map<KeyT, AggregationBitsIndex> seenAggregationBitsByDataRoot;
 
   public SeenAggregatesCache(final int rootCacheSize) {
     this.seenAggregationBitsByDataRoot = LimitedMap.createSynchronized(rootCacheSize);
   }
 
   public boolean add(final KeyT root, final SszBitSet aggregationBits) {
-    final Set<SszBitSet> seenBitlists =
-        seenAggregationBitsByDataRoot.computeIfAbsent(
-            root, key -> Collections.newSetFromMap(new ConcurrentHashMap<>()));
-    if (isAlreadySeen(seenBitlists, aggregationBits)) {
-      return false;
+    final AggregationBitsIndex seenAggregates =
+        seenAggregationBitsByDataRoot.computeIfAbsent(root, key -> new AggregationBitsIndex());
+    synchronized (seenAggregates) {
+      return seenAggregates.add(aggregationBits);
     }
-    return seenBitlists.add(aggregationBits);
   }
 
   public boolean isAlreadySeen(final KeyT root, final SszBitSet aggregationBits) {
-    final Set<SszBitSet> seenAggregates =
-        seenAggregationBitsByDataRoot.getOrDefault(root, Collections.emptySet());
-    return isAlreadySeen(seenAggregates, aggregationBits);
-  }
-
-  private boolean isAlreadySeen(
-      final Set<SszBitSet> seenAggregates, final SszBitSet aggregationBits) {
-    return seenAggregates.stream().anyMatch(seen -> seen.isSuperSetOf(aggregationBits));
+    final AggregationBitsIndex seenAggregates = seenAggregationBitsByDataRoot.get(root);
+    if (seenAggregates == null) {
+      return false;
+    }
+    synchronized (seenAggregates) {
+      return seenAggregates.containsSupersetOf(aggregationBits);
+    }
   }
 }
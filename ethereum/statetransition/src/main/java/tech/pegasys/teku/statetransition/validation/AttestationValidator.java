@@ -20,15 +20,23 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.spec.config.Constants.ATTESTATION_PROPAGATION_SLOT_RANGE;
 import static tech.pegasys.teku.statetransition.validation.ValidationResultCode.ACCEPT;
 
+import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.config.Constants;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -37,20 +45,53 @@ public class AttestationValidator {
   private static final UInt64 MAX_FUTURE_SLOT_ALLOWANCE = UInt64.valueOf(3);
   private static final UInt64 MAXIMUM_GOSSIP_CLOCK_DISPARITY =
       UInt64.valueOf(Constants.MAXIMUM_GOSSIP_CLOCK_DISPARITY);
+  private static final int MAX_CACHED_TARGET_STATES = 8;
 
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncBLSSignatureVerifier signatureVerifier;
   private final AttestationStateSelector stateSelector;
 
+  /**
+   * States which have already been used to successfully validate an attestation, keyed by the
+   * attestation target.
+   *
+   * <p>The committee shuffling and active validators for an epoch are fully determined by the
+   * target checkpoint, so any attestation with the same target can be validated against the same
+   * state. Reusing it avoids selecting or regenerating a state for every attestation and keeps the
+   * committee and pubkey caches of that state warm.
+   */
+  private final Map<Checkpoint, BeaconState> validatedTargetStates =
+      LimitedMap.createSynchronized(MAX_CACHED_TARGET_STATES);
+
+  /**
+   * In progress state lookups. Attestations for the same slot, block and target arrive in bursts
+   * and would all resolve the same state, so concurrent validations share a single lookup.
+   */
+  private final Map<StateRequestKey, SafeFuture<Optional<BeaconState>>> pendingStateRequests =
+      new ConcurrentHashMap<>();
+
   public AttestationValidator(
       final Spec spec,
       RecentChainData recentChainData,
       AsyncBLSSignatureVerifier signatureVerifier) {
+    this(
+        spec,
+        recentChainData,
+        signatureVerifier,
+        new AttestationStateSelector(spec, recentChainData));
+  }
+
+  @VisibleForTesting
+  AttestationValidator(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final AttestationStateSelector stateSelector) {
     this.recentChainData = recentChainData;
     this.spec = spec;
     this.signatureVerifier = signatureVerifier;
-    this.stateSelector = new AttestationStateSelector(spec, recentChainData);
+    this.stateSelector = stateSelector;
   }
 
   public SafeFuture<InternalValidationResult> validate(
@@ -113,8 +154,7 @@ public class AttestationValidator {
       return completedFuture(InternalValidationResultWithState.saveForFuture());
     }
 
-    return stateSelector
-        .getStateToValidate(attestation.getData())
+    return getStateToValidate(data)
         .thenCompose(
             maybeState -> {
               if (maybeState.isEmpty()) {
@@ -184,6 +224,10 @@ public class AttestationValidator {
                         // Because all nodes in the proto-array descend from the finalized block,
                         // no further validation is needed to satisfy this rule.
 
+                        // Only cache once the target has been confirmed as an ancestor of the
+                        // LMD vote so the state is known to be on the target's chain
+                        validatedTargetStates.putIfAbsent(data.getTarget(), state);
+
                         // Save committee shuffling seed since the state is available and
                         // attestation is valid
                         validateableAttestation.saveCommitteeShufflingSeed(state);
@@ -192,6 +236,25 @@ public class AttestationValidator {
             });
   }
 
+  private SafeFuture<Optional<BeaconState>> getStateToValidate(final AttestationData data) {
+    final BeaconState cachedState = validatedTargetStates.get(data.getTarget());
+    if (cachedState != null) {
+      return completedFuture(Optional.of(cachedState));
+    }
+    final StateRequestKey key = new StateRequestKey(data);
+    final SafeFuture<Optional<BeaconState>> request = new SafeFuture<>();
+    final SafeFuture<Optional<BeaconState>> pendingRequest =
+        pendingStateRequests.putIfAbsent(key, request);
+    if (pendingRequest != null) {
+      return pendingRequest;
+    }
+    stateSelector
+        .getStateToValidate(data)
+        .alwaysRun(() -> pendingStateRequests.remove(key, request))
+        .propagateTo(request);
+    return request;
+  }
+
   private boolean isCurrentTimeBeforeMinimumAttestationBroadcastTime(
       final Attestation attestation, final UInt64 currentTimeMillis) {
     final UInt64 minimumBroadcastTimeMillis =
@@ -250,4 +313,35 @@ public class AttestationValidator {
   private int secondsPerSlot(final Attestation attestation) {
     return spec.getSecondsPerSlot(attestation.getData().getSlot());
   }
+
+  private static class StateRequestKey {
+    private final UInt64 slot;
+    private final Bytes32 beaconBlockRoot;
+    private final Checkpoint target;
+
+    private StateRequestKey(final AttestationData data) {
+      this.slot = data.getSlot();
+      this.beaconBlockRoot = data.getBeaconBlockRoot();
+      this.target = data.getTarget();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final StateRequestKey that = (StateRequestKey) o;
+      return Objects.equals(slot, that.slot)
+          && Objects.equals(beaconBlockRoot, that.beaconBlockRoot)
+          && Objects.equals(target, that.target);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(slot, beaconBlockRoot, target);
+    }
+  }
 }
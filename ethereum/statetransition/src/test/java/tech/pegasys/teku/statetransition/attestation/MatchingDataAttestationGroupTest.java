@@ -162,6 +162,22 @@ class MatchingDataAttestationGroupTest {
     assertThat(group).containsExactlyInAnyOrder(attestation1, attestation2);
   }
 
+  @Test
+  public void iterator_shouldAggregateSubsetAttestationWithOtherAttestations() {
+    // 1 is a subset of 1,2 but combined with 2,3,4 it covers every validator
+    addAttestation(1, 2);
+    final ValidateableAttestation subsetAttestation = createAttestation(1);
+    final ValidateableAttestation attestation = addAttestation(2, 3, 4);
+
+    assertThat(group.add(subsetAttestation)).isTrue();
+    assertThat(group)
+        .containsExactly(
+            ValidateableAttestation.from(
+                spec,
+                aggregateAttestations(
+                    attestation.getAttestation(), subsetAttestation.getAttestation())));
+  }
+
   @Test
   public void iterator_shouldOmitAttestationsThatAreAlreadyIncludedInTheAggregate() {
     final ValidateableAttestation aggregate = addAttestation(1, 2, 3);
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
+
+class AggregationBitsIndexTest {
+  private final SszBitlistSchema<SszBitlist> bitlistSchema = SszBitlistSchema.create(200);
+  private final AggregationBitsIndex index = new AggregationBitsIndex();
+
+  @Test
+  void containsSupersetOf_shouldBeFalseWhenEmpty() {
+    assertThat(index.containsSupersetOf(bits(1))).isFalse();
+  }
+
+  @Test
+  void containsSupersetOf_shouldMatchSubsetsAcrossWords() {
+    index.add(bits(1, 70, 130));
+
+    assertThat(index.containsSupersetOf(bits(1, 70, 130))).isTrue();
+    assertThat(index.containsSupersetOf(bits(70, 130))).isTrue();
+    assertThat(index.containsSupersetOf(bits(1, 71))).isFalse();
+    assertThat(index.containsSupersetOf(bits(1, 70, 130, 199))).isFalse();
+  }
+
+  @Test
+  void containsSupersetOf_shouldRequireSingleEntryToBeSuperset() {
+    index.add(bits(1, 2));
+    index.add(bits(3, 4));
+
+    assertThat(index.containsSupersetOf(bits(2, 3))).isFalse();
+  }
+
+  @Test
+  void add_shouldRejectSubsetOfExistingEntry() {
+    assertThat(index.add(bits(1, 2, 3))).isTrue();
+    assertThat(index.add(bits(1, 2, 3))).isFalse();
+    assertThat(index.add(bits(2))).isFalse();
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void add_shouldDiscardEntriesThatAreSubsetOfNewEntry() {
+    index.add(bits(1));
+    index.add(bits(2, 3));
+    index.add(bits(100));
+
+    assertThat(index.add(bits(1, 2, 3))).isTrue();
+
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.containsSupersetOf(bits(1))).isTrue();
+    assertThat(index.containsSupersetOf(bits(100))).isTrue();
+  }
+
+  private SszBitlist bits(final int... setBits) {
+    return bitlistSchema.ofBits(200, setBits);
+  }
+}
@@ -21,6 +21,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -301,6 +302,21 @@ public class PendingPoolTest {
     assertThat(requiredRootDroppedEvents).containsExactly(block.getParentRoot());
   }
 
+  @Test
+  public void shouldNotifySubscribersWhileHoldingLock() {
+    final List<Boolean> lockHeld = new ArrayList<>();
+    pendingPool.subscribeRequiredBlockRoot(root -> lockHeld.add(Thread.holdsLock(pendingPool)));
+    pendingPool.subscribeRequiredBlockRootDropped(
+        root -> lockHeld.add(Thread.holdsLock(pendingPool)));
+    final SignedBeaconBlock block =
+        dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue());
+    pendingPool.add(block);
+    pendingPool.remove(block);
+
+    // Notifying under the lock ensures a stale required event can't arrive after the drop
+    assertThat(lockHeld).containsExactly(true, true);
+  }
+
   @Test
   public void remove_unknownBlock() {
     final SignedBeaconBlock block =
@@ -418,6 +434,71 @@ public class PendingPoolTest {
     assertThat(dependentBlocks).containsExactlyInAnyOrderElementsOf(directDescendents);
   }
 
+  @Test
+  public void removeItemsDependingOn_shouldRemoveAllDependentItems() {
+    final Bytes32 commonAncestorRoot = dataStructureUtil.randomBytes32();
+    final SignedBeaconBlock child =
+        dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue(), commonAncestorRoot);
+    final SignedBeaconBlock grandchild =
+        dataStructureUtil.randomSignedBeaconBlock(
+            currentSlot.longValue() + 1, child.getMessage().hashTreeRoot());
+    final SignedBeaconBlock unrelated =
+        dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue());
+    pendingPool.add(child);
+    pendingPool.add(grandchild);
+    pendingPool.add(unrelated);
+
+    assertThat(pendingPool.removeItemsDependingOn(commonAncestorRoot, true))
+        .containsExactlyInAnyOrder(child, grandchild);
+
+    assertThat(pendingPool.size()).isEqualTo(1);
+    assertThat(pendingPool.contains(unrelated)).isTrue();
+    assertThat(pendingPool.getItemsDependingOn(commonAncestorRoot, true)).isEmpty();
+    assertThat(requiredRootDroppedEvents)
+        .containsExactlyInAnyOrder(commonAncestorRoot, child.getMessage().hashTreeRoot());
+  }
+
+  @Test
+  public void removeItemsDependingOn_directOnly() {
+    final Bytes32 commonAncestorRoot = dataStructureUtil.randomBytes32();
+    final SignedBeaconBlock child =
+        dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue(), commonAncestorRoot);
+    final SignedBeaconBlock grandchild =
+        dataStructureUtil.randomSignedBeaconBlock(
+            currentSlot.longValue() + 1, child.getMessage().hashTreeRoot());
+    pendingPool.add(child);
+    pendingPool.add(grandchild);
+
+    assertThat(pendingPool.removeItemsDependingOn(commonAncestorRoot, false))
+        .containsExactly(child);
+
+    assertThat(pendingPool.contains(child)).isFalse();
+    assertThat(pendingPool.contains(grandchild)).isTrue();
+  }
+
+  @Test
+  public void add_shouldCountEvictedItems() {
+    for (int i = 0; i < maxItems + 3; i++) {
+      pendingPool.add(dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue()));
+    }
+
+    assertThat(getDroppedItemCount("evicted")).isEqualTo(3);
+    assertThat(getDroppedItemCount("pruned")).isZero();
+  }
+
+  @Test
+  public void prune_shouldCountPrunedItems() {
+    pendingPool.add(dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue() - 1));
+    pendingPool.add(dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue() - 1));
+    pendingPool.add(dataStructureUtil.randomSignedBeaconBlock(currentSlot.longValue()));
+
+    setSlot(currentSlot.plus(historicalTolerance));
+
+    assertThat(pendingPool.size()).isEqualTo(1);
+    assertThat(getDroppedItemCount("pruned")).isEqualTo(2);
+    assertThat(getDroppedItemCount("evicted")).isZero();
+  }
+
   @Test
   public void prune_finalizedBlocks() {
     final SignedBeaconBlock finalizedBlock = dataStructureUtil.randomSignedBeaconBlock(10);
@@ -489,4 +570,10 @@ public class PendingPoolTest {
     blocksToKeep.forEach(b -> assertThat(pendingPool.contains(b)).isTrue());
     blocksToPrune.forEach(b -> assertThat(pendingPool.contains(b)).isFalse());
   }
+
+  private long getDroppedItemCount(final String reason) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.BEACON, "pending_pool_dropped_total")
+        .getValue("blocks", reason);
+  }
 }
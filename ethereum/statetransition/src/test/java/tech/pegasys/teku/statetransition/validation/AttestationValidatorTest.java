@@ -16,7 +16,11 @@ package tech.pegasys.teku.statetransition.validation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
@@ -28,6 +32,7 @@ import static tech.pegasys.teku.statetransition.validation.ValidationResultCode.
 import static tech.pegasys.teku.statetransition.validation.ValidationResultCode.SAVE_FOR_FUTURE;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
@@ -268,6 +273,72 @@ class AttestationValidatorTest {
     assertThat(validate(attestation2).code()).isEqualTo(ACCEPT);
   }
 
+  @Test
+  public void shouldReuseStateForAttestationsWithSameTarget() {
+    final AttestationStateSelector stateSelector =
+        spy(new AttestationStateSelector(spec, recentChainData));
+    final AttestationValidator validator =
+        new AttestationValidator(spec, recentChainData, signatureVerifier, stateSelector);
+    final StateAndBlockSummary genesis = storageSystem.getChainHead();
+    final Attestation attestation1 = attestationGenerator.validAttestation(genesis, ZERO);
+    final Attestation attestation2 =
+        attestationGenerator
+            .streamAttestations(genesis, ZERO)
+            .filter(attestation -> !hasSameValidators(attestation1, attestation))
+            .findFirst()
+            .orElseThrow();
+    assertThat(attestation1.getData().getTarget()).isEqualTo(attestation2.getData().getTarget());
+
+    assertThat(validate(validator, attestation1).code()).isEqualTo(ACCEPT);
+    assertThat(validate(validator, attestation2).code()).isEqualTo(ACCEPT);
+
+    verify(stateSelector, times(1)).getStateToValidate(any());
+  }
+
+  @Test
+  public void shouldShareStateLookupBetweenConcurrentAttestations() {
+    final AttestationStateSelector stateSelector = mock(AttestationStateSelector.class);
+    final SafeFuture<Optional<BeaconState>> stateFuture = new SafeFuture<>();
+    doReturn(stateFuture).when(stateSelector).getStateToValidate(any());
+    final AttestationValidator validator =
+        new AttestationValidator(spec, recentChainData, signatureVerifier, stateSelector);
+    final StateAndBlockSummary genesis = storageSystem.getChainHead();
+    final Attestation attestation1 = attestationGenerator.validAttestation(genesis, ZERO);
+    final Attestation attestation2 =
+        attestationGenerator
+            .streamAttestations(genesis, ZERO)
+            .filter(attestation -> !hasSameValidators(attestation1, attestation))
+            .findFirst()
+            .orElseThrow();
+
+    final SafeFuture<InternalValidationResult> result1 =
+        validator.validate(ValidateableAttestation.from(spec, attestation1));
+    final SafeFuture<InternalValidationResult> result2 =
+        validator.validate(ValidateableAttestation.from(spec, attestation2));
+    verify(stateSelector, times(1)).getStateToValidate(any());
+
+    stateFuture.complete(Optional.of(genesis.getState()));
+    assertThat(safeJoin(result1).code()).isEqualTo(ACCEPT);
+    assertThat(safeJoin(result2).code()).isEqualTo(ACCEPT);
+  }
+
+  @Test
+  public void shouldNotReuseStateFromRejectedAttestation() {
+    final AttestationStateSelector stateSelector =
+        spy(new AttestationStateSelector(spec, recentChainData));
+    final AttestationValidator validator =
+        new AttestationValidator(spec, recentChainData, signatureVerifier, stateSelector);
+    final StateAndBlockSummary genesis = storageSystem.getChainHead();
+    final Attestation invalidAttestation =
+        attestationGenerator.attestationWithInvalidSignature(genesis);
+    final Attestation validAttestation = attestationGenerator.validAttestation(genesis);
+
+    assertThat(validate(validator, invalidAttestation).code()).isEqualTo(REJECT);
+    assertThat(validate(validator, validAttestation).code()).isEqualTo(ACCEPT);
+
+    verify(stateSelector, times(2)).getStateToValidate(any());
+  }
+
   @Test
   public void shouldRejectAttestationWithInvalidSignature() {
     final Attestation attestation =
@@ -403,6 +474,11 @@ class AttestationValidatorTest {
   }
 
   private InternalValidationResult validate(final Attestation attestation) {
+    return validate(validator, attestation);
+  }
+
+  private InternalValidationResult validate(
+      final AttestationValidator validator, final Attestation attestation) {
     final BeaconState state = safeJoin(recentChainData.getBestState().orElseThrow());
 
     return validator
@@ -56,6 +56,24 @@ public final class BLSPublicKey {
                 publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList())));
   }
 
+  /**
+   * Removes PublicKeys from an aggregate, which is much cheaper than aggregating the remaining keys
+   * when only a few keys are removed. Returns the public key that corresponds to G1 point at
+   * infinity if the aggregate or any of the public keys is infinity or not a G1 group member.
+   *
+   * @param aggregatePublicKey The aggregate of a set of public keys
+   * @param publicKeys The public keys to remove, each of which must be included in the aggregate
+   * @return PublicKey The aggregate of the remaining public keys
+   */
+  public static BLSPublicKey subtract(
+      BLSPublicKey aggregatePublicKey, List<BLSPublicKey> publicKeys) {
+    return new BLSPublicKey(
+        BLS.getBlsImpl()
+            .subtractPublicKeys(
+                aggregatePublicKey.getPublicKey(),
+                publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList())));
+  }
+
   public static BLSPublicKey fromSSZBytes(Bytes bytes) {
     checkArgument(
         bytes.size() == SSZ_BLS_PUBKEY_SIZE,
@@ -89,6 +107,27 @@ public final class BLSPublicKey {
     return ret;
   }
 
+  /**
+   * Create a PublicKey from the 96-byte uncompressed format produced by {@link
+   * #toBytesUncompressed()}.
+   *
+   * <p>The point is checked to be on the curve but the G1 subgroup check is skipped, so this must
+   * only be used for bytes taken from a key that was previously validated, such as a locally
+   * stored copy of a registered validator key.
+   *
+   * @param bytes 96 bytes to read the public key from
+   * @return a public key
+   * @throws IllegalArgumentException If the supplied bytes are not a point on the curve
+   */
+  public static BLSPublicKey fromTrustedBytesUncompressed(Bytes bytes)
+      throws IllegalArgumentException {
+    checkArgument(
+        bytes.size() == BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE,
+        "Expected " + BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE + " bytes but received %s.",
+        bytes.size());
+    return new BLSPublicKey(BLS.getBlsImpl().publicKeyFromTrustedUncompressed(bytes));
+  }
+
   // Sometimes we are dealing with random, invalid pubkey points, e.g. when testing.
   // Let's only interpret the raw data into a point when necessary to do so.
   // And vice versa while aggregating we are dealing with points only so let's
@@ -138,6 +177,16 @@ public final class BLSPublicKey {
     return bytesCompressed.get();
   }
 
+  /**
+   * Returns the uncompressed serialization of the public key which can be deserialized without the
+   * cost of decompressing the point.
+   *
+   * @return the 96 byte uncompressed form of the public key
+   */
+  public Bytes toBytesUncompressed() {
+    return getPublicKey().toBytesUncompressed();
+  }
+
   PublicKey getPublicKey() {
     return publicKey.get();
   }
@@ -69,6 +69,20 @@ public interface BLS12381 {
    */
   PublicKey publicKeyFromCompressed(Bytes48 compressedPublicKeyBytes) throws BlsException;
 
+  /**
+   * Decode a public key from its <em>uncompressed</em> form serialized representation, skipping
+   * the G1 subgroup check.
+   *
+   * <p>Must only be used for bytes produced by {@link PublicKey#toBytesUncompressed()} from a key
+   * that is already known to be valid.
+   *
+   * @param uncompressedPublicKeyBytes 96 bytes to read the public key from
+   * @return a public key
+   * @throws BlsException If the supplied bytes are not a point on the curve
+   */
+  PublicKey publicKeyFromTrustedUncompressed(Bytes uncompressedPublicKeyBytes)
+      throws BlsException;
+
   /**
    * Decode a signature from its <em>compressed</em> form serialized representation.
    *
@@ -94,6 +108,18 @@ public interface BLS12381 {
    */
   PublicKey aggregatePublicKeys(List<? extends PublicKey> publicKeys);
 
+  /**
+   * Removes PublicKeys from an aggregate, returning the aggregate of the remaining keys. Returns
+   * the public key that corresponds to G1 point at infinity if the aggregate or any of the keys to
+   * remove is infinity or not a G1 group member
+   *
+   * @param aggregatePublicKey The aggregate to remove keys from
+   * @param publicKeys The list of public keys to remove, each of which must be part of the
+   *     aggregate
+   * @return PublicKey The public key
+   */
+  PublicKey subtractPublicKeys(PublicKey aggregatePublicKey, List<? extends PublicKey> publicKeys);
+
   /**
    * Aggregates a list of Signatures, returning the signature that corresponds to G2 point at
    * infinity if list is empty.
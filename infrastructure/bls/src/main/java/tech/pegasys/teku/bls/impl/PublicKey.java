@@ -26,6 +26,13 @@ public interface PublicKey {
    */
   Bytes48 toBytesCompressed();
 
+  /**
+   * Public key serialization of the affine point without compression
+   *
+   * @return byte array of length 96 representation of the public key
+   */
+  Bytes toBytesUncompressed();
+
   /**
    * Verifies the given BLS signature against the message bytes using this public key.
    *
@@ -84,6 +84,11 @@ public class BlstBLS12381 implements BLS12381 {
     return BlstPublicKey.fromBytes(compressedPublicKeyBytes);
   }
 
+  @Override
+  public BlstPublicKey publicKeyFromTrustedUncompressed(Bytes uncompressedPublicKeyBytes) {
+    return BlstPublicKey.fromTrustedUncompressedBytes(uncompressedPublicKeyBytes);
+  }
+
   @Override
   public BlstSignature signatureFromCompressed(Bytes compressedSignatureBytes) {
     return BlstSignature.fromBytes(compressedSignatureBytes);
@@ -100,6 +105,14 @@ public class BlstBLS12381 implements BLS12381 {
         publicKeys.stream().map(BlstPublicKey::fromPublicKey).collect(Collectors.toList()));
   }
 
+  @Override
+  public BlstPublicKey subtractPublicKeys(
+      PublicKey aggregatePublicKey, List<? extends PublicKey> publicKeys) {
+    return BlstPublicKey.subtract(
+        BlstPublicKey.fromPublicKey(aggregatePublicKey),
+        publicKeys.stream().map(BlstPublicKey::fromPublicKey).collect(Collectors.toList()));
+  }
+
   @Override
   public BlstSignature aggregateSignatures(List<? extends Signature> signatures) {
     return BlstSignature.aggregate(
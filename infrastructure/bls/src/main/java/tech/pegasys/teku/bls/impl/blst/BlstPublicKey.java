@@ -19,6 +19,7 @@ import com.google.common.base.Suppliers;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes48;
 import supranational.blst.P1;
 import supranational.blst.P1_Affine;
@@ -44,6 +45,20 @@ class BlstPublicKey implements PublicKey {
     }
   }
 
+  /**
+   * Deserializes a point from its uncompressed form. The point is checked to be on the curve but,
+   * as the bytes are trusted, the group membership check is skipped.
+   */
+  static BlstPublicKey fromTrustedUncompressedBytes(Bytes uncompressed) {
+    try {
+      P1_Affine ecPoint = new P1_Affine(uncompressed.toArrayUnsafe());
+      return new BlstPublicKey(ecPoint, true);
+    } catch (Exception e) {
+      throw new BlsException(
+          "Deserialization of uncompressed public key bytes failed: " + uncompressed, e);
+    }
+  }
+
   static BlstPublicKey fromPublicKey(PublicKey publicKey) {
     if (publicKey instanceof BlstPublicKey) {
       return (BlstPublicKey) publicKey;
@@ -70,12 +85,35 @@ class BlstPublicKey implements PublicKey {
     return new BlstPublicKey(sum.to_affine());
   }
 
+  public static BlstPublicKey subtract(
+      BlstPublicKey aggregatePublicKey, List<BlstPublicKey> publicKeys) {
+    if (!aggregatePublicKey.isValid()) {
+      return INFINITE_PUBLIC_KEY;
+    }
+
+    P1 difference = new P1(aggregatePublicKey.ecPoint);
+    for (BlstPublicKey publicKey : publicKeys) {
+      if (!publicKey.isValid()) {
+        return INFINITE_PUBLIC_KEY;
+      }
+      difference.add(new P1(publicKey.ecPoint).neg());
+    }
+
+    // The difference of G1 group members is itself a group member so the check can be skipped
+    return new BlstPublicKey(difference.to_affine(), true);
+  }
+
   final P1_Affine ecPoint;
   private final Supplier<Boolean> isInfinity = Suppliers.memoize(this::checkForInfinity);
-  private final Supplier<Boolean> isInGroup = Suppliers.memoize(this::checkGroupMembership);
+  private final Supplier<Boolean> isInGroup;
 
   public BlstPublicKey(P1_Affine ecPoint) {
+    this(ecPoint, false);
+  }
+
+  private BlstPublicKey(P1_Affine ecPoint, boolean knownInGroup) {
     this.ecPoint = ecPoint;
+    this.isInGroup = knownInGroup ? () -> true : Suppliers.memoize(this::checkGroupMembership);
   }
 
   @Override
@@ -112,6 +150,11 @@ class BlstPublicKey implements PublicKey {
     return Bytes48.wrap(ecPoint.compress());
   }
 
+  @Override
+  public Bytes toBytesUncompressed() {
+    return Bytes.wrap(ecPoint.serialize());
+  }
+
   @Override
   public int hashCode() {
     return toBytesCompressed().hashCode();
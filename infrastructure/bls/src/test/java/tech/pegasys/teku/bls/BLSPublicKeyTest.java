@@ -162,6 +162,26 @@ abstract class BLSPublicKeyTest {
     assertEquals(publicKey1, publicKey2);
   }
 
+  @Test
+  void fromTrustedBytesUncompressed_shouldRoundtripUncompressedBytes() {
+    BLSPublicKey publicKey1 = BLSTestUtil.randomPublicKey(42);
+    Bytes uncompressed = publicKey1.toBytesUncompressed();
+    assertThat(uncompressed.size()).isEqualTo(BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE);
+
+    BLSPublicKey publicKey2 = BLSPublicKey.fromTrustedBytesUncompressed(uncompressed);
+    assertEquals(publicKey1, publicKey2);
+    assertThat(publicKey2.isValid()).isTrue();
+  }
+
+  @Test
+  void fromTrustedBytesUncompressed_throwsOnWrongLength() {
+    assertThatThrownBy(
+            () ->
+                BLSPublicKey.fromTrustedBytesUncompressed(
+                    BLSTestUtil.randomPublicKey(1).toBytesCompressed()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void succeedsWhenRoundtripSSZReturnsTheInfinityPublicKey() {
     BLSPublicKey publicKey1 = INFINITY_PUBLIC_KEY;
@@ -185,6 +205,45 @@ abstract class BLSPublicKeyTest {
     assertThat(aggrPk).isEqualTo(aggrPkGolden);
   }
 
+  @Test
+  void subtract_shouldMatchAggregateOfRemainingKeys() {
+    final List<BLSPublicKey> publicKeys =
+        List.of(
+            BLSTestUtil.randomPublicKey(1),
+            BLSTestUtil.randomPublicKey(2),
+            BLSTestUtil.randomPublicKey(3),
+            BLSTestUtil.randomPublicKey(4));
+    final BLSPublicKey aggregate = BLSPublicKey.aggregate(publicKeys);
+
+    final BLSPublicKey result =
+        BLSPublicKey.subtract(aggregate, List.of(publicKeys.get(1), publicKeys.get(3)));
+
+    assertThat(result)
+        .isEqualTo(BLSPublicKey.aggregate(List.of(publicKeys.get(0), publicKeys.get(2))));
+    assertThat(result.isValid()).isTrue();
+  }
+
+  @Test
+  void subtract_shouldReturnAggregateWhenNothingRemoved() {
+    final BLSPublicKey aggregate =
+        BLSPublicKey.aggregate(
+            List.of(BLSTestUtil.randomPublicKey(1), BLSTestUtil.randomPublicKey(2)));
+
+    assertThat(BLSPublicKey.subtract(aggregate, List.of())).isEqualTo(aggregate);
+  }
+
+  @Test
+  void subtractWithInfinitePubKeyShouldFail() {
+    final BLSPublicKey aggregate =
+        BLSPublicKey.aggregate(
+            List.of(BLSTestUtil.randomPublicKey(1), BLSTestUtil.randomPublicKey(2)));
+
+    final BLSPublicKey result = BLSPublicKey.subtract(aggregate, List.of(INFINITY_PUBLIC_KEY));
+
+    assertThat(result).isEqualTo(INFINITY_PUBLIC_KEY);
+    assertThat(result.isValid()).isFalse();
+  }
+
   @Test
   void aggregateWithInfinitePubKeyShouldFail() {
     BLSPublicKey pk =
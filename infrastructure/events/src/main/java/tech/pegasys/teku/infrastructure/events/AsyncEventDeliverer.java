@@ -19,40 +19,52 @@ import static java.util.Collections.synchronizedMap;
 import java.lang.reflect.Method;
 import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   private static final Logger LOG = LogManager.getLogger();
-  private static final int QUEUE_CAPACITY = 500;
 
-  private final Map<T, BlockingQueue<Runnable>> eventQueuesBySubscriber =
+  private final Map<T, SubscriberQueue> eventQueuesBySubscriber =
       synchronizedMap(new IdentityHashMap<>());
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final ExecutorService executor;
+  private final OperationTimer queueWaitTimer;
+  private final Counter droppedEventCounter;
+  private final Counter coalescedEventCounter;
 
-  public AsyncEventDeliverer(
+  AsyncEventDeliverer(
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final EventQueueMetrics queueMetrics,
+      final String channelName) {
     super(exceptionHandler, metricsSystem);
     this.executor = executor;
+    this.queueWaitTimer = queueMetrics.getQueueWaitTimer(channelName);
+    this.droppedEventCounter = queueMetrics.getDroppedEventCounter(channelName);
+    this.coalescedEventCounter = queueMetrics.getCoalescedEventCounter(channelName);
+    queueMetrics.registerQueueSize(channelName, this::getQueuedEventCount);
   }
 
   @Override
-  void subscribe(final T subscriber, final int numberOfThreads) {
-    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  void subscribe(
+      final T subscriber, final int numberOfThreads, final EventQueueConfig queueConfig) {
+    final SubscriberQueue queue = new SubscriberQueue(queueConfig);
     eventQueuesBySubscriber.put(subscriber, queue);
-    super.subscribe(subscriber, numberOfThreads);
+    super.subscribe(subscriber, numberOfThreads, queueConfig);
     for (int i = 0; i < numberOfThreads; i++) {
-      executor.execute(new QueueReader(queue));
+      executor.execute(new QueueReader(queue.events));
     }
   }
 
@@ -78,7 +90,23 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   }
 
   private void enqueueDelivery(final T subscriber, final Method method, final Runnable action) {
-    final BlockingQueue<Runnable> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+    final SubscriberQueue queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+    final TimedAction timedAction = new TimedAction(queueWaitTimer.startTimer(), action);
+    switch (queue.config.getOverflowPolicy()) {
+      case BLOCK:
+        putBlocking(queue.events, method, timedAction);
+        break;
+      case DROP_OLDEST:
+        putDroppingOldest(queue.events, timedAction);
+        break;
+      case COALESCE:
+        putCoalescing(queue, method, timedAction);
+        break;
+    }
+  }
+
+  private void putBlocking(
+      final BoundedEventQueue<Runnable> queue, final Method method, final Runnable action) {
     while (!stopped.get()) {
       try {
         queue.put(action);
@@ -89,16 +117,116 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     }
   }
 
+  private void putDroppingOldest(final BoundedEventQueue<Runnable> queue, final Runnable action) {
+    while (!queue.offer(action)) {
+      if (queue.poll() != null) {
+        droppedEventCounter.inc();
+      }
+    }
+  }
+
+  private void putCoalescing(
+      final SubscriberQueue queue, final Method method, final TimedAction action) {
+    final CoalescedDelivery existing = queue.pendingByMethod.get(method);
+    if (existing != null && existing.replaceAction(action)) {
+      coalescedEventCounter.inc();
+      return;
+    }
+    final CoalescedDelivery delivery =
+        new CoalescedDelivery(method, action, queue.pendingByMethod);
+    queue.pendingByMethod.put(method, delivery);
+    putBlocking(queue.events, method, delivery);
+  }
+
+  private int getQueuedEventCount() {
+    synchronized (eventQueuesBySubscriber) {
+      return eventQueuesBySubscriber.values().stream()
+          .mapToInt(queue -> queue.events.size())
+          .sum();
+    }
+  }
+
   @Override
   public void stop() {
     stopped.set(true);
     executor.shutdownNow();
   }
 
+  private static class SubscriberQueue {
+    private final EventQueueConfig config;
+    private final BoundedEventQueue<Runnable> events;
+    private final Map<Method, CoalescedDelivery> pendingByMethod = new ConcurrentHashMap<>();
+
+    private SubscriberQueue(final EventQueueConfig config) {
+      this.config = config;
+      this.events = new BoundedEventQueue<>(config.getCapacity());
+    }
+  }
+
+  /** A queued delivery which records how long it waited in the queue once it is run. */
+  private static class TimedAction implements Runnable {
+    private final TimingContext queueTimer;
+    private final Runnable action;
+
+    private TimedAction(final TimingContext queueTimer, final Runnable action) {
+      this.queueTimer = queueTimer;
+      this.action = action;
+    }
+
+    void stopTimer() {
+      queueTimer.stopTimer();
+    }
+
+    @Override
+    public void run() {
+      stopTimer();
+      action.run();
+    }
+  }
+
+  /**
+   * A queued delivery whose action can be replaced by a newer call to the same method until a
+   * reader claims it.
+   */
+  private static class CoalescedDelivery implements Runnable {
+    private final Method method;
+    private final AtomicReference<TimedAction> action;
+    private final Map<Method, CoalescedDelivery> pendingByMethod;
+
+    private CoalescedDelivery(
+        final Method method,
+        final TimedAction action,
+        final Map<Method, CoalescedDelivery> pendingByMethod) {
+      this.method = method;
+      this.action = new AtomicReference<>(action);
+      this.pendingByMethod = pendingByMethod;
+    }
+
+    boolean replaceAction(final TimedAction newAction) {
+      final TimedAction replaced =
+          action.getAndUpdate(current -> current == null ? null : newAction);
+      if (replaced == null) {
+        return false;
+      }
+      // The superseded call will never run so stop its timer now
+      replaced.stopTimer();
+      return true;
+    }
+
+    @Override
+    public void run() {
+      final TimedAction claimedAction = action.getAndSet(null);
+      pendingByMethod.remove(method, this);
+      if (claimedAction != null) {
+        claimedAction.run();
+      }
+    }
+  }
+
   class QueueReader implements Runnable {
-    private final BlockingQueue<Runnable> queue;
+    private final BoundedEventQueue<Runnable> queue;
 
-    public QueueReader(final BlockingQueue<Runnable> queue) {
+    public QueueReader(final BoundedEventQueue<Runnable> queue) {
       this.queue = queue;
     }
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue backed by a lock-free ring buffer which supports multiple producers and multiple
+ * consumers.
+ *
+ * <p>Slots in the ring are claimed with a CAS on the producer or consumer index and published via
+ * a per-slot sequence number so producers never contend with consumers. Semaphores track free
+ * slots and queued items, which is only used to park threads when the queue is full or empty.
+ *
+ * @param <T> the type of item held in the queue
+ */
+class BoundedEventQueue<T> {
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<T> buffer;
+  private final AtomicLongArray sequences;
+  private final AtomicLong producerIndex = new AtomicLong();
+  private final AtomicLong consumerIndex = new AtomicLong();
+  private final Semaphore freeSlots;
+  private final Semaphore queuedItems = new Semaphore(0);
+
+  BoundedEventQueue(final int capacity) {
+    checkArgument(capacity > 0, "Capacity must be at least 1");
+    this.capacity = capacity;
+    final int ringSize = ringSizeFor(capacity);
+    this.mask = ringSize - 1;
+    this.buffer = new AtomicReferenceArray<>(ringSize);
+    this.sequences = new AtomicLongArray(ringSize);
+    for (int i = 0; i < ringSize; i++) {
+      sequences.set(i, i);
+    }
+    this.freeSlots = new Semaphore(capacity);
+  }
+
+  private static int ringSizeFor(final int capacity) {
+    // The ring needs at least two slots so a published slot can be told apart from a free one
+    return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+  }
+
+  /** Adds an item to the queue, waiting for space to become available if necessary. */
+  void put(final T item) throws InterruptedException {
+    freeSlots.acquire();
+    publish(item);
+  }
+
+  /**
+   * Adds an item to the queue if there is space available.
+   *
+   * @return true if the item was added, false if the queue was full
+   */
+  boolean offer(final T item) {
+    if (!freeSlots.tryAcquire()) {
+      return false;
+    }
+    publish(item);
+    return true;
+  }
+
+  /** Removes the next item from the queue, waiting for one to become available if necessary. */
+  T take() throws InterruptedException {
+    queuedItems.acquire();
+    return consume();
+  }
+
+  /**
+   * Removes the next item from the queue if one is available.
+   *
+   * @return the removed item or null if the queue was empty
+   */
+  T poll() {
+    if (!queuedItems.tryAcquire()) {
+      return null;
+    }
+    return consume();
+  }
+
+  int size() {
+    return queuedItems.availablePermits();
+  }
+
+  int getCapacity() {
+    return capacity;
+  }
+
+  private void publish(final T item) {
+    // Holding a free slot permit guarantees the ring has space, but a slot may still be in the
+    // process of being released by a consumer so spin until it is available.
+    while (!tryPublish(item)) {
+      Thread.onSpinWait();
+    }
+    queuedItems.release();
+  }
+
+  private T consume() {
+    // Holding a queued item permit guarantees an item is in the ring, but an earlier producer may
+    // still be in the process of writing it so spin until it is visible.
+    T item = tryConsume();
+    while (item == null) {
+      Thread.onSpinWait();
+      item = tryConsume();
+    }
+    freeSlots.release();
+    return item;
+  }
+
+  private boolean tryPublish(final T item) {
+    long position = producerIndex.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (producerIndex.compareAndSet(position, position + 1)) {
+          buffer.lazySet(index, item);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = producerIndex.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = producerIndex.get();
+      }
+    }
+  }
+
+  private T tryConsume() {
+    long position = consumerIndex.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (consumerIndex.compareAndSet(position, position + 1)) {
+          final T item = buffer.get(index);
+          buffer.lazySet(index, null);
+          sequences.set(index, position + mask + 1);
+          return item;
+        }
+        position = consumerIndex.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = consumerIndex.get();
+      }
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.events.EventQueueConfig.OverflowPolicy;
 
 class EventChannel<T> {
 
@@ -61,7 +62,8 @@ class EventChannel<T> {
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ChannelExceptionHandler exceptionHandler,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final EventQueueMetrics queueMetrics) {
     return createAsync(
         channelInterface,
         Executors.newCachedThreadPool(
@@ -70,27 +72,37 @@ class EventChannel<T> {
                 .setNameFormat(channelInterface.getSimpleName() + "-%d")
                 .build()),
         exceptionHandler,
-        metricsSystem);
+        metricsSystem,
+        queueMetrics);
   }
 
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ExecutorService executor,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final EventQueueMetrics queueMetrics) {
     return createAsync(
         channelInterface,
         executor,
         LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER,
-        metricsSystem);
+        metricsSystem,
+        queueMetrics);
   }
 
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final EventQueueMetrics queueMetrics) {
     return create(
-        channelInterface, new AsyncEventDeliverer<>(executor, exceptionHandler, metricsSystem));
+        channelInterface,
+        new AsyncEventDeliverer<>(
+            executor,
+            exceptionHandler,
+            metricsSystem,
+            queueMetrics,
+            channelInterface.getSimpleName()));
   }
 
   private static <T> EventChannel<T> create(
@@ -147,6 +159,10 @@ class EventChannel<T> {
     subscribeMultithreaded(listener, 1);
   }
 
+  void subscribe(final T listener, final EventQueueConfig queueConfig) {
+    subscribeMultithreaded(listener, 1, queueConfig);
+  }
+
   /**
    * Adds a subscriber to this channel where events are handled by multiple threads concurrently.
    *
@@ -160,11 +176,22 @@ class EventChannel<T> {
    * @param requestedParallelism the number of threads to use to process events
    */
   void subscribeMultithreaded(final T listener, final int requestedParallelism) {
+    subscribeMultithreaded(listener, requestedParallelism, EventQueueConfig.DEFAULT);
+  }
+
+  private void subscribeMultithreaded(
+      final T listener, final int requestedParallelism, final EventQueueConfig queueConfig) {
     checkArgument(requestedParallelism > 0, "Number of threads must be at least 1");
+    // Only channels with return values are limited to one subscriber. Dropping or coalescing
+    // their events would leave the caller's future incomplete forever.
+    checkArgument(
+        queueConfig.getOverflowPolicy() == OverflowPolicy.BLOCK || allowMultipleSubscribers,
+        "Overflow policy %s is only supported for channels with void methods",
+        queueConfig.getOverflowPolicy());
     if (!hasSubscriber.compareAndSet(false, true) && !allowMultipleSubscribers) {
       throw new IllegalStateException("Only one subscriber is supported by this event channel");
     }
-    invoker.subscribe(listener, requestedParallelism);
+    invoker.subscribe(listener, requestedParallelism, queueConfig);
   }
 
   public void stop() {
@@ -27,9 +27,11 @@ public class EventChannels {
 
   public EventChannels(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
-    this(
+    final EventQueueMetrics queueMetrics = new EventQueueMetrics(metricsSystem);
+    this.eventChannelFactory =
         channelInterface ->
-            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem));
+            EventChannel.createAsync(
+                channelInterface, exceptionHandler, metricsSystem, queueMetrics);
   }
 
   public static EventChannels createSyncChannels(
@@ -83,6 +85,24 @@ public class EventChannels {
     return subscribeMultithreaded(channelInterface, subscriber, 1);
   }
 
+  /**
+   * Adds a subscriber to this channel whose event queue is configured by {@code queueConfig}
+   * instead of {@link EventQueueConfig#DEFAULT}. Subscribers which can tolerate missing events
+   * should use a lossy overflow policy so that they can't stall the publisher when they fall
+   * behind.
+   *
+   * <p>Synchronous channels have no queue so the configuration is ignored.
+   *
+   * @param channelInterface the channel to subscribe to
+   * @param subscriber the subscriber to notify of events
+   * @param queueConfig the configuration of the subscriber's event queue
+   */
+  public <T extends ChannelInterface> EventChannels subscribe(
+      final Class<T> channelInterface, final T subscriber, final EventQueueConfig queueConfig) {
+    getChannel(channelInterface).subscribe(subscriber, queueConfig);
+    return this;
+  }
+
   /**
    * Adds a subscriber to this channel where events are handled by multiple threads concurrently.
    *
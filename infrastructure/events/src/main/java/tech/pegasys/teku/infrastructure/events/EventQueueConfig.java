@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+
+/** Configures the per-subscriber event queue used by async event channels. */
+public class EventQueueConfig {
+  public static final int DEFAULT_CAPACITY = 500;
+  public static final EventQueueConfig DEFAULT =
+      new EventQueueConfig(DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+
+  private EventQueueConfig(final int capacity, final OverflowPolicy overflowPolicy) {
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  public static EventQueueConfig create(final int capacity, final OverflowPolicy overflowPolicy) {
+    checkArgument(capacity > 0, "Event queue capacity must be at least 1");
+    return new EventQueueConfig(capacity, overflowPolicy);
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final EventQueueConfig that = (EventQueueConfig) o;
+    return capacity == that.capacity && overflowPolicy == that.overflowPolicy;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(capacity, overflowPolicy);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("capacity", capacity)
+        .add("overflowPolicy", overflowPolicy)
+        .toString();
+  }
+
+  public enum OverflowPolicy {
+    /** Block the publishing thread until the subscriber has space in its queue. */
+    BLOCK,
+    /** Discard the oldest queued event to make space for the new one. */
+    DROP_OLDEST,
+    /**
+     * Replace any still-queued call to the same method with the new arguments so only the latest
+     * call is delivered. Blocks the publisher if the queue is full of distinct methods.
+     */
+    COALESCE
+  }
+}
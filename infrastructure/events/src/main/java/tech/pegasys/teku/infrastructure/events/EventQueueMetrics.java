@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
+
+import java.util.function.IntSupplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+/**
+ * Metrics shared by all async event channels. Must only be created once per {@link MetricsSystem}
+ * as gauges can't be registered twice.
+ */
+class EventQueueMetrics {
+  private final LabelledGauge queueSizeGauge;
+  private final LabelledMetric<OperationTimer> queueWaitTimer;
+  private final LabelledMetric<Counter> overflowCounter;
+
+  EventQueueMetrics(final MetricsSystem metricsSystem) {
+    queueSizeGauge =
+        metricsSystem.createLabelledGauge(
+            EVENTBUS,
+            "event_queue_size",
+            "Number of events waiting to be delivered to subscribers",
+            "channel");
+    queueWaitTimer =
+        metricsSystem.createLabelledTimer(
+            EVENTBUS,
+            "event_queue_wait_time",
+            "Time events spend queued before delivery to a subscriber",
+            "channel");
+    overflowCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_overflow_count",
+            "Number of events dropped or coalesced because a subscriber queue was full",
+            "channel",
+            "action");
+  }
+
+  void registerQueueSize(final String channelName, final IntSupplier queueSize) {
+    queueSizeGauge.labels(queueSize::getAsInt, channelName);
+  }
+
+  OperationTimer getQueueWaitTimer(final String channelName) {
+    return queueWaitTimer.labels(channelName);
+  }
+
+  Counter getDroppedEventCounter(final String channelName) {
+    return overflowCounter.labels(channelName, "dropped");
+  }
+
+  Counter getCoalescedEventCounter(final String channelName) {
+    return overflowCounter.labels(channelName, "coalesced");
+  }
+}
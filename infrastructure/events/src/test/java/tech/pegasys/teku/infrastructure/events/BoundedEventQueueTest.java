@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BoundedEventQueueTest {
+
+  @Test
+  void shouldReturnItemsInOrder() throws Exception {
+    final BoundedEventQueue<Integer> queue = new BoundedEventQueue<>(3);
+    queue.put(1);
+    queue.put(2);
+    queue.put(3);
+
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.take()).isEqualTo(1);
+    assertThat(queue.take()).isEqualTo(2);
+    assertThat(queue.take()).isEqualTo(3);
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void offer_shouldRejectItemsWhenFull() {
+    final BoundedEventQueue<Integer> queue = new BoundedEventQueue<>(3);
+    assertThat(queue.offer(1)).isTrue();
+    assertThat(queue.offer(2)).isTrue();
+    assertThat(queue.offer(3)).isTrue();
+    // Ring is sized to 4 but capacity is still enforced
+    assertThat(queue.offer(4)).isFalse();
+
+    assertThat(queue.poll()).isEqualTo(1);
+    assertThat(queue.offer(4)).isTrue();
+  }
+
+  @Test
+  void poll_shouldReturnNullWhenEmpty() {
+    final BoundedEventQueue<Integer> queue = new BoundedEventQueue<>(1);
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.offer(1)).isTrue();
+    assertThat(queue.offer(2)).isFalse();
+    assertThat(queue.poll()).isEqualTo(1);
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  void shouldWrapAroundRing() {
+    final BoundedEventQueue<Integer> queue = new BoundedEventQueue<>(2);
+    for (int i = 0; i < 100; i++) {
+      assertThat(queue.offer(i)).isTrue();
+      assertThat(queue.poll()).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void shouldDeliverAllItemsWithConcurrentProducersAndConsumers() throws Exception {
+    final int producers = 4;
+    final int itemsPerProducer = 10_000;
+    final BoundedEventQueue<Integer> queue = new BoundedEventQueue<>(16);
+    final ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+    try {
+      for (int producer = 0; producer < producers; producer++) {
+        executor.submit(
+            () -> {
+              for (int i = 0; i < itemsPerProducer; i++) {
+                queue.put(1);
+              }
+              return null;
+            });
+      }
+      final List<Future<Long>> consumers = new ArrayList<>();
+      for (int consumer = 0; consumer < 2; consumer++) {
+        consumers.add(
+            executor.submit(
+                () -> {
+                  long sum = 0;
+                  for (int i = 0; i < producers * itemsPerProducer / 2; i++) {
+                    sum += queue.take();
+                  }
+                  return sum;
+                }));
+      }
+      long total = 0;
+      for (Future<Long> consumer : consumers) {
+        total += consumer.get(30, TimeUnit.SECONDS);
+      }
+      assertThat(total).isEqualTo((long) producers * itemsPerProducer);
+      assertThat(queue.size()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Optional;
@@ -31,6 +32,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -38,9 +41,11 @@ import org.mockito.InOrder;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.AsyncEventDeliverer.QueueReader;
+import tech.pegasys.teku.infrastructure.events.EventQueueConfig.OverflowPolicy;
 
 class EventChannelTest {
   private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private final EventQueueMetrics queueMetrics = new EventQueueMetrics(metricsSystem);
   private final ChannelExceptionHandler exceptionHandler = mock(ChannelExceptionHandler.class);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
   private ExecutorService executor;
@@ -177,7 +182,7 @@ class EventChannelTest {
   public void shouldDeliverEventsAsync() throws Exception {
     final ExecutorService executor = mock(ExecutorService.class);
     final EventChannel<EventWithArgument> channel =
-        EventChannel.createAsync(EventWithArgument.class, executor, metricsSystem);
+        EventChannel.createAsync(EventWithArgument.class, executor, metricsSystem, queueMetrics);
     final EventWithArgument subscriber = mock(EventWithArgument.class);
     channel.subscribe(subscriber);
 
@@ -212,7 +217,7 @@ class EventChannelTest {
                 .setNameFormat("shouldDeliverAsyncEventsOnMultipleThreads-%d")
                 .build());
     final EventChannel<WaitOnLatch> channel =
-        EventChannel.createAsync(WaitOnLatch.class, executor, metricsSystem);
+        EventChannel.createAsync(WaitOnLatch.class, executor, metricsSystem, queueMetrics);
     final WaitOnLatch subscriber =
         (started, await, completed) -> {
           started.countDown();
@@ -256,7 +261,7 @@ class EventChannelTest {
   public void shouldReturnFutureResultsAsync() throws Exception {
     final ExecutorService executor = mock(ExecutorService.class);
     final EventChannel<WithFuture> channel =
-        EventChannel.createAsync(WithFuture.class, executor, metricsSystem);
+        EventChannel.createAsync(WithFuture.class, executor, metricsSystem, queueMetrics);
     final SafeFuture<String> expected = SafeFuture.completedFuture("Yay");
     final WithFuture subscriber = () -> expected;
     channel.subscribe(subscriber);
@@ -278,6 +283,108 @@ class EventChannelTest {
     assertThat(result).isCompletedWithValue("Yay");
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void shouldDropOldestEventsWhenQueueIsFull() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(
+            EventWithArgument.class, executor, exceptionHandler, metricsSystem, queueMetrics);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber, EventQueueConfig.create(2, OverflowPolicy.DROP_OLDEST));
+
+    final EventWithArgument publisher = channel.getPublisher(Optional.empty());
+    publisher.method1("Event1");
+    publisher.method1("Event2");
+    publisher.method1("Event3");
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    consumerCaptor.getValue().deliverNextEvent();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event2");
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void shouldCoalesceQueuedCallsToTheSameMethod() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(
+            EventWithArgument.class, executor, exceptionHandler, metricsSystem, queueMetrics);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber, EventQueueConfig.create(10, OverflowPolicy.COALESCE));
+
+    final EventWithArgument publisher = channel.getPublisher(Optional.empty());
+    publisher.method1("Event1");
+    publisher.method2("Event2");
+    publisher.method1("Event3");
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    consumerCaptor.getValue().deliverNextEvent();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verifyNoMoreInteractions();
+
+    // Once delivered, new calls are queued again
+    publisher.method1("Event4");
+    consumerCaptor.getValue().deliverNextEvent();
+    verify(subscriber).method1("Event4");
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void shouldStopQueueTimerOfSupersededCoalescedCalls() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventQueueMetrics timedQueueMetrics = mock(EventQueueMetrics.class);
+    final OperationTimer queueWaitTimer = mock(OperationTimer.class);
+    final TimingContext timer1 = mock(TimingContext.class);
+    final TimingContext timer2 = mock(TimingContext.class);
+    when(timedQueueMetrics.getQueueWaitTimer("EventWithArgument")).thenReturn(queueWaitTimer);
+    when(queueWaitTimer.startTimer()).thenReturn(timer1, timer2);
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(
+            EventWithArgument.class, executor, exceptionHandler, metricsSystem, timedQueueMetrics);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber, EventQueueConfig.create(10, OverflowPolicy.COALESCE));
+
+    final EventWithArgument publisher = channel.getPublisher(Optional.empty());
+    publisher.method1("Event1");
+    verifyNoInteractions(timer1);
+
+    publisher.method1("Event2");
+    verify(timer1).stopTimer();
+    verifyNoInteractions(timer2);
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    verify(timer2).stopTimer();
+    verify(subscriber).method1("Event2");
+    verifyNoMoreInteractions(subscriber);
+  }
+
+  @Test
+  public void shouldRejectLossyOverflowPolicyForChannelsWithReturnValues() {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<WithFuture> channel =
+        EventChannel.createAsync(WithFuture.class, executor, metricsSystem, queueMetrics);
+    final WithFuture subscriber = () -> SafeFuture.completedFuture("Yay");
+    assertThatThrownBy(
+            () ->
+                channel.subscribe(
+                    subscriber, EventQueueConfig.create(10, OverflowPolicy.DROP_OLDEST)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   private void waitForCountDownLatchComplete(final CountDownLatch started1)
       throws InterruptedException {
     assertThat(started1.await(5, TimeUnit.SECONDS)).isTrue();
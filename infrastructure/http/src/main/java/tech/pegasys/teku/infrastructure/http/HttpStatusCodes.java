@@ -19,6 +19,7 @@ public class HttpStatusCodes {
   public static final int SC_ACCEPTED = 202;
   public static final int SC_NO_CONTENT = 204;
   public static final int SC_PARTIAL_CONTENT = 206;
+  public static final int SC_NOT_MODIFIED = 304;
   public static final int SC_BAD_REQUEST = 400;
   public static final int SC_UNAUTHORIZED = 401;
   public static final int SC_FORBIDDEN = 403;
@@ -35,4 +35,13 @@ public interface SerializableTypeDefinition<T> extends OpenApiTypeDefinition {
   static <T> SerializableTypeDefinition<List<T>> listOf(SerializableTypeDefinition<T> itemType) {
     return new SerializableArrayTypeDefinition<>(itemType);
   }
+
+  /**
+   * Creates an array type which serializes items as they are iterated, allowing large responses to
+   * be written without first collecting all items into a list.
+   */
+  static <T> SerializableTypeDefinition<Iterable<T>> iterableOf(
+      SerializableTypeDefinition<T> itemType) {
+    return new SerializableArrayTypeDefinition<>(itemType);
+  }
 }
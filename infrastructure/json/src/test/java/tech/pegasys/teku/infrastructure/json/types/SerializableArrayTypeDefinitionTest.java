@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
 
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.json.JsonTestUtil;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
@@ -40,6 +41,16 @@ public class SerializableArrayTypeDefinitionTest {
     assertThat(result).containsExactly("a", "b", "c");
   }
 
+  @Test
+  void serialize_shouldSerializeLazilyIteratedValues() throws Exception {
+    final SerializableTypeDefinition<Iterable<String>> stringIterableType =
+        SerializableTypeDefinition.iterableOf(STRING_TYPE);
+    final Iterable<String> values = Stream.of("a", "b", "c")::iterator;
+    final List<Object> result =
+        JsonTestUtil.parseList(JsonUtil.serialize(values, stringIterableType));
+    assertThat(result).containsExactly("a", "b", "c");
+  }
+
   @Test
   void shouldGetReferencedTypesRecursively() {
     final SerializableTypeDefinition<String> type1 =
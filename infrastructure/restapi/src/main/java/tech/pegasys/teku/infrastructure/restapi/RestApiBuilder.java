@@ -42,6 +42,7 @@ import org.eclipse.jetty.util.ssl.SslContextFactory;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.JavalinEndpointAdapter;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseCache;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.openapi.OpenApiDocBuilder;
 
@@ -56,6 +57,7 @@ public class RestApiBuilder {
   private final Map<Class<? extends Exception>, RestApiExceptionHandler<?>> exceptionHandlers =
       new HashMap<>();
   private final List<RestApiEndpoint> endpoints = new ArrayList<>();
+  private ResponseCache responseCache = ResponseCache.DISABLED;
 
   private final OpenApiDocBuilder openApiDocBuilder = new OpenApiDocBuilder();
   private boolean openApiDocsEnabled = false;
@@ -116,6 +118,11 @@ public class RestApiBuilder {
     return this;
   }
 
+  public RestApiBuilder responseCache(final ResponseCache responseCache) {
+    this.responseCache = responseCache;
+    return this;
+  }
+
   public RestApiBuilder endpoint(final RestApiEndpoint endpoint) {
     this.openApiDocBuilder.endpoint(endpoint);
     this.endpoints.add(endpoint);
@@ -136,7 +143,8 @@ public class RestApiBuilder {
       app.before(new HostAllowlistHandler(hostAllowlist));
     }
 
-    endpoints.forEach(endpoint -> JavalinEndpointAdapter.addEndpoint(app, endpoint));
+    endpoints.forEach(
+        endpoint -> JavalinEndpointAdapter.addEndpoint(app, endpoint, responseCache));
 
     addExceptionHandlers(app);
 
@@ -23,10 +23,17 @@ import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 public class AsyncApiResponse {
   final int responseCode;
   final Optional<Object> responseBody;
+  final Optional<CacheLength> cacheLength;
 
   private AsyncApiResponse(final int responseCode, final Object responseBody) {
+    this(responseCode, responseBody, Optional.empty());
+  }
+
+  private AsyncApiResponse(
+      final int responseCode, final Object responseBody, final Optional<CacheLength> cacheLength) {
     this.responseCode = responseCode;
     this.responseBody = Optional.ofNullable(responseBody);
+    this.cacheLength = cacheLength;
   }
 
   public int getResponseCode() {
@@ -37,6 +44,10 @@ public class AsyncApiResponse {
     return responseBody;
   }
 
+  public Optional<CacheLength> getCacheLength() {
+    return cacheLength;
+  }
+
   /**
    * Respond with error.
    *
@@ -59,6 +70,21 @@ public class AsyncApiResponse {
     return new AsyncApiResponse(SC_OK, responseBody);
   }
 
+  /**
+   * Respond with content that may be cached for the specified length of time.
+   *
+   * <p>Responses with {@link CacheLength#FINALIZED} must never change for the same request and
+   * are eligible to be served from the {@link ResponseCache}.
+   *
+   * @param responseBody the response content
+   * @param cacheLength how long clients may cache the response for
+   * @return AsyncApiResponse with the cache length set
+   */
+  public static AsyncApiResponse respondOk(
+      final Object responseBody, final CacheLength cacheLength) {
+    return new AsyncApiResponse(SC_OK, responseBody, Optional.of(cacheLength));
+  }
+
   public static AsyncApiResponse respondWithObject(
       final int responseCode, final Object responseBody) {
     return new AsyncApiResponse(responseCode, responseBody);
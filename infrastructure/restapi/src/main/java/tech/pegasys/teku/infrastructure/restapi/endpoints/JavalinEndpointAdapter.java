@@ -20,19 +20,33 @@ import io.javalin.http.Handler;
 public class JavalinEndpointAdapter implements Handler {
 
   private final RestApiEndpoint endpoint;
+  private final ResponseCache responseCache;
 
-  private JavalinEndpointAdapter(final RestApiEndpoint endpoint) {
+  private JavalinEndpointAdapter(
+      final RestApiEndpoint endpoint, final ResponseCache responseCache) {
     this.endpoint = endpoint;
+    this.responseCache = responseCache;
   }
 
   public static void addEndpoint(final Javalin app, final RestApiEndpoint endpoint) {
+    addEndpoint(app, endpoint, ResponseCache.DISABLED);
+  }
+
+  public static void addEndpoint(
+      final Javalin app, final RestApiEndpoint endpoint, final ResponseCache responseCache) {
     final EndpointMetadata metadata = endpoint.getMetadata();
-    app.addHandler(metadata.getMethod(), metadata.getPath(), new JavalinEndpointAdapter(endpoint));
+    app.addHandler(
+        metadata.getMethod(),
+        metadata.getPath(),
+        new JavalinEndpointAdapter(endpoint, responseCache));
   }
 
   @Override
   public void handle(final Context ctx) throws Exception {
-    final RestApiRequest request = new JavalinRestApiRequest(ctx, endpoint.getMetadata());
-    endpoint.handleRequest(request);
+    final JavalinRestApiRequest request =
+        new JavalinRestApiRequest(ctx, endpoint.getMetadata(), responseCache);
+    if (!request.respondFromCache()) {
+      endpoint.handleRequest(request);
+    }
   }
 }
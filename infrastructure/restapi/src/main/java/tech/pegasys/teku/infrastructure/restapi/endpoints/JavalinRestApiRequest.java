@@ -15,16 +15,22 @@ package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
 import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ETAG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_IF_NONE_MATCH;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.core.util.Header;
 import io.javalin.http.Context;
+import io.javalin.http.HandlerType;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,6 +40,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseCache.CachedResponse;
 
 public class JavalinRestApiRequest implements RestApiRequest {
   private static final Logger LOG = LogManager.getLogger();
@@ -41,6 +48,8 @@ public class JavalinRestApiRequest implements RestApiRequest {
   private final EndpointMetadata metadata;
   private final Map<String, String> pathParamMap;
   private final Map<String, List<String>> queryParamMap;
+  private final ResponseCache responseCache;
+  private final Map<String, String> responseHeaders = new HashMap<>();
 
   @Override
   @SuppressWarnings({"TypeParameterUnusedInFormals"})
@@ -50,10 +59,30 @@ public class JavalinRestApiRequest implements RestApiRequest {
   }
 
   public JavalinRestApiRequest(final Context context, final EndpointMetadata metadata) {
+    this(context, metadata, ResponseCache.DISABLED);
+  }
+
+  public JavalinRestApiRequest(
+      final Context context, final EndpointMetadata metadata, final ResponseCache responseCache) {
     this.context = context;
     this.metadata = metadata;
     this.pathParamMap = context.pathParamMap();
     this.queryParamMap = context.queryParamMap();
+    this.responseCache = responseCache;
+  }
+
+  /**
+   * Responds with a previously cached response for this request if one is available.
+   *
+   * @return true if the request was handled from the cache, false if the endpoint should handle it
+   */
+  public boolean respondFromCache() {
+    if (!responseCache.isEnabled() || metadata.getMethod() != HandlerType.GET) {
+      return false;
+    }
+    final Optional<CachedResponse> cachedResponse = responseCache.get(getCacheKey());
+    cachedResponse.ifPresent(this::respondWithCachedResponse);
+    return cachedResponse.isPresent();
   }
 
   @Override
@@ -68,10 +97,21 @@ public class JavalinRestApiRequest implements RestApiRequest {
             .thenApply(
                 result -> {
                   try {
-                    respond(
-                        result.getResponseCode(),
-                        result.getResponseBody(),
-                        getResponseOutputStream());
+                    result
+                        .getCacheLength()
+                        .ifPresent(
+                            cacheLength ->
+                                context.header(
+                                    Header.CACHE_CONTROL, cacheLength.getHttpHeaderValue()));
+                    if (isCacheable(result.getResponseCode(), result.getCacheLength())
+                        && result.getResponseBody().isPresent()) {
+                      respondAndCache(result.getResponseBody().get());
+                    } else {
+                      respond(
+                          result.getResponseCode(),
+                          result.getResponseBody(),
+                          getResponseOutputStream());
+                    }
                   } catch (JsonProcessingException e) {
                     LOG.trace("Failed to generate API response", e);
                     context.status(SC_INTERNAL_SERVER_ERROR);
@@ -85,7 +125,59 @@ public class JavalinRestApiRequest implements RestApiRequest {
   public void respondOk(final Object response, final CacheLength cacheLength)
       throws JsonProcessingException {
     context.header(Header.CACHE_CONTROL, cacheLength.getHttpHeaderValue());
-    respond(SC_OK, response, getResponseOutputStream());
+    if (isCacheable(SC_OK, Optional.of(cacheLength))) {
+      respondAndCache(response);
+    } else {
+      respond(SC_OK, response, getResponseOutputStream());
+    }
+  }
+
+  private boolean isCacheable(final int statusCode, final Optional<CacheLength> cacheLength) {
+    return responseCache.isEnabled()
+        && statusCode == SC_OK
+        && metadata.getMethod() == HandlerType.GET
+        && cacheLength.equals(Optional.of(CacheLength.FINALIZED));
+  }
+
+  private void respondAndCache(final Object response) throws JsonProcessingException {
+    final ResponseMetadata responseMetadata =
+        metadata.createResponseMetadata(
+            SC_OK, Optional.ofNullable(context.header(HEADER_ACCEPT)), response);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    metadata.serialize(SC_OK, responseMetadata.getContentType(), response, out);
+
+    final Map<String, String> headers = new HashMap<>(responseHeaders);
+    headers.putAll(responseMetadata.getAdditionalHeaders());
+    final CachedResponse cachedResponse =
+        new CachedResponse(responseMetadata.getContentType(), headers, out.toByteArray());
+    responseCache.put(getCacheKey(), cachedResponse);
+    respondWithCachedResponse(cachedResponse);
+  }
+
+  private void respondWithCachedResponse(final CachedResponse cachedResponse) {
+    cachedResponse.getHeaders().forEach(context::header);
+    context.header(Header.CACHE_CONTROL, CacheLength.FINALIZED.getHttpHeaderValue());
+    context.header(HEADER_ETAG, cachedResponse.getEtag());
+    final String ifNoneMatch = context.header(HEADER_IF_NONE_MATCH);
+    if (ifNoneMatch != null && cachedResponse.matches(ifNoneMatch)) {
+      context.status(SC_NOT_MODIFIED);
+      return;
+    }
+    context.status(SC_OK);
+    context.contentType(cachedResponse.getContentType());
+    try {
+      getResponseOutputStream().write(cachedResponse.getBody());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String getCacheKey() {
+    return ResponseCache.createKey(
+        metadata.getPath(),
+        pathParamMap,
+        queryParamMap,
+        Optional.ofNullable(context.header(HEADER_ACCEPT)));
   }
 
   @Override
@@ -198,6 +290,7 @@ public class JavalinRestApiRequest implements RestApiRequest {
 
   @Override
   public void header(String name, String value) {
+    responseHeaders.put(name, value);
     context.header(name, value);
   }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.hash.Hashing;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Holds pre-serialized responses for requests whose result can never change, such as queries
+ * against finalized blocks and states.
+ *
+ * <p>Entries are evicted in least recently used order once the total size of the cached response
+ * bodies exceeds the configured limit.
+ */
+public class ResponseCache {
+  public static final ResponseCache DISABLED = new ResponseCache(0);
+
+  private final long maxSizeBytes;
+  private final LinkedHashMap<String, CachedResponse> responses =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long currentSizeBytes = 0;
+
+  private ResponseCache(final long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  public static ResponseCache create(final long maxSizeBytes) {
+    checkArgument(maxSizeBytes >= 0, "Response cache size must not be negative");
+    return maxSizeBytes == 0 ? DISABLED : new ResponseCache(maxSizeBytes);
+  }
+
+  public boolean isEnabled() {
+    return maxSizeBytes > 0;
+  }
+
+  public synchronized Optional<CachedResponse> get(final String key) {
+    return Optional.ofNullable(responses.get(key));
+  }
+
+  public synchronized void put(final String key, final CachedResponse response) {
+    if (response.getSize() > maxSizeBytes) {
+      return;
+    }
+    final CachedResponse previous = responses.put(key, response);
+    if (previous != null) {
+      currentSizeBytes -= previous.getSize();
+    }
+    currentSizeBytes += response.getSize();
+    final Iterator<CachedResponse> iterator = responses.values().iterator();
+    while (currentSizeBytes > maxSizeBytes && iterator.hasNext()) {
+      currentSizeBytes -= iterator.next().getSize();
+      iterator.remove();
+    }
+  }
+
+  public synchronized int size() {
+    return responses.size();
+  }
+
+  public synchronized long getSizeBytes() {
+    return currentSizeBytes;
+  }
+
+  /**
+   * Creates a cache key which is independent of the order parameters were supplied in.
+   *
+   * @param route the route of the endpoint
+   * @param pathParams the path parameters of the request
+   * @param queryParams the query parameters of the request, the order of values for a single
+   *     parameter is preserved as it may affect the response
+   * @param acceptHeader the Accept header of the request which selects the response content type
+   * @return the cache key
+   */
+  static String createKey(
+      final String route,
+      final Map<String, String> pathParams,
+      final Map<String, List<String>> queryParams,
+      final Optional<String> acceptHeader) {
+    return route
+        + "|"
+        + new TreeMap<>(pathParams)
+        + "|"
+        + new TreeMap<>(queryParams)
+        + "|"
+        + acceptHeader.orElse("");
+  }
+
+  public static class CachedResponse {
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final String etag;
+
+    public CachedResponse(
+        final String contentType, final Map<String, String> headers, final byte[] body) {
+      this.contentType = contentType;
+      this.headers = Map.copyOf(headers);
+      this.body = body;
+      this.etag = "\"" + Hashing.sha256().hashBytes(body) + "\"";
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+
+    public Map<String, String> getHeaders() {
+      return headers;
+    }
+
+    public byte[] getBody() {
+      return body;
+    }
+
+    public String getEtag() {
+      return etag;
+    }
+
+    public int getSize() {
+      return body.length;
+    }
+
+    /**
+     * Checks whether an If-None-Match header value matches this response.
+     *
+     * @param ifNoneMatch the value of the If-None-Match header
+     * @return true if the client already holds this response
+     */
+    public boolean matches(final String ifNoneMatch) {
+      for (String candidate : ifNoneMatch.split(",")) {
+        final String tag = candidate.trim();
+        if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
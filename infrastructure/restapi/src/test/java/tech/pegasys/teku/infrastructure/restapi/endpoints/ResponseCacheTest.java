@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseCache.CachedResponse;
+
+class ResponseCacheTest {
+
+  @Test
+  void shouldReturnCachedResponse() {
+    final ResponseCache cache = ResponseCache.create(100);
+    final CachedResponse response = response(10);
+    cache.put("a", response);
+
+    assertThat(cache.get("a")).contains(response);
+    assertThat(cache.get("b")).isEmpty();
+    assertThat(cache.getSizeBytes()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedResponsesWhenFull() {
+    final ResponseCache cache = ResponseCache.create(25);
+    cache.put("a", response(10));
+    cache.put("b", response(10));
+    // Access a so b becomes the least recently used
+    cache.get("a");
+    cache.put("c", response(10));
+
+    assertThat(cache.get("a")).isPresent();
+    assertThat(cache.get("b")).isEmpty();
+    assertThat(cache.get("c")).isPresent();
+    assertThat(cache.getSizeBytes()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldNotCacheResponsesLargerThanMaxSize() {
+    final ResponseCache cache = ResponseCache.create(25);
+    cache.put("a", response(10));
+    cache.put("b", response(30));
+
+    assertThat(cache.get("a")).isPresent();
+    assertThat(cache.get("b")).isEmpty();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReplaceExistingResponse() {
+    final ResponseCache cache = ResponseCache.create(25);
+    cache.put("a", response(10));
+    final CachedResponse replacement = response(5);
+    cache.put("a", replacement);
+
+    assertThat(cache.get("a")).contains(replacement);
+    assertThat(cache.getSizeBytes()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldBeDisabledWhenMaxSizeIsZero() {
+    assertThat(ResponseCache.create(0).isEnabled()).isFalse();
+    assertThat(ResponseCache.create(1).isEnabled()).isTrue();
+  }
+
+  @Test
+  void createKey_shouldBeIndependentOfParameterOrder() {
+    final Map<String, List<String>> queryParams1 = new LinkedHashMap<>();
+    queryParams1.put("a", List.of("1"));
+    queryParams1.put("b", List.of("2", "3"));
+    final Map<String, List<String>> queryParams2 = new LinkedHashMap<>();
+    queryParams2.put("b", List.of("2", "3"));
+    queryParams2.put("a", List.of("1"));
+
+    assertThat(ResponseCache.createKey("/foo", Map.of(), queryParams1, Optional.empty()))
+        .isEqualTo(ResponseCache.createKey("/foo", Map.of(), queryParams2, Optional.empty()));
+  }
+
+  @Test
+  void createKey_shouldIncludeAcceptHeader() {
+    assertThat(ResponseCache.createKey("/foo", Map.of(), Map.of(), Optional.empty()))
+        .isNotEqualTo(
+            ResponseCache.createKey(
+                "/foo", Map.of(), Map.of(), Optional.of("application/octet-stream")));
+  }
+
+  @Test
+  void matches_shouldMatchEtagInIfNoneMatchList() {
+    final CachedResponse response = response(10);
+    final String etag = response.getEtag();
+
+    assertThat(response.matches(etag)).isTrue();
+    assertThat(response.matches("\"other\", " + etag)).isTrue();
+    assertThat(response.matches("W/" + etag)).isTrue();
+    assertThat(response.matches("*")).isTrue();
+    assertThat(response.matches("\"other\"")).isFalse();
+  }
+
+  private CachedResponse response(final int size) {
+    return new CachedResponse("application/json", Map.of(), new byte[size]);
+  }
+}
@@ -16,9 +16,13 @@ package tech.pegasys.teku.infrastructure.restapi.endpoints;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ETAG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_IF_NONE_MATCH;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BYTES32_TYPE;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BYTE_TYPE;
@@ -29,6 +33,7 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT8_TYPE;
 import io.javalin.http.Context;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
@@ -37,6 +42,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import tech.pegasys.teku.infrastructure.http.ContentTypes;
 import tech.pegasys.teku.infrastructure.restapi.CustomResponseTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseCache.CachedResponse;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
 
 public class RestApiRequestTest {
@@ -95,6 +101,33 @@ public class RestApiRequestTest {
     assertThat(request.getQueryParameter(BOOL_PARAM)).isEqualTo(false);
   }
 
+  @Test
+  void respondFromCache_shouldNotRespondWhenNotCached() {
+    when(context.pathParamMap()).thenReturn(Map.of("str", "a"));
+    when(context.queryParamMap()).thenReturn(Map.of());
+    final JavalinRestApiRequest request =
+        new JavalinRestApiRequest(context, METADATA, ResponseCache.create(1024));
+    assertThat(request.respondFromCache()).isFalse();
+  }
+
+  @Test
+  void respondFromCache_shouldRespondNotModifiedWhenEtagMatches() {
+    final ResponseCache cache = ResponseCache.create(1024);
+    final CachedResponse cachedResponse =
+        new CachedResponse("application/json", Map.of(), new byte[] {1, 2, 3});
+    cache.put(
+        ResponseCache.createKey(METADATA.getPath(), Map.of("str", "a"), Map.of(), Optional.empty()),
+        cachedResponse);
+    when(context.pathParamMap()).thenReturn(Map.of("str", "a"));
+    when(context.queryParamMap()).thenReturn(Map.of());
+    when(context.header(HEADER_IF_NONE_MATCH)).thenReturn(cachedResponse.getEtag());
+
+    final JavalinRestApiRequest request = new JavalinRestApiRequest(context, METADATA, cache);
+    assertThat(request.respondFromCache()).isTrue();
+    verify(context).header(HEADER_ETAG, cachedResponse.getEtag());
+    verify(context).status(SC_NOT_MODIFIED);
+  }
+
   @ParameterizedTest
   @MethodSource("getContentTypeAndExpectedResponseType")
   void shouldReturnExpectedResponseType(
@@ -119,6 +119,7 @@ public class StubRestApiRequest implements RestApiRequest {
       return;
     }
     responseCode = response.getResponseCode();
+    response.getCacheLength().ifPresent(length -> cacheLength = length);
     if (response.getResponseBody().isEmpty()) {
       LOG.warn("Response body was empty on async response");
     }
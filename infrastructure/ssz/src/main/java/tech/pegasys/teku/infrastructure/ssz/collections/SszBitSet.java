@@ -28,6 +28,12 @@ public interface SszBitSet {
    */
   boolean isSet(int i);
 
+  /**
+   * Returns the bits packed into little-endian long words in the same layout as {@link
+   * java.util.BitSet#toLongArray()}. Trailing words with no bits set are omitted.
+   */
+  long[] toLongArray();
+
   default boolean isSuperSetOf(final SszBitSet other) {
     return other.streamAllSetBits().allMatch(this::isSet);
   }
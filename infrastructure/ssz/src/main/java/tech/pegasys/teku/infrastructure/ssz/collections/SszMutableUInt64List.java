@@ -13,12 +13,24 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections;
 
+import java.util.function.IntToLongFunction;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface SszMutableUInt64List
     extends SszMutablePrimitiveList<UInt64, SszUInt64>, SszUInt64List {
 
+  /**
+   * Sets every element of this list to the value returned by {@code valueFunction} for its index,
+   * as the long bits of a {@link UInt64}. All values are computed before the list is modified so
+   * the function may read the current elements of this list.
+   *
+   * <p>This is much cheaper than calling {@link #setElement(int, Object)} for most elements as the
+   * changes are not tracked per element. Chunks are packed directly from the values and the tree is
+   * rebuilt in a single pass, reusing any subtree whose values are unchanged.
+   */
+  void setAll(IntToLongFunction valueFunction);
+
   @Override
   SszUInt64List commitChanges();
 }
@@ -105,6 +105,10 @@ class BitlistImpl {
     return data.stream();
   }
 
+  public long[] toLongArray() {
+    return data.toLongArray();
+  }
+
   public long getMaxSize() {
     return maxSize;
   }
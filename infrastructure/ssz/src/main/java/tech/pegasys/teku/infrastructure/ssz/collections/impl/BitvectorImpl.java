@@ -101,6 +101,10 @@ class BitvectorImpl {
     return data.stream();
   }
 
+  public long[] toLongArray() {
+    return data.toLongArray();
+  }
+
   @SuppressWarnings("NarrowingCompoundAssignment")
   public Bytes serialize() {
     byte[] array = new byte[sszSerializationLength(size)];
@@ -134,6 +134,11 @@ public class SszBitlistImpl extends SszListImpl<SszBit> implements SszBitlist {
     return value.streamAllSetBits();
   }
 
+  @Override
+  public long[] toLongArray() {
+    return value.toLongArray();
+  }
+
   @Override
   protected int sizeImpl() {
     return value.getCurrentSize();
@@ -84,6 +84,11 @@ public class SszBitvectorImpl extends SszVectorImpl<SszBit> implements SszBitvec
     return value.streamAllSetBits();
   }
 
+  @Override
+  public long[] toLongArray() {
+    return value.toLongArray();
+  }
+
   @Override
   public SszBitvector withBit(int i) {
     return new SszBitvectorImpl(getSchema(), value.withBit(i));
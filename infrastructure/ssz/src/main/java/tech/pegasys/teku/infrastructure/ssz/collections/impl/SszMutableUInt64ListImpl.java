@@ -13,21 +13,125 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections.impl;
 
+import java.nio.ByteOrder;
+import java.util.function.IntToLongFunction;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszMutableUInt64ListImpl extends SszMutablePrimitiveListImpl<UInt64, SszUInt64>
     implements SszMutableUInt64List {
+  private static final int ELEMENTS_PER_CHUNK = LeafNode.MAX_BYTE_SIZE / Long.BYTES;
 
   public SszMutableUInt64ListImpl(SszUInt64ListImpl backingImmutableData) {
     super(backingImmutableData);
   }
 
+  @Override
+  public void setAll(final IntToLongFunction valueFunction) {
+    final int size = size();
+    final long[] values = new long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = valueFunction.applyAsLong(i);
+    }
+    final SszUInt64ListSchema<?> schema = getSchema();
+    final TreeNode originalVectorNode =
+        backingImmutableData.getBackingNode().get(GIndexUtil.LEFT_CHILD_G_INDEX);
+    final int chunkCount = (size + ELEMENTS_PER_CHUNK - 1) / ELEMENTS_PER_CHUNK;
+    final TreeNode vectorNode =
+        updateChunks(originalVectorNode, schema.treeDepth(), 0, chunkCount, values);
+    if (vectorNode == null) {
+      for (int i = 0; i < size; i++) {
+        setElement(i, UInt64.fromLongBits(values[i]));
+      }
+      return;
+    }
+    final TreeNode sizeNode = SszUInt64.of(UInt64.fromLongBits(size)).getBackingNode();
+    replaceBackingImmutableData(
+        new SszUInt64ListImpl(schema, BranchNode.create(vectorNode, sizeNode)));
+  }
+
+  /**
+   * Rebuilds the subtree holding the chunks starting at firstChunk, bottom up. Returns null if the
+   * subtree isn't made of packed chunks, in which case it can only be updated element by element.
+   */
+  private static TreeNode updateChunks(
+      final TreeNode original,
+      final int depth,
+      final long firstChunk,
+      final int chunkCount,
+      final long[] values) {
+    if (firstChunk >= chunkCount) {
+      // Entirely beyond the end of the list
+      return original;
+    }
+    if (original instanceof SszSuperNode) {
+      // Elements are stored unpacked so chunks can't be rebuilt from the values
+      return null;
+    }
+    if (depth == 0) {
+      return updateChunk(original, (int) firstChunk, values);
+    }
+    final TreeNode originalLeft = original.get(GIndexUtil.LEFT_CHILD_G_INDEX);
+    final TreeNode originalRight = original.get(GIndexUtil.RIGHT_CHILD_G_INDEX);
+    final TreeNode left = updateChunks(originalLeft, depth - 1, firstChunk, chunkCount, values);
+    if (left == null) {
+      return null;
+    }
+    final TreeNode right =
+        updateChunks(
+            originalRight, depth - 1, firstChunk + (1L << (depth - 1)), chunkCount, values);
+    if (right == null) {
+      return null;
+    }
+    if (left == originalLeft && right == originalRight) {
+      return original;
+    }
+    return BranchNode.create(left, right);
+  }
+
+  private static TreeNode updateChunk(
+      final TreeNode original, final int chunkIndex, final long[] values) {
+    final int firstElement = chunkIndex * ELEMENTS_PER_CHUNK;
+    final int elementCount = Math.min(ELEMENTS_PER_CHUNK, values.length - firstElement);
+    final int dataSize = elementCount * Long.BYTES;
+    if (original instanceof LeafDataNode) {
+      final Bytes originalData = ((LeafDataNode) original).getData();
+      if (originalData.size() == dataSize
+          && hasValues(originalData, values, firstElement, elementCount)) {
+        return original;
+      }
+    }
+    final byte[] data = new byte[dataSize];
+    for (int i = 0; i < elementCount; i++) {
+      final long value = values[firstElement + i];
+      for (int b = 0; b < Long.BYTES; b++) {
+        data[i * Long.BYTES + b] = (byte) (value >> (b * 8));
+      }
+    }
+    return LeafNode.create(Bytes.wrap(data));
+  }
+
+  private static boolean hasValues(
+      final Bytes data, final long[] values, final int firstElement, final int elementCount) {
+    for (int i = 0; i < elementCount; i++) {
+      if (data.getLong(i * Long.BYTES, ByteOrder.LITTLE_ENDIAN) != values[firstElement + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public SszUInt64List commitChanges() {
     return (SszUInt64List) super.commitChanges();
@@ -143,7 +143,16 @@ public abstract class AbstractSszMutableComposite<
   @Override
   @SuppressWarnings("unchecked")
   public void clear() {
-    backingImmutableData = (AbstractSszComposite<SszChildT>) getSchema().getDefault();
+    replaceBackingImmutableData((AbstractSszComposite<SszChildT>) getSchema().getDefault());
+  }
+
+  /**
+   * Replaces the backing immutable data and discards all accumulated changes. Used when changes
+   * were applied directly to a new backing tree rather than tracked per child.
+   */
+  protected void replaceBackingImmutableData(
+      final AbstractSszComposite<SszChildT> newBackingImmutableData) {
+    backingImmutableData = newBackingImmutableData;
     childrenChanges.clear();
     sizeCache = backingImmutableData.size();
     invalidate();
@@ -41,6 +41,7 @@ import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszNodeTemplate;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeInterner;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 
 /** Type of homogeneous collections (like List and Vector) */
@@ -202,13 +203,13 @@ public abstract class AbstractSszCollectionSchema<
       int toRead = min(bytesRemain, chunkSize);
       bytesRemain -= toRead;
       Bytes bytes = reader.read(toRead);
-      SszSuperNode node = new SszSuperNode(supernodeDepth, template, bytes);
+      SszSuperNode node = TreeNodeInterner.createSuperNode(supernodeDepth, template, bytes);
       sszNodes.add(node);
     }
     TreeNode tree =
         TreeUtil.createTree(
             sszNodes,
-            new SszSuperNode(supernodeDepth, template, Bytes.EMPTY),
+            TreeNodeInterner.createSuperNode(supernodeDepth, template, Bytes.EMPTY),
             treeDepth() - supernodeDepth);
     return new DeserializedData(tree, elementsCount);
   }
@@ -236,7 +237,7 @@ public abstract class AbstractSszCollectionSchema<
         int toRead = min(bytesRemain, LeafNode.MAX_BYTE_SIZE);
         bytesRemain -= toRead;
         Bytes bytes = reader.read(toRead);
-        LeafNode node = LeafNode.create(bytes);
+        LeafNode node = TreeNodeInterner.createLeaf(bytes);
         childNodes.add(node);
       }
 
@@ -16,16 +16,12 @@ package tech.pegasys.teku.infrastructure.ssz.schema.impl;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Suppliers;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -90,6 +86,12 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
   private final int fixedPartSize;
   private final DeserializableTypeDefinition<C> jsonTypeDefinition;
 
+  // Serialization layout, computed once so (de)serialization doesn't query the field schemas
+  private final boolean fixedSize;
+  private final int[] fixedChildSizes;
+  private final int[] variableChildIndices;
+  private final long[] childGeneralizedIndices;
+
   protected AbstractSszContainerSchema(String name, List<NamedSchema<?>> childrenSchemas) {
     this.containerName = name;
     for (int i = 0; i < childrenSchemas.size(); i++) {
@@ -103,8 +105,12 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     }
     this.childrenSchemas =
         childrenSchemas.stream().map(NamedSchema::getSchema).collect(Collectors.toList());
+    this.fixedChildSizes = calcFixedChildSizes();
+    this.variableChildIndices = calcVariableChildIndices();
+    this.fixedSize = variableChildIndices.length == 0;
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
+    this.childGeneralizedIndices = calcChildGeneralizedIndices();
     this.fixedPartSize = calcSszFixedPartSize();
     this.jsonTypeDefinition = SszContainerTypeDefinition.createFor(this);
   }
@@ -117,8 +123,12 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       childrenNames.add(name);
     }
     this.childrenSchemas = childrenSchemas;
+    this.fixedChildSizes = calcFixedChildSizes();
+    this.variableChildIndices = calcVariableChildIndices();
+    this.fixedSize = variableChildIndices.length == 0;
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
+    this.childGeneralizedIndices = calcChildGeneralizedIndices();
     this.fixedPartSize = calcSszFixedPartSize();
     this.jsonTypeDefinition = SszContainerTypeDefinition.createFor(this);
   }
@@ -155,6 +165,28 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     return treeWidth;
   }
 
+  /** Fixed size of each field, or -1 for variable size fields */
+  private int[] calcFixedChildSizes() {
+    final int[] sizes = new int[getFieldsCount()];
+    for (int i = 0; i < sizes.length; i++) {
+      final SszSchema<?> childSchema = getChildSchema(i);
+      sizes[i] = childSchema.isFixedSize() ? childSchema.getSszFixedPartSize() : -1;
+    }
+    return sizes;
+  }
+
+  private int[] calcVariableChildIndices() {
+    return IntStream.range(0, fixedChildSizes.length).filter(i -> fixedChildSizes[i] < 0).toArray();
+  }
+
+  private long[] calcChildGeneralizedIndices() {
+    final long[] gIndices = new long[getFieldsCount()];
+    for (int i = 0; i < gIndices.length; i++) {
+      gIndices[i] = getChildGeneralizedIndex(i);
+    }
+    return gIndices;
+  }
+
   private TreeNode createDefaultTree() {
     List<TreeNode> defaultChildren = new ArrayList<>((int) getMaxLength());
     for (int i = 0; i < getFieldsCount(); i++) {
@@ -206,12 +238,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public boolean isFixedSize() {
-    for (int i = 0; i < getFieldsCount(); i++) {
-      if (!getChildSchema(i).isFixedSize()) {
-        return false;
-      }
-    }
-    return true;
+    return fixedSize;
   }
 
   @Override
@@ -221,27 +248,19 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   protected int calcSszFixedPartSize() {
     int size = 0;
-    for (int i = 0; i < getFieldsCount(); i++) {
-      SszSchema<?> childType = getChildSchema(i);
-      size += childType.isFixedSize() ? childType.getSszFixedPartSize() : SSZ_LENGTH_SIZE;
+    for (int fixedChildSize : fixedChildSizes) {
+      size += fixedChildSize >= 0 ? fixedChildSize : SSZ_LENGTH_SIZE;
     }
     return size;
   }
 
   @Override
   public int getSszVariablePartSize(TreeNode node) {
-    if (isFixedSize()) {
-      return 0;
-    } else {
-      int size = 0;
-      for (int i = 0; i < getFieldsCount(); i++) {
-        SszSchema<?> childType = getChildSchema(i);
-        if (!childType.isFixedSize()) {
-          size += childType.getSszSize(node.get(getChildGeneralizedIndex(i)));
-        }
-      }
-      return size;
+    int size = 0;
+    for (int i : variableChildIndices) {
+      size += getChildSchema(i).getSszSize(node.get(childGeneralizedIndices[i]));
     }
+    return size;
   }
 
   @Override
@@ -251,85 +270,89 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public int sszSerializeTree(TreeNode node, SszWriter writer) {
-    int variableChildOffset = getSszFixedPartSize();
-    int[] variableSizes = new int[getFieldsCount()];
-    for (int i = 0; i < getFieldsCount(); i++) {
-      TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
+    if (fixedSize) {
+      for (int i = 0; i < childGeneralizedIndices.length; i++) {
+        int size = getChildSchema(i).sszSerializeTree(node.get(childGeneralizedIndices[i]), writer);
+        assert size == fixedChildSizes[i];
+      }
+      return fixedPartSize;
+    }
+    int variableChildOffset = fixedPartSize;
+    TreeNode[] variableChildren = new TreeNode[variableChildIndices.length];
+    int[] variableSizes = new int[variableChildIndices.length];
+    int variableChildCount = 0;
+    for (int i = 0; i < childGeneralizedIndices.length; i++) {
+      TreeNode childSubtree = node.get(childGeneralizedIndices[i]);
       SszSchema<?> childType = getChildSchema(i);
-      if (childType.isFixedSize()) {
+      if (fixedChildSizes[i] >= 0) {
         int size = childType.sszSerializeTree(childSubtree, writer);
-        assert size == childType.getSszFixedPartSize();
+        assert size == fixedChildSizes[i];
       } else {
         writer.write(SszType.sszLengthToBytes(variableChildOffset));
         int childSize = childType.getSszSize(childSubtree);
-        variableSizes[i] = childSize;
+        variableChildren[variableChildCount] = childSubtree;
+        variableSizes[variableChildCount] = childSize;
+        variableChildCount++;
         variableChildOffset += childSize;
       }
     }
-    for (int i = 0; i < childrenSchemas.size(); i++) {
-      SszSchema<?> childType = getChildSchema(i);
-      if (!childType.isFixedSize()) {
-        TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
-        int size = childType.sszSerializeTree(childSubtree, writer);
-        assert size == variableSizes[i];
-      }
+    for (int i = 0; i < variableChildIndices.length; i++) {
+      SszSchema<?> childType = getChildSchema(variableChildIndices[i]);
+      int size = childType.sszSerializeTree(variableChildren[i], writer);
+      assert size == variableSizes[i];
     }
     return variableChildOffset;
   }
 
   @Override
   public TreeNode sszDeserializeTree(SszReader reader) {
-    int endOffset = reader.getAvailableBytes();
     int childCount = getFieldsCount();
-    Queue<TreeNode> fixedChildrenSubtrees = new ArrayDeque<>(childCount);
-    IntList variableChildrenOffsets = new IntArrayList(childCount);
-    for (int i = 0; i < childCount; i++) {
-      SszSchema<?> childType = getChildSchema(i);
-      if (childType.isFixedSize()) {
-        try (SszReader sszReader = reader.slice(childType.getSszFixedPartSize())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          fixedChildrenSubtrees.add(childNode);
+    List<TreeNode> childrenSubtrees = new ArrayList<>(childCount);
+    if (fixedSize) {
+      for (int i = 0; i < childCount; i++) {
+        try (SszReader sszReader = reader.slice(fixedChildSizes[i])) {
+          childrenSubtrees.add(getChildSchema(i).sszDeserializeTree(sszReader));
         }
-      } else {
-        int childOffset = SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
-        variableChildrenOffsets.add(childOffset);
       }
-    }
-
-    if (variableChildrenOffsets.isEmpty()) {
       if (reader.getAvailableBytes() > 0) {
         throw new SszDeserializeException("Invalid SSZ: unread bytes for fixed size container");
       }
-    } else {
-      if (variableChildrenOffsets.getInt(0) != endOffset - reader.getAvailableBytes()) {
-        throw new SszDeserializeException(
-            "First variable element offset doesn't match the end of fixed part");
-      }
+      return TreeUtil.createTree(childrenSubtrees);
     }
 
-    variableChildrenOffsets.add(endOffset);
+    int endOffset = reader.getAvailableBytes();
+    int[] variableChildrenOffsets = new int[variableChildIndices.length + 1];
+    int variableChildCount = 0;
+    for (int i = 0; i < childCount; i++) {
+      if (fixedChildSizes[i] >= 0) {
+        try (SszReader sszReader = reader.slice(fixedChildSizes[i])) {
+          childrenSubtrees.add(getChildSchema(i).sszDeserializeTree(sszReader));
+        }
+      } else {
+        variableChildrenOffsets[variableChildCount++] =
+            SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
+        // Placeholder until the variable part is read
+        childrenSubtrees.add(null);
+      }
+    }
 
-    ArrayDeque<Integer> variableChildrenSizes =
-        new ArrayDeque<>(variableChildrenOffsets.size() - 1);
-    for (int i = 0; i < variableChildrenOffsets.size() - 1; i++) {
-      variableChildrenSizes.add(
-          variableChildrenOffsets.getInt(i + 1) - variableChildrenOffsets.getInt(i));
+    if (variableChildrenOffsets[0] != endOffset - reader.getAvailableBytes()) {
+      throw new SszDeserializeException(
+          "First variable element offset doesn't match the end of fixed part");
     }
+    variableChildrenOffsets[variableChildCount] = endOffset;
 
-    if (variableChildrenSizes.stream().anyMatch(s -> s < 0)) {
-      throw new SszDeserializeException("Invalid SSZ: wrong child offsets");
+    for (int i = 0; i < variableChildCount; i++) {
+      if (variableChildrenOffsets[i + 1] < variableChildrenOffsets[i]) {
+        throw new SszDeserializeException("Invalid SSZ: wrong child offsets");
+      }
     }
 
-    List<TreeNode> childrenSubtrees = new ArrayList<>(childCount);
-    for (int i = 0; i < childCount; i++) {
-      SszSchema<?> childType = getChildSchema(i);
-      if (childType.isFixedSize()) {
-        childrenSubtrees.add(fixedChildrenSubtrees.remove());
-      } else {
-        try (SszReader sszReader = reader.slice(variableChildrenSizes.remove())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          childrenSubtrees.add(childNode);
-        }
+    for (int i = 0; i < variableChildCount; i++) {
+      int childIndex = variableChildIndices[i];
+      int childSize = variableChildrenOffsets[i + 1] - variableChildrenOffsets[i];
+      try (SszReader sszReader = reader.slice(childSize)) {
+        childrenSubtrees.set(childIndex, getChildSchema(childIndex).sszDeserializeTree(sszReader));
       }
     }
 
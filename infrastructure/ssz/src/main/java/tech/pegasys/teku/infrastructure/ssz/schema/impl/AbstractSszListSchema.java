@@ -36,8 +36,8 @@ import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
-import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeInterner;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
@@ -260,7 +260,8 @@ public abstract class AbstractSszListSchema<
               } else {
                 data = nodeSource.loadLeafNode(childHash, childGIndex);
               }
-              return new SszSuperNode(superNodeDepth, elementSszSupernodeTemplate.get(), data);
+              return TreeNodeInterner.createSuperNode(
+                  superNodeDepth, elementSszSupernodeTemplate.get(), data);
             };
     final long vectorRootGIndex = GIndexUtil.gIdxLeftGIndex(rootGIndex);
     final long lastUsefulGIndex =
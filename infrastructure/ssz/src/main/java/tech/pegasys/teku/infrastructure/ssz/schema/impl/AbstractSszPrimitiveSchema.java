@@ -29,6 +29,7 @@ import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeInterner;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
 
@@ -81,7 +82,7 @@ public abstract class AbstractSszPrimitiveSchema<
       return LeafNode.ZERO_LEAVES[sszSize];
     } else {
       final Bytes data = nodeSource.loadLeafNode(rootHash, rootGIndex);
-      return LeafNode.create(data.slice(0, sszSize));
+      return TreeNodeInterner.createLeaf(data.slice(0, sszSize));
     }
   }
 
@@ -152,7 +153,7 @@ public abstract class AbstractSszPrimitiveSchema<
   }
 
   protected LeafNode createNodeFromSszBytes(final Bytes bytes) {
-    return LeafNode.create(bytes);
+    return TreeNodeInterner.createLeaf(bytes);
   }
 
   @Override
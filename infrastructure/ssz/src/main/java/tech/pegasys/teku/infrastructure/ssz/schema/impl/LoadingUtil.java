@@ -28,6 +28,7 @@ import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil.NodeRelation;
 import tech.pegasys.teku.infrastructure.ssz.tree.LazyBranchNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeInterner;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
@@ -186,7 +187,7 @@ public class LoadingUtil {
     if (elementSchema.isPrimitive()) {
       final Bytes data = childNodeSource.loadLeafNode(childHash, childGIndex);
       if (data.size() > Bytes32.SIZE) {
-        return LeafNode.create(data);
+        return TreeNodeInterner.createLeaf(data);
       } else {
         // Potentially need to trim the data
         final int fullNodeCount = length / elementsPerChunk;
@@ -213,7 +214,7 @@ public class LoadingUtil {
     if (data.size() < Bytes32.SIZE && data.isZero()) {
       return LeafNode.ZERO_LEAVES[data.size()];
     } else {
-      return LeafNode.create(data);
+      return TreeNodeInterner.createLeaf(data);
     }
   }
 
@@ -16,6 +16,7 @@ package tech.pegasys.teku.infrastructure.ssz.tree;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import java.security.MessageDigest;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
@@ -176,6 +177,29 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
     return ssz;
   }
 
+  /**
+   * Super nodes are equal when they have the same depth, element template and content, which allows
+   * identical nodes to be shared by {@link TreeNodeInterner}
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SszSuperNode)) {
+      return false;
+    }
+    SszSuperNode that = (SszSuperNode) o;
+    return depth == that.depth
+        && Objects.equals(elementTemplate, that.elementTemplate)
+        && Objects.equals(ssz, that.ssz);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(depth, ssz);
+  }
+
   @Override
   public String toString() {
     int sszLength = elementTemplate.getSszLength();
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Shares identical leaf and super nodes created while loading states.
+ *
+ * <p>Trees built from SSZ or loaded from a {@link TreeNodeSource} contain fresh copies of nodes
+ * which are frequently identical across states, such as zero balances, common withdrawal
+ * credentials and unchanged chunks of packed lists. Nodes created by the current thread inside
+ * {@link #intern(Supplier)} are replaced by a single canonical instance so independently loaded
+ * states share memory.
+ *
+ * <p>Canonical nodes are held weakly and released once no tree references them. Nodes created
+ * outside {@link #intern(Supplier)}, such as when decoding gossip or RPC messages, are never
+ * interned as every interned node must be hashed and looked up.
+ */
+public class TreeNodeInterner {
+
+  private static final Interner<LeafNode> LEAF_NODES = Interners.newWeakInterner();
+  private static final Interner<SszSuperNode> SUPER_NODES = Interners.newWeakInterner();
+
+  private static final ThreadLocal<Boolean> INTERNING = ThreadLocal.withInitial(() -> false);
+
+  /** Runs the loader, interning any leaf and super nodes it creates on the current thread */
+  public static <T> T intern(final Supplier<T> loader) {
+    if (INTERNING.get()) {
+      return loader.get();
+    }
+    INTERNING.set(true);
+    try {
+      return loader.get();
+    } finally {
+      INTERNING.set(false);
+    }
+  }
+
+  /** Creates a leaf node with the given data, reusing an identical existing node if interning */
+  public static LeafNode createLeaf(final Bytes data) {
+    final LeafNode node = LeafNode.create(data);
+    return INTERNING.get() ? LEAF_NODES.intern(node) : node;
+  }
+
+  /** Creates a super node with the given content, reusing an identical node if interning */
+  public static SszSuperNode createSuperNode(
+      final int depth, final SszNodeTemplate elementTemplate, final Bytes ssz) {
+    final SszSuperNode node = new SszSuperNode(depth, elementTemplate, ssz);
+    return INTERNING.get() ? SUPER_NODES.intern(node) : node;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Estimates the heap memory retained by one or more trees. Nodes are deduplicated by identity, so
+ * subtrees shared between the added trees (or within a single tree) are only counted once.
+ *
+ * <p>Sizes are approximate, assuming a 64-bit JVM with compressed object pointers, and include the
+ * cached hash of each node. The children of a {@link LazyBranchNode} are not visited as that would
+ * load them.
+ *
+ * <p>Every visited node is tracked until the estimator is discarded, so instances should not be
+ * retained. This class is not thread safe.
+ */
+public class TreeNodeMemoryEstimator {
+  // Bytes32 wrapper and its 32 byte backing array
+  static final long HASH_BYTES = 72;
+  static final long BRANCH_NODE_BYTES = 24 + HASH_BYTES;
+  static final long LAZY_BRANCH_NODE_BYTES = 40 + 3 * HASH_BYTES;
+  static final long LEAF_NODE_BYTES = 24 + HASH_BYTES;
+  static final long SUPER_NODE_BYTES = 32 + HASH_BYTES;
+  // Bytes wrapper and the backing array header
+  static final long DATA_OVERHEAD_BYTES = 40;
+
+  private final Set<TreeNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+  private long totalBytes = 0;
+
+  /**
+   * Adds the tree under {@code root} to the estimate.
+   *
+   * @param root the root of the tree to add
+   * @return the estimated bytes of nodes which hadn't already been counted by this estimator
+   */
+  public long add(final TreeNode root) {
+    long addedBytes = 0;
+    final Deque<TreeNode> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      final TreeNode node = pending.pop();
+      if (!visited.add(node)) {
+        continue;
+      }
+      addedBytes += estimateNodeBytes(node);
+      if (node instanceof BranchNode && !(node instanceof LazyBranchNode)) {
+        final BranchNode branchNode = (BranchNode) node;
+        pending.push(branchNode.right());
+        pending.push(branchNode.left());
+      }
+    }
+    totalBytes += addedBytes;
+    return addedBytes;
+  }
+
+  /** Returns the estimated bytes of all distinct nodes added so far */
+  public long getTotalBytes() {
+    return totalBytes;
+  }
+
+  static long estimateNodeBytes(final TreeNode node) {
+    if (node instanceof LazyBranchNode) {
+      return LAZY_BRANCH_NODE_BYTES;
+    } else if (node instanceof BranchNode) {
+      return BRANCH_NODE_BYTES;
+    } else if (node instanceof SszSuperNode) {
+      return SUPER_NODE_BYTES + estimateDataBytes((SszSuperNode) node);
+    } else if (node instanceof LeafDataNode) {
+      return LEAF_NODE_BYTES + estimateDataBytes((LeafDataNode) node);
+    } else {
+      return LEAF_NODE_BYTES;
+    }
+  }
+
+  private static long estimateDataBytes(final LeafDataNode node) {
+    // Arrays are padded to a multiple of 8 bytes
+    return DATA_OVERHEAD_BYTES + ((node.getData().size() + 7L) & ~7L);
+  }
+}
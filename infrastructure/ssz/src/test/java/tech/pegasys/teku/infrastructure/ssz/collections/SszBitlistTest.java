@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.infrastructure.collections.PrimitiveCollectionAssert.assertThatIntCollection;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.BitSet;
 import java.util.OptionalInt;
 import java.util.Random;
 import java.util.stream.IntStream;
@@ -156,6 +158,17 @@ public class SszBitlistTest implements SszPrimitiveListTestBase {
     assertThat(bitlist.getBitCount()).isEqualTo(bitCount);
   }
 
+  @ParameterizedTest
+  @MethodSource("bitlistArgs")
+  void toLongArray_shouldPackSetBitsIntoWords(SszBitlist bitlist) {
+    final long[] words = bitlist.toLongArray();
+    assertThatIntCollection(IntArrayList.toList(BitSet.valueOf(words).stream()))
+        .isEqualTo(bitlist.getAllSetBits());
+    if (words.length > 0) {
+      assertThat(words[words.length - 1]).isNotZero();
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("bitlistArgs")
   void intersects_shouldNotIntersectWithEmpty(SszBitlist bitlist) {
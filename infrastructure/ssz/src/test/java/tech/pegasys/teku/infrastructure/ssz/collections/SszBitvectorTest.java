@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.infrastructure.collections.PrimitiveCollectionAssert.assertThatIntCollection;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.IntStream;
@@ -104,6 +106,17 @@ public class SszBitvectorTest implements SszPrimitiveCollectionTestBase, SszVect
     assertThat(bitvector.getBitCount()).isEqualTo(bitCount);
   }
 
+  @ParameterizedTest
+  @MethodSource("bitvectorArgs")
+  void toLongArray_shouldPackSetBitsIntoWords(SszBitvector bitvector) {
+    final long[] words = bitvector.toLongArray();
+    assertThatIntCollection(IntArrayList.toList(BitSet.valueOf(words).stream()))
+        .isEqualTo(bitvector.getAllSetBits());
+    if (words.length > 0) {
+      assertThat(words[words.length - 1]).isNotZero();
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("bitvectorArgs")
   void createWritableCopy_shouldThrow(SszBitvector bitvector) {
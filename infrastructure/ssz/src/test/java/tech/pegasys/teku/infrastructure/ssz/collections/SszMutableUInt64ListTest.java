@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszMutableUInt64ListTest {
+
+  private final SszUInt64ListSchema<SszUInt64List> schema = SszUInt64ListSchema.create(1024);
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 17, 300, 1024})
+  void setAll_shouldMatchSettingEachElement(final int size) {
+    final SszUInt64List list = createList(size, i -> i);
+    final IntToLongFunction newValue = i -> i * 31L + 7;
+
+    final SszMutableUInt64List bulkUpdated = list.createWritableCopy();
+    bulkUpdated.setAll(newValue);
+    final SszMutableUInt64List individuallyUpdated = list.createWritableCopy();
+    for (int i = 0; i < size; i++) {
+      individuallyUpdated.setElement(i, UInt64.fromLongBits(newValue.applyAsLong(i)));
+    }
+
+    final SszUInt64List expected = individuallyUpdated.commitChanges();
+    final SszUInt64List actual = bulkUpdated.commitChanges();
+    assertThat(actual.size()).isEqualTo(size);
+    assertThat(actual.asListUnboxed()).isEqualTo(expected.asListUnboxed());
+    assertThat(actual.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+    assertThat(actual.sszSerialize()).isEqualTo(expected.sszSerialize());
+  }
+
+  @Test
+  void setAll_shouldAllowReadingCurrentValues() {
+    final SszMutableUInt64List list = createList(10, i -> i).createWritableCopy();
+
+    list.setAll(i -> list.getElement(i).longValue() * 2);
+
+    assertThat(list.commitChanges().asListUnboxed())
+        .isEqualTo(createList(10, i -> i * 2L).asListUnboxed());
+  }
+
+  @Test
+  void setAll_shouldIncludePendingChanges() {
+    final SszMutableUInt64List list = createList(10, i -> i).createWritableCopy();
+    list.setElement(3, UInt64.valueOf(100));
+    list.appendElement(UInt64.valueOf(10));
+
+    list.setAll(i -> list.getElement(i).longValue() + 1);
+
+    final SszUInt64List expected = createList(11, i -> i == 3 ? 101 : i + 1);
+    final SszUInt64List actual = list.commitChanges();
+    assertThat(actual.asListUnboxed()).isEqualTo(expected.asListUnboxed());
+    assertThat(actual.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+  }
+
+  @Test
+  void setAll_shouldReuseUnchangedChunks() {
+    final SszUInt64List original = createList(300, i -> i);
+    final SszMutableUInt64List list = original.createWritableCopy();
+
+    // Only change the last element
+    list.setAll(i -> i == 299 ? 1000 : i);
+    final SszUInt64List updated = list.commitChanges();
+
+    // Four uint64 values are packed into each chunk
+    final long firstChunkGIndex = schema.getChildGeneralizedIndex(0);
+    final long lastChunkGIndex = schema.getChildGeneralizedIndex(299 / 4);
+    assertThat(updated.getBackingNode().get(firstChunkGIndex))
+        .isSameAs(original.getBackingNode().get(firstChunkGIndex));
+    assertThat(updated.getBackingNode().get(lastChunkGIndex))
+        .isNotSameAs(original.getBackingNode().get(lastChunkGIndex));
+    assertThat(updated.getElement(299)).isEqualTo(UInt64.valueOf(1000));
+  }
+
+  @Test
+  void setAll_shouldReturnSameTreeWhenNothingChanged() {
+    final SszUInt64List original = createList(300, i -> i);
+    final SszMutableUInt64List list = original.createWritableCopy();
+
+    list.setAll(i -> i);
+
+    assertThat(list.commitChanges().getBackingNode().get(GIndexUtil.LEFT_CHILD_G_INDEX))
+        .isSameAs(original.getBackingNode().get(GIndexUtil.LEFT_CHILD_G_INDEX));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void setAll_shouldMatchSettingEachElementWithSuperNodeHint() {
+    final SszUInt64ListSchema<SszUInt64List> hintedSchema =
+        (SszUInt64ListSchema<SszUInt64List>)
+            SszListSchema.create(
+                SszPrimitiveSchemas.UINT64_SCHEMA, 1024, SszSchemaHints.sszSuperNode(2));
+    final SszUInt64List list = createList(hintedSchema, 300, i -> i);
+    final IntToLongFunction newValue = i -> i * 31L + 7;
+
+    final SszMutableUInt64List bulkUpdated = list.createWritableCopy();
+    bulkUpdated.setAll(newValue);
+    final SszMutableUInt64List individuallyUpdated = list.createWritableCopy();
+    for (int i = 0; i < 300; i++) {
+      individuallyUpdated.setElement(i, UInt64.fromLongBits(newValue.applyAsLong(i)));
+    }
+
+    final SszUInt64List expected = individuallyUpdated.commitChanges();
+    final SszUInt64List actual = bulkUpdated.commitChanges();
+    assertThat(actual.asListUnboxed()).isEqualTo(expected.asListUnboxed());
+    assertThat(actual.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+    // Packed uint64 chunks can't be held in super nodes so the hint doesn't apply
+    assertThat(actual.getBackingNode().get(hintedSchema.getChildGeneralizedIndex(0)))
+        .isNotInstanceOf(SszSuperNode.class);
+  }
+
+  private SszUInt64List createList(final int size, final IntToLongFunction valueFunction) {
+    return createList(schema, size, valueFunction);
+  }
+
+  private static SszUInt64List createList(
+      final SszUInt64ListSchema<SszUInt64List> schema,
+      final int size,
+      final IntToLongFunction valueFunction) {
+    final SszMutableUInt64List list = schema.getDefault().createWritableCopy();
+    for (int i = 0; i < size; i++) {
+      list.appendElement(UInt64.fromLongBits(valueFunction.applyAsLong(i)));
+    }
+    return list.commitChanges();
+  }
+}
@@ -13,13 +13,18 @@
 
 package tech.pegasys.teku.infrastructure.ssz.schema;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestLargeContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSmallContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSubContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.VariableSizeContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 
 public class SszContainerSchemaTest extends SszCompositeSchemaTestBase {
 
@@ -37,4 +42,23 @@ public class SszContainerSchemaTest extends SszCompositeSchemaTestBase {
   public Stream<SszContainerSchema<?>> testSchemas() {
     return testContainerSchemas();
   }
+
+  @Test
+  void sszDeserialize_shouldRejectExtraBytesForFixedSizeContainer() {
+    final Bytes ssz = TestSubContainer.SSZ_SCHEMA.getDefault().sszSerialize();
+
+    assertThatThrownBy(
+            () -> TestSubContainer.SSZ_SCHEMA.sszDeserialize(Bytes.concatenate(ssz, Bytes.of(0))))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void sszDeserialize_shouldRejectFirstOffsetNotMatchingEndOfFixedPart() {
+    final byte[] ssz = VariableSizeContainer.SSZ_SCHEMA.getDefault().sszSerialize().toArray();
+    // The offset of the list field immediately follows the fixed size sub container
+    ssz[TestSubContainer.SSZ_SCHEMA.getSszFixedPartSize()]++;
+
+    assertThatThrownBy(() -> VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(Bytes.wrap(ssz)))
+        .isInstanceOf(SszDeserializeException.class);
+  }
 }
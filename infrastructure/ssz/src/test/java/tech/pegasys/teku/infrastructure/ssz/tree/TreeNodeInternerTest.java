@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class TreeNodeInternerTest {
+
+  private final Bytes ssz =
+      Bytes.concatenate(
+          LongStream.rangeClosed(1, 16)
+              .mapToObj(i -> Bytes.ofUnsignedLong(i, ByteOrder.LITTLE_ENDIAN))
+              .toArray(Bytes[]::new));
+
+  private final SszListSchema<?, ?> superNodeListSchema =
+      SszListSchema.create(TestSubContainer.SSZ_SCHEMA, 1024, SszSchemaHints.sszSuperNode(2));
+
+  @Test
+  void shouldNotShareLeafNodesOutsideInterningScope() {
+    final SszListSchema<?, ?> schema =
+        SszListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 1024);
+
+    final List<TreeNode> nodes1 = collectDataNodes(schema.sszDeserialize(ssz));
+    final List<TreeNode> nodes2 = collectDataNodes(schema.sszDeserialize(ssz));
+
+    assertThat(nodes2.get(0)).isEqualTo(nodes1.get(0)).isNotSameAs(nodes1.get(0));
+  }
+
+  @Test
+  void shouldShareIdenticalLeafNodesInInterningScope() {
+    final SszListSchema<?, ?> schema =
+        SszListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 1024);
+
+    final List<TreeNode> nodes1 = internedDataNodes(schema, ssz);
+    final List<TreeNode> nodes2 = internedDataNodes(schema, ssz);
+
+    // 16 uint64 values are packed into 4 leaves
+    for (int i = 0; i < 4; i++) {
+      assertThat(nodes2.get(i)).isSameAs(nodes1.get(i));
+    }
+  }
+
+  @Test
+  void shouldShareIdenticalSuperNodesInInterningScope() {
+    final Bytes containersSsz = containersSsz();
+
+    final List<TreeNode> nodes1 = internedDataNodes(superNodeListSchema, containersSsz);
+    final List<TreeNode> nodes2 = internedDataNodes(superNodeListSchema, containersSsz);
+
+    // 16 containers are held in 4 super nodes of 4 elements
+    for (int i = 0; i < 4; i++) {
+      assertThat(nodes1.get(i)).isInstanceOf(SszSuperNode.class);
+      assertThat(nodes2.get(i)).isSameAs(nodes1.get(i));
+    }
+  }
+
+  @Test
+  void shouldNotShareSuperNodesWithDifferentContent() {
+    final Bytes containersSsz = containersSsz();
+    // Only the first container differs
+    final Bytes otherSsz =
+        Bytes.concatenate(
+            new TestSubContainer(UInt64.valueOf(99), Bytes32.ZERO).sszSerialize(),
+            containersSsz.slice(TestSubContainer.SSZ_SCHEMA.getSszFixedPartSize()));
+
+    final List<TreeNode> nodes1 = internedDataNodes(superNodeListSchema, containersSsz);
+    final List<TreeNode> nodes2 = internedDataNodes(superNodeListSchema, otherSsz);
+
+    assertThat(nodes2.get(0)).isNotEqualTo(nodes1.get(0));
+    assertThat(nodes2.get(1)).isSameAs(nodes1.get(1));
+  }
+
+  @Test
+  void shouldNotShareNodesCreatedAfterInterningScopeEnds() {
+    final SszListSchema<?, ?> schema =
+        SszListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 1024);
+
+    final List<TreeNode> nodes1 = internedDataNodes(schema, ssz);
+    final List<TreeNode> nodes2 = collectDataNodes(schema.sszDeserialize(ssz));
+
+    assertThat(nodes2.get(0)).isEqualTo(nodes1.get(0)).isNotSameAs(nodes1.get(0));
+  }
+
+  private static Bytes containersSsz() {
+    return Bytes.concatenate(
+        LongStream.rangeClosed(1, 16)
+            .mapToObj(i -> new TestSubContainer(UInt64.valueOf(i), Bytes32.ZERO).sszSerialize())
+            .toArray(Bytes[]::new));
+  }
+
+  private static List<TreeNode> internedDataNodes(
+      final SszListSchema<?, ?> schema, final Bytes ssz) {
+    return TreeNodeInterner.intern(() -> collectDataNodes(schema.sszDeserialize(ssz)));
+  }
+
+  private static List<TreeNode> collectDataNodes(final SszData data) {
+    final List<TreeNode> nodes = new ArrayList<>();
+    collectDataNodes(data.getBackingNode(), nodes);
+    return nodes;
+  }
+
+  private static void collectDataNodes(final TreeNode node, final List<TreeNode> nodes) {
+    if (node instanceof BranchNode) {
+      collectDataNodes(((BranchNode) node).left(), nodes);
+      collectDataNodes(((BranchNode) node).right(), nodes);
+    } else {
+      nodes.add(node);
+    }
+  }
+}
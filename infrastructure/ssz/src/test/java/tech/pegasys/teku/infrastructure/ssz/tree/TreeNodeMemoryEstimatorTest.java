@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+class TreeNodeMemoryEstimatorTest {
+  private final TreeNodeMemoryEstimator estimator = new TreeNodeMemoryEstimator();
+
+  private final TreeNode leaf1 = LeafNode.create(Bytes32.fromHexString("0x01"));
+  private final TreeNode leaf2 = LeafNode.create(Bytes.of(1, 2, 3));
+  private final long leaf1Bytes = TreeNodeMemoryEstimator.estimateNodeBytes(leaf1);
+  private final long leaf2Bytes = TreeNodeMemoryEstimator.estimateNodeBytes(leaf2);
+
+  @Test
+  void shouldPadLeafDataToMultipleOfEightBytes() {
+    assertThat(leaf1Bytes)
+        .isEqualTo(
+            TreeNodeMemoryEstimator.LEAF_NODE_BYTES
+                + TreeNodeMemoryEstimator.DATA_OVERHEAD_BYTES
+                + 32);
+    assertThat(leaf2Bytes)
+        .isEqualTo(
+            TreeNodeMemoryEstimator.LEAF_NODE_BYTES
+                + TreeNodeMemoryEstimator.DATA_OVERHEAD_BYTES
+                + 8);
+  }
+
+  @Test
+  void add_shouldCountSharedNodesOnce() {
+    final TreeNode branch = BranchNode.create(leaf1, leaf2);
+    final TreeNode root = BranchNode.create(branch, branch);
+
+    final long expectedBytes =
+        2 * TreeNodeMemoryEstimator.BRANCH_NODE_BYTES + leaf1Bytes + leaf2Bytes;
+    assertThat(estimator.add(root)).isEqualTo(expectedBytes);
+    assertThat(estimator.getTotalBytes()).isEqualTo(expectedBytes);
+  }
+
+  @Test
+  void add_shouldOnlyReturnBytesNotSharedWithPreviouslyAddedTrees() {
+    final TreeNode tree1 = BranchNode.create(leaf1, leaf2);
+    final TreeNode tree2 = tree1.updated(GIndexUtil.LEFT_CHILD_G_INDEX, leaf2);
+
+    estimator.add(tree1);
+
+    assertThat(estimator.add(tree2)).isEqualTo(TreeNodeMemoryEstimator.BRANCH_NODE_BYTES);
+    assertThat(estimator.add(tree1)).isZero();
+    assertThat(estimator.getTotalBytes())
+        .isEqualTo(2 * TreeNodeMemoryEstimator.BRANCH_NODE_BYTES + leaf1Bytes + leaf2Bytes);
+  }
+
+  @Test
+  void add_shouldNotLoadChildrenOfLazyBranchNodes() {
+    final TreeNode lazyNode =
+        LazyBranchNode.createWithUnknownHash(
+            Bytes32.ZERO,
+            Bytes32.ZERO,
+            () -> fail("Should not load left child"),
+            () -> fail("Should not load right child"));
+
+    assertThat(estimator.add(lazyNode)).isEqualTo(TreeNodeMemoryEstimator.LAZY_BRANCH_NODE_BYTES);
+  }
+}
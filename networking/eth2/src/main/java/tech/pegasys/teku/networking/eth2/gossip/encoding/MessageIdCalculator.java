@@ -14,27 +14,61 @@
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
+import tech.pegasys.teku.spec.SpecMilestone;
 
+/**
+ * Calculates gossip message ids for a single topic. The data that precedes the message in the
+ * hashed input depends only on the topic so is computed once and each message is then hashed
+ * without being copied.
+ */
 abstract class MessageIdCalculator {
   // 4-byte domain for gossip message-id isolation of *invalid* snappy messages
   protected static final Bytes MESSAGE_DOMAIN_INVALID_SNAPPY = Bytes.fromHexString("0x00000000");
   // 4-byte domain for gossip message-id isolation of *valid* snappy messages
   protected static final Bytes MESSAGE_DOMAIN_VALID_SNAPPY = Bytes.fromHexString("0x01000000");
 
-  protected abstract Bytes validMessageIdData(final Bytes uncompressedData);
+  private final Bytes validMessageIdPrefix;
+  private final Bytes invalidMessageIdPrefix;
+
+  protected MessageIdCalculator(
+      final Bytes validMessageIdPrefix, final Bytes invalidMessageIdPrefix) {
+    this.validMessageIdPrefix = validMessageIdPrefix;
+    this.invalidMessageIdPrefix = invalidMessageIdPrefix;
+  }
 
-  protected abstract Bytes invalidMessageIdData();
+  static MessageIdCalculator create(
+      final String topic, final ForkDigestToMilestone forkDigestToMilestone) {
+    final Bytes4 forkDigest = GossipTopics.extractForkDigest(topic);
+    final SpecMilestone milestone =
+        forkDigestToMilestone
+            .getMilestone(forkDigest)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Failed to associate a milestone with the forkDigest in topic: " + topic));
+
+    switch (milestone) {
+      case PHASE0:
+        return new MessageIdCalculatorPhase0();
+      case ALTAIR:
+      default:
+        return new MessageIdCalculatorAltair(topic);
+    }
+  }
 
-  protected Bytes hashMessageIdData(final Bytes idData) {
-    return Hash.sha256(idData).slice(0, 20);
+  protected Bytes hashMessageIdData(final Bytes prefix, final Bytes data) {
+    return Hash.sha256(prefix, data).slice(0, 20);
   }
 
   public Bytes getValidMessageId(final Bytes uncompressedData) {
-    return hashMessageIdData(validMessageIdData(uncompressedData));
+    return hashMessageIdData(validMessageIdPrefix, uncompressedData);
   }
 
-  public Bytes getInvalidMessageId() {
-    return hashMessageIdData(invalidMessageIdData());
+  public Bytes getInvalidMessageId(final Bytes rawMessageData) {
+    return hashMessageIdData(invalidMessageIdPrefix, rawMessageData);
   }
 }
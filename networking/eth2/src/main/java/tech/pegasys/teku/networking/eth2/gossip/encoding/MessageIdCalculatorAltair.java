@@ -18,33 +18,16 @@ import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.spec.logic.common.helpers.MathHelpers;
 
 class MessageIdCalculatorAltair extends MessageIdCalculator {
-  private final Bytes rawMessageData;
-  private final String topic;
 
-  public MessageIdCalculatorAltair(final Bytes rawMessageData, final String topic) {
-    this.rawMessageData = rawMessageData;
-    this.topic = topic;
+  public MessageIdCalculatorAltair(final String topic) {
+    super(
+        createPrefix(MESSAGE_DOMAIN_VALID_SNAPPY, topic),
+        createPrefix(MESSAGE_DOMAIN_INVALID_SNAPPY, topic));
   }
 
-  @Override
-  protected Bytes validMessageIdData(final Bytes uncompressedData) {
-    final Bytes topicBytes = getTopicBytes();
-    final Bytes topicBytesLength = encodeTopicLength(topicBytes);
-    return Bytes.wrap(MESSAGE_DOMAIN_VALID_SNAPPY, topicBytesLength, topicBytes, uncompressedData);
-  }
-
-  @Override
-  protected Bytes invalidMessageIdData() {
-    final Bytes topicBytes = getTopicBytes();
-    final Bytes topicBytesLength = encodeTopicLength(topicBytes);
-    return Bytes.wrap(MESSAGE_DOMAIN_INVALID_SNAPPY, topicBytesLength, topicBytes, rawMessageData);
-  }
-
-  private Bytes getTopicBytes() {
-    return Bytes.of(topic.getBytes(StandardCharsets.UTF_8));
-  }
-
-  private Bytes encodeTopicLength(final Bytes topicBytes) {
-    return MathHelpers.uint64ToBytes(topicBytes.size());
+  private static Bytes createPrefix(final Bytes domain, final String topic) {
+    final Bytes topicBytes = Bytes.wrap(topic.getBytes(StandardCharsets.UTF_8));
+    final Bytes topicBytesLength = MathHelpers.uint64ToBytes(topicBytes.size());
+    return Bytes.concatenate(domain, topicBytesLength, topicBytes);
   }
 }
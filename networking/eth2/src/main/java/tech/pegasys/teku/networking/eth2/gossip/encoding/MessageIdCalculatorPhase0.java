@@ -13,22 +13,9 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
-import org.apache.tuweni.bytes.Bytes;
-
 class MessageIdCalculatorPhase0 extends MessageIdCalculator {
-  private final Bytes rawMessageData;
-
-  public MessageIdCalculatorPhase0(final Bytes rawMessageData) {
-    this.rawMessageData = rawMessageData;
-  }
-
-  @Override
-  protected Bytes validMessageIdData(final Bytes uncompressedData) {
-    return Bytes.wrap(MESSAGE_DOMAIN_VALID_SNAPPY, uncompressedData);
-  }
 
-  @Override
-  protected Bytes invalidMessageIdData() {
-    return Bytes.wrap(MESSAGE_DOMAIN_INVALID_SNAPPY, rawMessageData);
+  public MessageIdCalculatorPhase0() {
+    super(MESSAGE_DOMAIN_VALID_SNAPPY, MESSAGE_DOMAIN_INVALID_SNAPPY);
   }
 }
@@ -28,14 +28,25 @@ public class SnappyBlockCompressor {
       throws DecodingException {
 
     try {
-      final int actualLength = Snappy.uncompressedLength(compressedData.toArrayUnsafe());
+      final byte[] input = compressedData.toArrayUnsafe();
+      final int actualLength = Snappy.uncompressedLength(input);
       if (!lengthBounds.isWithinBounds(actualLength)) {
         throw new DecodingException(
             String.format(
                 "Uncompressed length %d is not within expected bounds %s",
                 actualLength, lengthBounds.toString()));
       }
-      return Bytes.wrap(Snappy.uncompress(compressedData.toArrayUnsafe()));
+      // Uncompress directly into an array of the already validated length rather than having
+      // Snappy read the header and copy the input again
+      final byte[] output = new byte[actualLength];
+      final int uncompressedLength = Snappy.uncompress(input, 0, input.length, output, 0);
+      if (uncompressedLength != actualLength) {
+        throw new DecodingException(
+            String.format(
+                "Uncompressed length %d does not match expected length %d",
+                uncompressedLength, actualLength));
+      }
+      return Bytes.wrap(output);
     } catch (IOException e) {
       throw new DecodingException("Failed to uncompress", e);
     }
@@ -17,13 +17,9 @@ import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
-import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
-import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
-import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
-import tech.pegasys.teku.spec.SpecMilestone;
 
 /**
  * {@link PreparedGossipMessage} implementation which calculates Gossip 'message-id' according to
@@ -31,6 +27,10 @@ import tech.pegasys.teku.spec.SpecMilestone;
  *   SHA256(MESSAGE_DOMAIN_VALID_SNAPPY + snappy_decompress(message.data))[:20]
  * </code> The message payload is uncompressed lazily and cached for the final message handling:
  * {@link tech.pegasys.teku.networking.p2p.gossip.TopicHandler#handleMessage(PreparedGossipMessage)}
+ *
+ * <p>The same uncompressed bytes are used for both the message id and decoding, so each message is
+ * only uncompressed once. SSZ views decoded from the message are slices of those bytes, so they are
+ * not returned to a pool and reused.
  */
 class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   private final Bytes compressedData;
@@ -39,64 +39,39 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   private final MessageIdCalculator messageIdCalculator;
 
   private final Supplier<DecodedMessageResult> decodedResult =
-      Suppliers.memoize(this::getDecodedMessage);
+      Suppliers.memoize(this::decodeMessage);
 
   static SnappyPreparedGossipMessage createUnknown(
-      final String topic,
-      final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone) {
-    return new SnappyPreparedGossipMessage(
-        topic, compressedData, forkDigestToMilestone, null, null);
+      final Bytes compressedData, final MessageIdCalculator messageIdCalculator) {
+    return new SnappyPreparedGossipMessage(compressedData, messageIdCalculator, null, null);
   }
 
   static SnappyPreparedGossipMessage create(
-      final String topic,
       final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone,
+      final MessageIdCalculator messageIdCalculator,
       final SszSchema<?> valueType,
       final Uncompressor snappyCompressor) {
     return new SnappyPreparedGossipMessage(
-        topic, compressedData, forkDigestToMilestone, valueType, snappyCompressor);
+        compressedData, messageIdCalculator, valueType, snappyCompressor);
   }
 
   private SnappyPreparedGossipMessage(
-      final String topic,
       final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone,
+      final MessageIdCalculator messageIdCalculator,
       final SszSchema<?> valueType,
       final Uncompressor snappyCompressor) {
     this.compressedData = compressedData;
+    this.messageIdCalculator = messageIdCalculator;
     this.valueType = valueType;
     this.snappyCompressor = snappyCompressor;
-
-    this.messageIdCalculator =
-        createMessageIdCalculator(topic, compressedData, forkDigestToMilestone);
-  }
-
-  private MessageIdCalculator createMessageIdCalculator(
-      final String topic,
-      final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone) {
-    final Bytes4 forkDigest = GossipTopics.extractForkDigest(topic);
-    final SpecMilestone milestone =
-        forkDigestToMilestone
-            .getMilestone(forkDigest)
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Failed to associate a milestone with the forkDigest in topic: " + topic));
-
-    switch (milestone) {
-      case PHASE0:
-        return new MessageIdCalculatorPhase0(compressedData);
-      case ALTAIR:
-      default:
-        return new MessageIdCalculatorAltair(compressedData, topic);
-    }
   }
 
   @Override
   public DecodedMessageResult getDecodedMessage() {
+    return decodedResult.get();
+  }
+
+  private DecodedMessageResult decodeMessage() {
     try {
       if (valueType == null) {
         return DecodedMessageResult.failed();
@@ -115,7 +90,7 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   }
 
   private Optional<Bytes> getUncompressed() {
-    return decodedResult.get().getDecodedMessage();
+    return getDecodedMessage().getDecodedMessage();
   }
 
   private Bytes uncompressPayload() throws DecodingException {
@@ -126,7 +101,7 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   public Bytes getMessageId() {
     return getUncompressed()
         .map(messageIdCalculator::getValidMessageId)
-        .orElseGet(messageIdCalculator::getInvalidMessageId);
+        .orElseGet(() -> messageIdCalculator.getInvalidMessageId(compressedData));
   }
 
   @FunctionalInterface
@@ -14,15 +14,21 @@
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 
 public class SnappyPreparedGossipMessageFactory implements Eth2PreparedGossipMessageFactory {
+  // Comfortably more than the number of topics subscribed to, even across a fork transition
+  private static final int MESSAGE_ID_CALCULATOR_CACHE_SIZE = 256;
 
   private final SnappyBlockCompressor snappyCompressor;
   private final ForkDigestToMilestone forkDigestToMilestone;
+  private final Cache<String, MessageIdCalculator> messageIdCalculators =
+      LRUCache.create(MESSAGE_ID_CALCULATOR_CACHE_SIZE);
 
   public SnappyPreparedGossipMessageFactory(
       final SnappyBlockCompressor snappyCompressor,
@@ -35,11 +41,16 @@ public class SnappyPreparedGossipMessageFactory implements Eth2PreparedGossipMes
   public <T extends SszData> PreparedGossipMessage create(
       final String topic, final Bytes data, final SszSchema<T> valueType) {
     return SnappyPreparedGossipMessage.create(
-        topic, data, forkDigestToMilestone, valueType, snappyCompressor::uncompress);
+        data, getMessageIdCalculator(topic), valueType, snappyCompressor::uncompress);
   }
 
   @Override
   public PreparedGossipMessage create(final String topic, final Bytes data) {
-    return SnappyPreparedGossipMessage.createUnknown(topic, data, forkDigestToMilestone);
+    return SnappyPreparedGossipMessage.createUnknown(data, getMessageIdCalculator(topic));
+  }
+
+  private MessageIdCalculator getMessageIdCalculator(final String topic) {
+    return messageIdCalculators.get(
+        topic, __ -> MessageIdCalculator.create(topic, forkDigestToMilestone));
   }
 }
@@ -16,7 +16,6 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 import io.libp2p.etc.types.ByteBufExtKt;
 import io.netty.buffer.ByteBuf;
 import java.util.Optional;
-import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.ChunkTooLongException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.DecompressFailedException;
@@ -86,13 +85,10 @@ class LengthPrefixedPayloadDecoder<T> implements RpcByteBufDecoder<T> {
       if (ret.isPresent()) {
         decompressor = Optional.empty();
         try {
-          // making a copy here since the Bytes.wrapByteBuf(buf).slice(...)
-          // would be broken after [in] buffer is released
-          byte[] arr = new byte[ret.get().readableBytes()];
-          ret.get().readBytes(arr);
-          Bytes bytes = Bytes.wrap(arr);
+          // Decoded directly from the (possibly composite) buffer. The payload encoder copies any
+          // bytes it keeps, as the buffer is released below
           decoded = true;
-          return Optional.of(payloadEncoder.decode(bytes));
+          return Optional.of(payloadEncoder.decode(ret.get()));
         } finally {
           ret.get().release();
         }
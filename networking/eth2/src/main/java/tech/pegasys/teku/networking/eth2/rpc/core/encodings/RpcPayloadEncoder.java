@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 
@@ -21,5 +22,15 @@ public interface RpcPayloadEncoder<T> {
 
   T decode(Bytes message) throws RpcException;
 
+  /**
+   * Decodes the readable bytes of the buffer. The buffer may be released as soon as this method
+   * returns, so the decoded message must not reference it.
+   */
+  default T decode(ByteBuf message) throws RpcException {
+    final byte[] bytes = new byte[message.readableBytes()];
+    message.getBytes(message.readerIndex(), bytes);
+    return decode(Bytes.wrap(bytes));
+  }
+
   boolean isLengthWithinBounds(long length);
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings.ssz;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+
+/**
+ * {@link SszReader} over the readable bytes of a Netty {@link ByteBuf}, including composite
+ * buffers. The reader index of the supplied buffer is not modified and the reader doesn't retain
+ * it.
+ *
+ * <p>Bytes returned by {@link #read(int)} are copied out of the buffer so deserialized data remains
+ * valid after the (possibly pooled) buffer is released. Only the bytes actually read are copied,
+ * avoiding an intermediate copy of the whole message.
+ */
+public class ByteBufSszReader implements SszReader {
+
+  private final ByteBuf buf;
+
+  public ByteBufSszReader(final ByteBuf buf) {
+    this.buf = buf.slice();
+  }
+
+  @Override
+  public int getAvailableBytes() {
+    return buf.readableBytes();
+  }
+
+  @Override
+  public SszReader slice(final int size) {
+    checkIfAvailable(size);
+    return new ByteBufSszReader(buf.readSlice(size));
+  }
+
+  @Override
+  public Bytes read(final int length) {
+    checkIfAvailable(length);
+    if (length == 0) {
+      return Bytes.EMPTY;
+    }
+    final byte[] ret = new byte[length];
+    buf.readBytes(ret);
+    return Bytes.wrap(ret);
+  }
+
+  private void checkIfAvailable(final int size) {
+    if (getAvailableBytes() < size) {
+      throw new SszDeserializeException("Invalid SSZ: trying to read more bytes than available");
+    }
+  }
+
+  @Override
+  public void close() {
+    if (getAvailableBytes() > 0) {
+      throw new SszDeserializeException("Invalid SSZ: unread bytes remain: " + getAvailableBytes());
+    }
+  }
+}
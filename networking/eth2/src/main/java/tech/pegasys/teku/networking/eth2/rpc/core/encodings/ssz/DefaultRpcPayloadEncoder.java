@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.ssz;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -48,6 +49,18 @@ public class DefaultRpcPayloadEncoder<T extends SszData> implements RpcPayloadEn
     }
   }
 
+  @Override
+  public T decode(final ByteBuf message) throws RpcException {
+    try {
+      return type.sszDeserialize(new ByteBufSszReader(message));
+    } catch (final SszDeserializeException e) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Failed to parse network message: " + Bytes.wrapByteBuf(message), e);
+      }
+      throw new DeserializationFailedException();
+    }
+  }
+
   @Override
   public boolean isLengthWithinBounds(final long length) {
     return type.getSszLengthBounds().isWithinBounds(length);
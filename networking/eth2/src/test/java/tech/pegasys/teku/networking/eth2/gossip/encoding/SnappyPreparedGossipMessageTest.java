@@ -16,12 +16,16 @@ package tech.pegasys.teku.networking.eth2.gossip.encoding;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.SnappyPreparedGossipMessage.Uncompressor;
@@ -73,7 +77,7 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorPhase0(messageBytes);
+        new MessageIdCalculatorPhase0();
     final Bytes expected = expectedMessageIdCalculator.getValidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
@@ -87,8 +91,8 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorPhase0(messageBytes);
-    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId();
+        new MessageIdCalculatorPhase0();
+    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
   }
@@ -101,7 +105,7 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorAltair(messageBytes, topic);
+        new MessageIdCalculatorAltair(topic);
     final Bytes expected = expectedMessageIdCalculator.getValidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
@@ -115,8 +119,8 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorAltair(messageBytes, topic);
-    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId();
+        new MessageIdCalculatorAltair(topic);
+    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
   }
@@ -155,15 +159,58 @@ public class SnappyPreparedGossipMessageTest {
     assertThat(messageIds).hasSize(preparedMessages.size());
   }
 
+  @Test
+  public void getMessageId_altairValidMatchesSpec() {
+    final String topic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final SnappyPreparedGossipMessage message =
+        getAltairMessage(messageBytes, topic, validUncompressor);
+
+    final Bytes topicBytes = Bytes.wrap(topic.getBytes(StandardCharsets.UTF_8));
+    final Bytes expected =
+        Hash.sha256(
+                Bytes.concatenate(
+                    Bytes.fromHexString("0x01000000"),
+                    Bytes.ofUnsignedLong(topicBytes.size(), ByteOrder.LITTLE_ENDIAN),
+                    topicBytes,
+                    messageBytes))
+            .slice(0, 20);
+    assertThat(message.getMessageId()).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldOnlyUncompressOnceForMessageIdAndDecoding() {
+    final String topic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final AtomicInteger uncompressCount = new AtomicInteger();
+    final Uncompressor countingUncompressor =
+        (bytes, __) -> {
+          uncompressCount.incrementAndGet();
+          return bytes;
+        };
+    final SnappyPreparedGossipMessage message =
+        getAltairMessage(messageBytes, topic, countingUncompressor);
+
+    message.getMessageId();
+    assertThat(message.getDecodedMessage().getDecodedMessage()).contains(messageBytes);
+    message.getMessageId();
+
+    assertThat(uncompressCount).hasValue(1);
+  }
+
   private SnappyPreparedGossipMessage getPhase0Message(
       final Bytes rawMessage, final String topic, final Uncompressor uncompressor) {
     return SnappyPreparedGossipMessage.create(
-        topic, rawMessage, forkDigestToMilestone, schema, uncompressor);
+        rawMessage,
+        MessageIdCalculator.create(topic, forkDigestToMilestone),
+        schema,
+        uncompressor);
   }
 
   private SnappyPreparedGossipMessage getAltairMessage(
       final Bytes rawMessage, final String topic, final Uncompressor uncompressor) {
     return SnappyPreparedGossipMessage.create(
-        topic, rawMessage, forkDigestToMilestone, schema, uncompressor);
+        rawMessage,
+        MessageIdCalculator.create(topic, forkDigestToMilestone),
+        schema,
+        uncompressor);
   }
 }
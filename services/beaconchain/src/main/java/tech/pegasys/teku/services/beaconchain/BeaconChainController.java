@@ -125,6 +125,7 @@ import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerifica
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorCache;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorChannel;
 import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
@@ -176,6 +177,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile TimeProvider timeProvider;
   protected volatile SlotEventsChannel slotEventsChannelPublisher;
   protected volatile AsyncRunner networkAsyncRunner;
+  protected volatile AsyncRunner blockSignatureAsyncRunner;
   protected volatile AsyncRunnerFactory asyncRunnerFactory;
   protected volatile AsyncRunner eventAsyncRunner;
   protected volatile Path beaconDataDirectory;
@@ -232,6 +234,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
     this.beaconAsyncRunner = serviceConfig.createAsyncRunner("beaconchain");
     this.eventAsyncRunner = serviceConfig.createAsyncRunner("events", 10);
     this.networkAsyncRunner = serviceConfig.createAsyncRunner("p2p", 10);
+    this.blockSignatureAsyncRunner =
+        serviceConfig.createAsyncRunner(
+            "blockSignatures", Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
     this.timeProvider = serviceConfig.getTimeProvider();
     this.eventChannels = serviceConfig.getEventChannels();
     this.metricsSystem = serviceConfig.getMetricsSystem();
@@ -351,6 +356,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             })
         // Init other services
         .thenRun(this::initAll)
+        // Deposit tree must be restored before the powchain service replays deposit events
+        .thenCompose(__ -> depositProvider.loadFinalizedDepositSnapshot())
         .thenRun(
             () -> {
               recentChainData.subscribeStoreInitialized(this::onStoreInitialized);
@@ -510,7 +517,14 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceNotifier,
             new MergeTransitionBlockValidator(spec, recentChainData, executionLayer),
             proposerBoostEnabled,
-            equivocatingIndicesEnabled);
+            equivocatingIndicesEnabled,
+            // Signatures the runner rejects are prepared on the importing thread instead
+            command ->
+                blockSignatureAsyncRunner
+                    .runAsync(command::run)
+                    .finish(
+                        error ->
+                            LOG.debug("Failed to schedule block signature preparation", error)));
     forkChoiceTrigger =
         beaconConfig.eth2NetworkConfig().isForkChoiceBeforeProposingEnabled()
             ? new PreProposalForkChoiceTrigger(forkChoice)
@@ -542,6 +556,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             metricsSystem,
             recentChainData,
             eth1DataCache,
+            eventChannels.getPublisher(Eth1DepositStorageChannel.class, beaconAsyncRunner),
             spec,
             EVENT_LOG,
             beaconConfig.powchainConfig().useMissingDepositEventLogging());
@@ -845,6 +860,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 eventChannels,
                 eventAsyncRunner,
                 timeProvider,
+                metricsSystem,
                 spec));
 
     if (beaconConfig.beaconRestApiConfig().isBeaconLivenessTrackingEnabled()) {
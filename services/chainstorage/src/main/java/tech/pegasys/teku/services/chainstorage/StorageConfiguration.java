@@ -25,6 +25,7 @@ public class StorageConfiguration {
 
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
+  public static final boolean DEFAULT_STATE_NODE_INTERNING_ENABLED = false;
 
   private final Eth1Address eth1DepositContract;
 
@@ -35,6 +36,7 @@ public class StorageConfiguration {
   private final boolean storeNonCanonicalBlocks;
   private final int maxKnownNodeCacheSize;
   private final boolean storeVotesEquivocation;
+  private final boolean stateNodeInterningEnabled;
 
   private StorageConfiguration(
       final Eth1Address eth1DepositContract,
@@ -44,6 +46,7 @@ public class StorageConfiguration {
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
       final boolean storeVotesEquivocation,
+      final boolean stateNodeInterningEnabled,
       final Spec spec) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
@@ -52,6 +55,7 @@ public class StorageConfiguration {
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
     this.maxKnownNodeCacheSize = maxKnownNodeCacheSize;
     this.storeVotesEquivocation = storeVotesEquivocation;
+    this.stateNodeInterningEnabled = stateNodeInterningEnabled;
     this.spec = spec;
   }
 
@@ -87,6 +91,10 @@ public class StorageConfiguration {
     return storeVotesEquivocation;
   }
 
+  public boolean isStateNodeInterningEnabled() {
+    return stateNodeInterningEnabled;
+  }
+
   public Spec getSpec() {
     return spec;
   }
@@ -102,6 +110,7 @@ public class StorageConfiguration {
     private Spec spec;
     private boolean storeNonCanonicalBlocks = DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
     private int maxKnownNodeCacheSize = DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
+    private boolean stateNodeInterningEnabled = DEFAULT_STATE_NODE_INTERNING_ENABLED;
 
     private Builder() {}
 
@@ -160,6 +169,11 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder stateNodeInterningEnabled(final boolean stateNodeInterningEnabled) {
+      this.stateNodeInterningEnabled = stateNodeInterningEnabled;
+      return this;
+    }
+
     public StorageConfiguration build() {
       return new StorageConfiguration(
           eth1DepositContract,
@@ -169,6 +183,7 @@ public class StorageConfiguration {
           storeNonCanonicalBlocks,
           maxKnownNodeCacheSize,
           storeVotesEquivocation,
+          stateNodeInterningEnabled,
           spec);
     }
   }
@@ -58,7 +58,13 @@ public class StorageService extends Service implements StorageServiceFacade {
                   config.getSpec());
           database = dbFactory.createDatabase();
 
-          chainStorage = ChainStorage.create(database, config.getSpec());
+          chainStorage =
+              ChainStorage.create(
+                  database,
+                  config.getSpec(),
+                  serviceConfig.createAsyncRunner("storageWriter", 1),
+                  serviceConfig.getMetricsSystem(),
+                  config.isStateNodeInterningEnabled());
           final DepositStorage depositStorage =
               DepositStorage.create(
                   serviceConfig.getEventChannels().getPublisher(Eth1EventsChannel.class), database);
@@ -78,6 +84,10 @@ public class StorageService extends Service implements StorageServiceFacade {
   protected SafeFuture<?> doStop() {
     return SafeFuture.fromRunnable(
         () -> {
+          if (chainStorage != null) {
+            // Queued writes must be applied before the database is closed
+            chainStorage.close();
+          }
           database.close();
         });
   }
@@ -18,6 +18,7 @@ import static tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel.STUB_E
 
 import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -30,18 +31,21 @@ public class ExecutionLayerConfiguration {
   private final Version engineVersion;
   private final Optional<String> engineJwtSecretFile;
   private final Optional<String> builderEndpoint;
+  private final UInt256 builderBidMinimumValue;
 
   private ExecutionLayerConfiguration(
       final Spec spec,
       final Optional<String> engineEndpoint,
       final Version engineVersion,
       final Optional<String> engineJwtSecretFile,
-      final Optional<String> builderEndpoint) {
+      final Optional<String> builderEndpoint,
+      final UInt256 builderBidMinimumValue) {
     this.spec = spec;
     this.engineEndpoint = engineEndpoint;
     this.engineVersion = engineVersion;
     this.engineJwtSecretFile = engineJwtSecretFile;
     this.builderEndpoint = builderEndpoint;
+    this.builderBidMinimumValue = builderBidMinimumValue;
   }
 
   public static Builder builder() {
@@ -75,19 +79,29 @@ public class ExecutionLayerConfiguration {
     return builderEndpoint;
   }
 
+  public UInt256 getBuilderBidMinimumValue() {
+    return builderBidMinimumValue;
+  }
+
   public static class Builder {
     private Spec spec;
     private Optional<String> engineEndpoint = Optional.empty();
     private Version engineVersion = Version.DEFAULT_VERSION;
     private Optional<String> engineJwtSecretFile = Optional.empty();
     private Optional<String> builderEndpoint = Optional.empty();
+    private UInt256 builderBidMinimumValue = UInt256.ZERO;
 
     private Builder() {}
 
     public ExecutionLayerConfiguration build() {
       validateStubEndpoints();
       return new ExecutionLayerConfiguration(
-          spec, engineEndpoint, engineVersion, engineJwtSecretFile, builderEndpoint);
+          spec,
+          engineEndpoint,
+          engineVersion,
+          engineJwtSecretFile,
+          builderEndpoint,
+          builderBidMinimumValue);
     }
 
     public Builder engineEndpoint(final String engineEndpoint) {
@@ -115,6 +129,11 @@ public class ExecutionLayerConfiguration {
       return this;
     }
 
+    public Builder builderBidMinimumValue(final UInt256 builderBidMinimumValue) {
+      this.builderBidMinimumValue = builderBidMinimumValue;
+      return this;
+    }
+
     private void validateStubEndpoints() {
       final boolean engineIsStub =
           engineEndpoint.map(endpoint -> endpoint.equals(STUB_ENDPOINT_IDENTIFIER)).orElse(false);
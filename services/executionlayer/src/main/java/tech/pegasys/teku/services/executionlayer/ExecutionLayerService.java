@@ -96,7 +96,8 @@ public class ExecutionLayerService extends Service {
               config.getEngineVersion(),
               config.getSpec(),
               metricsSystem,
-              new BuilderBidValidatorImpl(EVENT_LOG));
+              new BuilderBidValidatorImpl(EVENT_LOG),
+              config.getBuilderBidMinimumValue());
     }
 
     return new ExecutionLayerService(
@@ -141,6 +141,7 @@ public class PowchainService extends Service {
             depositEventsAccessor,
             eth1BlockFetcher,
             asyncRunner,
+            serviceConfig.getTimeProvider(),
             powConfig.getEth1LogsMaxBlockRange());
 
     headTracker =
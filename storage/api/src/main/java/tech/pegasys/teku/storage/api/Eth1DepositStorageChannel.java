@@ -13,10 +13,16 @@
 
 package tech.pegasys.teku.storage.api;
 
+import java.util.Optional;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.events.ChannelInterface;
 import tech.pegasys.teku.storage.api.schema.ReplayDepositsResult;
 
 public interface Eth1DepositStorageChannel extends ChannelInterface {
   SafeFuture<ReplayDepositsResult> replayDepositEvents();
+
+  SafeFuture<Optional<DepositTreeSnapshot>> getFinalizedDepositSnapshot();
+
+  void onFinalizedDepositSnapshot(DepositTreeSnapshot snapshot);
 }
@@ -18,8 +18,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeInterner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.config.SpecConfig;
@@ -44,20 +49,69 @@ import tech.pegasys.teku.storage.server.state.FinalizedStateCache;
 
 public class ChainStorage
     implements StorageUpdateChannel, StorageQueryChannel, VoteUpdateChannel, ChainStorageFacade {
+  private static final Logger LOG = LogManager.getLogger();
 
   private final Database database;
   private final FinalizedStateCache finalizedStateCache;
+  private final DatabaseWritePipeline writePipeline;
+  private final boolean stateNodeInterningEnabled;
   private Optional<OnDiskStoreData> cachedStoreData = Optional.empty();
 
-  private ChainStorage(final Database database, final FinalizedStateCache finalizedStateCache) {
+  private ChainStorage(
+      final Database database,
+      final FinalizedStateCache finalizedStateCache,
+      final DatabaseWritePipeline writePipeline,
+      final boolean stateNodeInterningEnabled) {
     this.database = database;
     this.finalizedStateCache = finalizedStateCache;
+    this.writePipeline = writePipeline;
+    this.stateNodeInterningEnabled = stateNodeInterningEnabled;
   }
 
   public static ChainStorage create(final Database database, final Spec spec) {
+    return create(database, spec, DatabaseWritePipeline.createSynchronous(database), false);
+  }
+
+  /**
+   * Creates a ChainStorage which applies database writes on the given runner rather than the
+   * calling thread. Writes are applied in the order they are received.
+   *
+   * <p>When {@code stateNodeInterningEnabled} is set, identical tree nodes are shared between
+   * states loaded from the database.
+   */
+  public static ChainStorage create(
+      final Database database,
+      final Spec spec,
+      final AsyncRunner writerRunner,
+      final MetricsSystem metricsSystem,
+      final boolean stateNodeInterningEnabled) {
+    return create(
+        database,
+        spec,
+        DatabaseWritePipeline.create(database, writerRunner, metricsSystem),
+        stateNodeInterningEnabled);
+  }
+
+  private static ChainStorage create(
+      final Database database,
+      final Spec spec,
+      final DatabaseWritePipeline writePipeline,
+      final boolean stateNodeInterningEnabled) {
     final int finalizedStateCacheSize = spec.getSlotsPerEpoch(SpecConfig.GENESIS_EPOCH) * 3;
     return new ChainStorage(
-        database, new FinalizedStateCache(spec, database, finalizedStateCacheSize, true));
+        database,
+        new FinalizedStateCache(
+            spec, database, finalizedStateCacheSize, true, stateNodeInterningEnabled),
+        writePipeline,
+        stateNodeInterningEnabled);
+  }
+
+  /**
+   * Applies any database writes which are still queued and rejects any further writes. Must be
+   * called before the database is closed.
+   */
+  public void close() {
+    writePipeline.close();
   }
 
   private synchronized Optional<OnDiskStoreData> getStore() {
@@ -89,9 +143,9 @@ public class ChainStorage
 
   @Override
   public SafeFuture<UpdateResult> onStorageUpdate(final StorageUpdate event) {
-    return SafeFuture.of(
-        () -> {
-          final UpdateResult updateResult = database.update(event);
+    return writePipeline.submit(
+        db -> {
+          final UpdateResult updateResult = db.update(event);
           handleStoreUpdate();
           return updateResult;
         });
@@ -99,18 +153,18 @@ public class ChainStorage
 
   @Override
   public SafeFuture<Void> onFinalizedBlocks(final Collection<SignedBeaconBlock> finalizedBlocks) {
-    return SafeFuture.fromRunnable(() -> database.storeFinalizedBlocks(finalizedBlocks));
+    return writePipeline.execute(db -> db.storeFinalizedBlocks(finalizedBlocks));
   }
 
   @Override
   public void onChainInitialized(final AnchorPoint initialAnchor) {
-    database.storeInitialAnchor(initialAnchor);
+    // Wait for the anchor to be stored so queries made once the chain is initialized can see it
+    writePipeline.execute(db -> db.storeInitialAnchor(initialAnchor)).join();
   }
 
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(WeakSubjectivityUpdate weakSubjectivityUpdate) {
-    return SafeFuture.fromRunnable(
-        () -> database.updateWeakSubjectivityState(weakSubjectivityUpdate));
+    return writePipeline.execute(db -> db.updateWeakSubjectivityState(weakSubjectivityUpdate));
   }
 
   @Override
@@ -143,8 +197,7 @@ public class ChainStorage
       final Bytes32 blockRoot) {
     return SafeFuture.of(
         () ->
-            database
-                .getHotState(blockRoot)
+            loadHotState(blockRoot)
                 .flatMap(
                     s -> database.getHotBlock(blockRoot).map(b -> new SignedBlockAndState(b, s))));
   }
@@ -154,8 +207,7 @@ public class ChainStorage
       final Bytes32 blockRoot) {
     return SafeFuture.of(
         () ->
-            database
-                .getHotState(blockRoot)
+            loadHotState(blockRoot)
                 .map(
                     state -> {
                       final BeaconBlockSummary block =
@@ -203,12 +255,19 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getNonCanonicalBlocksAtSlot(slot));
   }
 
+  private Optional<BeaconState> loadHotState(final Bytes32 blockRoot) {
+    if (stateNodeInterningEnabled) {
+      return TreeNodeInterner.intern(() -> database.getHotState(blockRoot));
+    }
+    return database.getHotState(blockRoot);
+  }
+
   private Optional<BeaconState> getLatestFinalizedStateAtSlotSync(final UInt64 slot) {
     return finalizedStateCache.getFinalizedState(slot);
   }
 
   @Override
   public void onVotesUpdated(final Map<UInt64, VoteTracker> votes) {
-    database.storeVotes(votes);
+    writePipeline.submitVotes(votes).finish(error -> LOG.error("Failed to store votes", error));
   }
 }
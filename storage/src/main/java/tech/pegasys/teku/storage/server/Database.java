@@ -23,6 +23,7 @@ import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
@@ -122,5 +123,16 @@ public interface Database extends AutoCloseable {
 
   void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+  Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot();
+
+  /**
+   * Stores the snapshot of the finalized deposit tree and removes any deposit events which are no
+   * longer required to rebuild the tree from it. The event containing the last finalized deposit is
+   * kept so that replaying events still reports the last processed block.
+   *
+   * @param snapshot the snapshot of the finalized deposit tree
+   */
+  void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot);
+
   void storeVotes(Map<UInt64, VoteTracker> votes);
 }
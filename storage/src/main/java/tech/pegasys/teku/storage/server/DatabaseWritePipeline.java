@@ -0,0 +1,238 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+
+/**
+ * Applies writes to the database from a single writer, in the order they were submitted.
+ *
+ * <p>Writes submitted while the writer is busy are queued and applied together as a batch once the
+ * current batch completes. Consecutive vote updates within a batch are merged into a single write,
+ * with later votes replacing earlier ones for the same validator. The future returned for each
+ * write completes once that write has been committed to the database.
+ *
+ * <p>{@link #close()} applies any writes still queued on the calling thread, so they are not lost
+ * if the writer runner has already been shut down, and rejects any later writes.
+ */
+class DatabaseWritePipeline {
+  private final Database database;
+  private final Executor writerExecutor;
+  private final OperationTimer batchTimer;
+  private final Counter mergedVoteUpdatesCounter;
+
+  private final Queue<PendingWrite<?>> pendingWrites = new ArrayDeque<>();
+  private boolean writerScheduled = false;
+  private boolean closed = false;
+
+  // Held while applying writes so a close can't interleave with the writer
+  private final Object writeLock = new Object();
+
+  private DatabaseWritePipeline(
+      final Database database, final Executor writerExecutor, final MetricsSystem metricsSystem) {
+    this.database = database;
+    this.writerExecutor = writerExecutor;
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.STORAGE,
+        "write_queue_size",
+        "Number of database writes waiting to be applied",
+        this::getQueueSize);
+    this.batchTimer =
+        metricsSystem.createTimer(
+            TekuMetricCategory.STORAGE,
+            "write_batch_time",
+            "Time taken to apply a batch of queued database writes");
+    this.mergedVoteUpdatesCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE,
+            "write_merged_vote_updates_total",
+            "Number of vote updates merged into a preceding vote update before being written");
+  }
+
+  /**
+   * Creates a pipeline which applies writes on the given runner. The runner should be dedicated to
+   * database writes so that queued writes are not delayed behind unrelated tasks.
+   */
+  static DatabaseWritePipeline create(
+      final Database database, final AsyncRunner writerRunner, final MetricsSystem metricsSystem) {
+    return new DatabaseWritePipeline(
+        database,
+        action -> writerRunner.runAsync(action::run).ifExceptionGetsHereRaiseABug(),
+        metricsSystem);
+  }
+
+  /**
+   * Creates a pipeline which applies writes on the calling thread, so writes have completed by the
+   * time the returned future is available unless another thread is already writing. Metrics are
+   * not reported.
+   */
+  static DatabaseWritePipeline createSynchronous(final Database database) {
+    return new DatabaseWritePipeline(
+        database, MoreExecutors.directExecutor(), new NoOpMetricsSystem());
+  }
+
+  <T> SafeFuture<T> submit(final Function<Database, T> write) {
+    return enqueue(new PendingWrite<>(write));
+  }
+
+  SafeFuture<Void> execute(final Consumer<Database> write) {
+    return submit(
+        db -> {
+          write.accept(db);
+          return null;
+        });
+  }
+
+  SafeFuture<Void> submitVotes(final Map<UInt64, VoteTracker> votes) {
+    return enqueue(new PendingVotes(votes));
+  }
+
+  synchronized int getQueueSize() {
+    return pendingWrites.size();
+  }
+
+  /**
+   * Applies any queued writes on the calling thread, waiting for a batch already being applied by
+   * the writer to complete. Writes submitted after this returns fail without being applied.
+   */
+  void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    applyPendingWrites();
+  }
+
+  private <T> SafeFuture<T> enqueue(final PendingWrite<T> write) {
+    final boolean scheduleWriter;
+    synchronized (this) {
+      if (closed) {
+        return SafeFuture.failedFuture(
+            new IllegalStateException("Database write pipeline is closed"));
+      }
+      pendingWrites.add(write);
+      scheduleWriter = !writerScheduled;
+      writerScheduled = true;
+    }
+    if (scheduleWriter) {
+      writerExecutor.execute(this::applyPendingWrites);
+    }
+    return write.result;
+  }
+
+  private void applyPendingWrites() {
+    synchronized (writeLock) {
+      List<PendingWrite<?>> batch = takePendingWrites();
+      while (!batch.isEmpty()) {
+        final TimingContext timingContext = batchTimer.startTimer();
+        applyBatch(batch);
+        timingContext.stopTimer();
+        batch = takePendingWrites();
+      }
+    }
+  }
+
+  private synchronized List<PendingWrite<?>> takePendingWrites() {
+    if (pendingWrites.isEmpty()) {
+      writerScheduled = false;
+      return List.of();
+    }
+    final List<PendingWrite<?>> batch = new ArrayList<>(pendingWrites);
+    pendingWrites.clear();
+    return batch;
+  }
+
+  private void applyBatch(final List<PendingWrite<?>> batch) {
+    int i = 0;
+    while (i < batch.size()) {
+      final PendingWrite<?> write = batch.get(i);
+      if (!(write instanceof PendingVotes)) {
+        write.apply(database);
+        i++;
+        continue;
+      }
+      // Merge consecutive vote updates so they are written together
+      final List<PendingVotes> voteWrites = new ArrayList<>();
+      while (i < batch.size() && batch.get(i) instanceof PendingVotes) {
+        voteWrites.add((PendingVotes) batch.get(i));
+        i++;
+      }
+      applyVotes(voteWrites);
+    }
+  }
+
+  private void applyVotes(final List<PendingVotes> voteWrites) {
+    if (voteWrites.size() == 1) {
+      voteWrites.get(0).apply(database);
+      return;
+    }
+    final Map<UInt64, VoteTracker> mergedVotes = new HashMap<>();
+    voteWrites.forEach(write -> mergedVotes.putAll(write.votes));
+    mergedVoteUpdatesCounter.inc(voteWrites.size() - 1);
+    try {
+      database.storeVotes(mergedVotes);
+      voteWrites.forEach(write -> write.result.complete(null));
+    } catch (final Throwable t) {
+      voteWrites.forEach(write -> write.result.completeExceptionally(t));
+    }
+  }
+
+  private static class PendingWrite<T> {
+    private final Function<Database, T> write;
+    protected final SafeFuture<T> result = new SafeFuture<>();
+
+    private PendingWrite(final Function<Database, T> write) {
+      this.write = write;
+    }
+
+    void apply(final Database database) {
+      try {
+        result.complete(write.apply(database));
+      } catch (final Throwable t) {
+        result.completeExceptionally(t);
+      }
+    }
+  }
+
+  private static class PendingVotes extends PendingWrite<Void> {
+    private final Map<UInt64, VoteTracker> votes;
+
+    private PendingVotes(final Map<UInt64, VoteTracker> votes) {
+      super(
+          database -> {
+            database.storeVotes(votes);
+            return null;
+          });
+      this.votes = votes;
+    }
+  }
+}
@@ -24,6 +24,7 @@ import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.Eth1EventsChannel;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
@@ -54,9 +55,22 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
     return replayResult.get();
   }
 
+  @Override
+  public SafeFuture<Optional<DepositTreeSnapshot>> getFinalizedDepositSnapshot() {
+    return SafeFuture.of(database::getFinalizedDepositSnapshot);
+  }
+
+  @Override
+  public void onFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+    database.setFinalizedDepositSnapshot(snapshot);
+  }
+
   private ReplayDepositsResult replayDeposits() {
     final DepositSequencer depositSequencer =
-        new DepositSequencer(eth1EventsChannel, database.getMinGenesisTimeBlock());
+        new DepositSequencer(
+            eth1EventsChannel,
+            database.getMinGenesisTimeBlock(),
+            database.getFinalizedDepositSnapshot().map(DepositTreeSnapshot::getDeposits));
     try (Stream<DepositsFromBlockEvent> eventStream = database.streamDepositsFromBlocks()) {
       eventStream.forEach(depositSequencer::depositEvent);
     }
@@ -89,11 +103,16 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
     private boolean isGenesisDone = false;
     private BigInteger lastDepositBlockNumber = NEGATIVE_ONE;
     private Optional<UInt64> lastDepositIndex = Optional.empty();
+    // Events for deposits included in the finalized snapshot may have been pruned
+    private final UInt64 maxFirstDepositIndex;
 
     public DepositSequencer(
-        final Eth1EventsChannel eventChannel, final Optional<MinGenesisTimeBlockEvent> genesis) {
+        final Eth1EventsChannel eventChannel,
+        final Optional<MinGenesisTimeBlockEvent> genesis,
+        final Optional<Long> finalizedDepositCount) {
       this.eth1EventsChannel = eventChannel;
       this.genesis = genesis;
+      this.maxFirstDepositIndex = finalizedDepositCount.map(UInt64::valueOf).orElse(UInt64.ZERO);
     }
 
     public void depositEvent(final DepositsFromBlockEvent event) {
@@ -112,8 +131,14 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
     }
 
     private void validateDepositEvent(final DepositsFromBlockEvent event) {
-      final UInt64 expectedDepositIndex =
-          lastDepositIndex.map(UInt64::increment).orElse(UInt64.ZERO);
+      if (lastDepositIndex.isEmpty()) {
+        if (event.getFirstDepositIndex().isGreaterThan(maxFirstDepositIndex)) {
+          throw InvalidDepositEventsException.expectedDepositAtIndex(
+              maxFirstDepositIndex, event.getFirstDepositIndex());
+        }
+        return;
+      }
+      final UInt64 expectedDepositIndex = lastDepositIndex.get().increment();
       if (!event.getFirstDepositIndex().equals(expectedDepositIndex)) {
         throw InvalidDepositEventsException.expectedDepositAtIndex(
             expectedDepositIndex, event.getFirstDepositIndex());
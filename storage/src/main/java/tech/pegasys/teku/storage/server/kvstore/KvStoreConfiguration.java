@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.google.common.base.MoreObjects;
 import java.nio.file.Path;
+import java.util.List;
 import org.rocksdb.CompressionType;
 
 /**
@@ -46,6 +47,7 @@ public class KvStoreConfiguration {
   public static final int DEFAULT_BACKGROUND_THREAD_COUNT = 6;
   public static final long DEFAULT_CACHE_CAPACITY = 8 << 20;
   public static final long DEFAULT_WRITE_BUFFER_CAPACITY = 128 << 20;
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
   private static final boolean DEFAULT_OPTIMISE_FOR_SMALL_DB = false;
 
   /* --------------- Safe to Change Properties ------------ */
@@ -65,6 +67,16 @@ public class KvStoreConfiguration {
   @JsonProperty(value = "writeBufferCapacity", access = Access.WRITE_ONLY)
   private long writeBufferCapacity = DEFAULT_WRITE_BUFFER_CAPACITY;
 
+  // Filters and compression only apply to newly written files so are safe to change
+  @JsonProperty(value = "bloomFilterBitsPerKey", access = Access.WRITE_ONLY)
+  private int bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+
+  @JsonProperty(value = "compressionPerLevel", access = Access.WRITE_ONLY)
+  private List<CompressionType> compressionPerLevel = List.of();
+
+  @JsonProperty(value = "useDirectIoForFlushAndCompaction", access = Access.WRITE_ONLY)
+  private boolean useDirectIoForFlushAndCompaction = false;
+
   // Safe to change but written to file as we need different defaults for hot and finalized
   @JsonProperty(value = "optimizeForSmallDb")
   private boolean optimizeForSmallDb = DEFAULT_OPTIMISE_FOR_SMALL_DB;
@@ -126,6 +138,26 @@ public class KvStoreConfiguration {
     return writeBufferCapacity;
   }
 
+  /**
+   * @return bits per key for the bloom filters of columns which are read by key, or 0 to disable
+   *     bloom filters
+   */
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  /**
+   * @return the compression to use for each level, overriding the compression types when not
+   *     empty
+   */
+  public List<CompressionType> getCompressionPerLevel() {
+    return compressionPerLevel;
+  }
+
+  public boolean useDirectIoForFlushAndCompaction() {
+    return useDirectIoForFlushAndCompaction;
+  }
+
   public CompressionType getCompressionType() {
     return compressionType;
   }
@@ -146,6 +178,9 @@ public class KvStoreConfiguration {
         .add("backgroundThreadCount", backgroundThreadCount)
         .add("cacheCapacity", cacheCapacity)
         .add("writeBufferCapacity", writeBufferCapacity)
+        .add("bloomFilterBitsPerKey", bloomFilterBitsPerKey)
+        .add("compressionPerLevel", compressionPerLevel)
+        .add("useDirectIoForFlushAndCompaction", useDirectIoForFlushAndCompaction)
         .add("compressionType", compressionType)
         .add("bottomMostCompressionType", bottomMostCompressionType)
         .add("databaseDir", databaseDir)
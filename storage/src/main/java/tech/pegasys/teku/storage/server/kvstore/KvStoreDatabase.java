@@ -38,10 +38,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
@@ -57,7 +60,10 @@ import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.hashtree.HashTree;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.StoredBlockMetadata;
@@ -91,6 +97,10 @@ public class KvStoreDatabase implements Database {
 
   private static final int TX_BATCH_SIZE = 500;
 
+  // Limits the keys decompressed by a single update so the first finalization after upgrading
+  // doesn't stall storage while every existing validator key is processed.
+  static final int MAX_VALIDATOR_PUBLIC_KEYS_PER_UPDATE = 16_384;
+
   private final StateStorageMode stateStorageMode;
 
   final KvStoreHotDao hotDao;
@@ -308,6 +318,7 @@ public class KvStoreDatabase implements Database {
     final Checkpoint finalizedCheckpoint = hotDao.getFinalizedCheckpoint().orElseThrow();
     final Checkpoint bestJustifiedCheckpoint = hotDao.getBestJustifiedCheckpoint().orElseThrow();
     final BeaconState finalizedState = hotDao.getLatestFinalizedState().orElseThrow();
+    loadValidatorPublicKeys(finalizedState);
 
     final Map<UInt64, VoteTracker> votes = hotDao.getVotes();
 
@@ -518,6 +529,25 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return eth1Dao.getFinalizedDepositSnapshot();
+  }
+
+  @Override
+  public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+    final UInt64 finalizedDepositCount = UInt64.valueOf(snapshot.getDeposits());
+    try (final Eth1Updater updater = eth1Dao.eth1Updater();
+        final Stream<DepositsFromBlockEvent> events = eth1Dao.streamDepositsFromBlocks()) {
+      updater.setFinalizedDepositSnapshot(snapshot);
+      // Keep the event containing the last finalized deposit so replay resumes after its block
+      events
+          .takeWhile(event -> event.getLastDepositIndex().plus(1).isLessThan(finalizedDepositCount))
+          .forEach(event -> updater.removeDepositsFromBlockEvent(event.getBlockNumber()));
+      updater.commit();
+    }
+  }
+
   @Override
   public void storeVotes(final Map<UInt64, VoteTracker> votes) {
     try (final KvStoreHotDao.HotUpdater hotUpdater = hotDao.hotUpdater()) {
@@ -561,7 +591,13 @@ public class KvStoreDatabase implements Database {
 
       update.getJustifiedCheckpoint().ifPresent(updater::setJustifiedCheckpoint);
       update.getBestJustifiedCheckpoint().ifPresent(updater::setBestJustifiedCheckpoint);
-      update.getLatestFinalizedState().ifPresent(updater::setLatestFinalizedState);
+      update
+          .getLatestFinalizedState()
+          .ifPresent(
+              state -> {
+                updater.setLatestFinalizedState(state);
+                addValidatorPublicKeys(updater, state);
+              });
 
       updater.addHotBlocks(update.getHotBlocks());
       updater.addHotStates(update.getHotStates());
@@ -580,6 +616,62 @@ public class KvStoreDatabase implements Database {
     return new UpdateResult(finalizedOptimisticExecutionPayload);
   }
 
+  /**
+   * Primes the public key caches of the finalized state with the stored uncompressed keys. States
+   * derived from it share these caches so validator keys don't need to be decompressed again.
+   */
+  private void loadValidatorPublicKeys(final BeaconState finalizedState) {
+    final SszList<Validator> validators = finalizedState.getValidators();
+    final TransitionCaches caches = BeaconStateCache.getTransitionCaches(finalizedState);
+    try (final Stream<ColumnEntry<UInt64, BLSPublicKey>> publicKeys =
+        hotDao.streamValidatorPublicKeys()) {
+      publicKeys.forEach(
+          entry -> {
+            final int validatorIndex = entry.getKey().intValue();
+            final BLSPublicKey publicKey = entry.getValue();
+            if (validatorIndex >= validators.size()
+                || !validators
+                    .get(validatorIndex)
+                    .getPubkeyBytes()
+                    .equals(publicKey.toBytesCompressed())) {
+              LOG.debug(
+                  "Ignoring stored public key for validator {} not matching finalized state",
+                  validatorIndex);
+              return;
+            }
+            caches.getValidatorsPubKeys().invalidateWithNewValue(entry.getKey(), publicKey);
+            caches.getValidatorIndexCache().invalidateWithNewValue(publicKey, validatorIndex);
+          });
+    }
+  }
+
+  /**
+   * Stores the uncompressed public keys of validators in the new finalized state which haven't
+   * been stored yet. Keys of finalized validators never change so are only written once.
+   */
+  private void addValidatorPublicKeys(final HotUpdater updater, final BeaconState finalizedState) {
+    final int firstIndex =
+        hotDao.getLastValidatorPublicKeyIndex().map(index -> index.intValue() + 1).orElse(0);
+    final int endIndex =
+        Math.min(
+            finalizedState.getValidators().size(),
+            firstIndex + MAX_VALIDATOR_PUBLIC_KEYS_PER_UPDATE);
+    final Map<UInt64, BLSPublicKey> publicKeys = new HashMap<>();
+    for (int i = firstIndex; i < endIndex; i++) {
+      final UInt64 validatorIndex = UInt64.valueOf(i);
+      final BLSPublicKey publicKey =
+          spec.getValidatorPubKey(finalizedState, validatorIndex).orElseThrow();
+      try {
+        if (publicKey.isValid()) {
+          publicKeys.put(validatorIndex, publicKey);
+        }
+      } catch (final IllegalArgumentException e) {
+        LOG.debug("Not storing invalid public key for validator {}", validatorIndex, e);
+      }
+    }
+    updater.addValidatorPublicKeys(publicKeys);
+  }
+
   private Optional<SlotAndExecutionPayload> updateFinalizedData(
       Map<Bytes32, Bytes32> finalizedChildToParentMap,
       final Map<Bytes32, SignedBeaconBlock> finalizedBlocks,
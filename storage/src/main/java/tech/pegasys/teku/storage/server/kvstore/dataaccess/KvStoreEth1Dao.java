@@ -18,6 +18,8 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 /**
  * Provides an abstract "data access object" interface for working with ETH1 data from the
@@ -30,6 +32,8 @@ public interface KvStoreEth1Dao extends AutoCloseable {
 
   Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock();
 
+  Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot();
+
   Eth1Updater eth1Updater();
 
   interface Eth1Updater extends AutoCloseable {
@@ -37,6 +41,10 @@ public interface KvStoreEth1Dao extends AutoCloseable {
 
     void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+    void removeDepositsFromBlockEvent(final UInt64 blockNumber);
+
+    void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot);
+
     void commit();
 
     void cancel();
@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpointEpochs;
 import tech.pegasys.teku.spec.datastructures.blocks.CheckpointEpochs;
@@ -28,6 +29,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 
 /**
  * Provides an abstract "data access object" interface for working with hot data (non-finalized)
@@ -65,6 +67,11 @@ public interface KvStoreHotDao extends AutoCloseable {
 
   Map<UInt64, VoteTracker> getVotes();
 
+  @MustBeClosed
+  Stream<ColumnEntry<UInt64, BLSPublicKey>> streamValidatorPublicKeys();
+
+  Optional<UInt64> getLastValidatorPublicKeyIndex();
+
   HotUpdater hotUpdater();
 
   void ingest(KvStoreHotDao hotDao, final int batchSize, final Consumer<String> logger);
@@ -99,6 +106,8 @@ public interface KvStoreHotDao extends AutoCloseable {
 
     void addVotes(Map<UInt64, VoteTracker> states);
 
+    void addValidatorPublicKeys(Map<UInt64, BLSPublicKey> publicKeys);
+
     default void addHotBlocks(final Map<Bytes32, BlockAndCheckpointEpochs> blocks) {
       blocks.values().forEach(this::addHotBlock);
     }
@@ -23,8 +23,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpointEpochs;
 import tech.pegasys.teku.spec.datastructures.blocks.CheckpointEpochs;
@@ -127,6 +129,17 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao {
     return db.getAll(schema.getColumnVotes());
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<ColumnEntry<UInt64, BLSPublicKey>> streamValidatorPublicKeys() {
+    return db.stream(schema.getColumnValidatorPublicKeys());
+  }
+
+  @Override
+  public Optional<UInt64> getLastValidatorPublicKeyIndex() {
+    return db.getLastKey(schema.getColumnValidatorPublicKeys());
+  }
+
   @Override
   @MustBeClosed
   public Stream<DepositsFromBlockEvent> streamDepositsFromBlocks() {
@@ -138,6 +151,11 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao {
     return db.get(schema.getVariableMinGenesisTimeBlock());
   }
 
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return db.get(schema.getVariableFinalizedDepositSnapshot());
+  }
+
   @Override
   @MustBeClosed
   public HotUpdater hotUpdater() {
@@ -297,6 +315,13 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao {
           (validatorIndex, vote) -> transaction.put(schema.getColumnVotes(), validatorIndex, vote));
     }
 
+    @Override
+    public void addValidatorPublicKeys(final Map<UInt64, BLSPublicKey> publicKeys) {
+      publicKeys.forEach(
+          (validatorIndex, publicKey) ->
+              transaction.put(schema.getColumnValidatorPublicKeys(), validatorIndex, publicKey));
+    }
+
     @Override
     public void deleteHotBlock(final Bytes32 blockRoot) {
       transaction.delete(schema.getColumnHotBlocksByRoot(), blockRoot);
@@ -319,6 +344,16 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao {
       transaction.put(schema.getColumnDepositsFromBlockEvents(), event.getBlockNumber(), event);
     }
 
+    @Override
+    public void removeDepositsFromBlockEvent(final UInt64 blockNumber) {
+      transaction.delete(schema.getColumnDepositsFromBlockEvents(), blockNumber);
+    }
+
+    @Override
+    public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+      transaction.put(schema.getVariableFinalizedDepositSnapshot(), snapshot);
+    }
+
     @Override
     public void commit() {
       // Commit db updates
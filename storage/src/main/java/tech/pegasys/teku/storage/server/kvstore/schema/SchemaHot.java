@@ -16,8 +16,10 @@ package tech.pegasys.teku.storage.server.kvstore.schema;
 import java.util.Collection;
 import java.util.Map;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.CheckpointEpochs;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -42,6 +44,9 @@ public interface SchemaHot extends Schema {
 
   KvStoreColumn<Bytes32, BeaconState> getColumnHotStatesByRoot();
 
+  // Validated public keys in uncompressed form, keyed by validator index
+  KvStoreColumn<UInt64, BLSPublicKey> getColumnValidatorPublicKeys();
+
   @Override
   default Collection<KvStoreColumn<?, ?>> getAllColumns() {
     return getColumnMap().values();
@@ -55,7 +60,8 @@ public interface SchemaHot extends Schema {
         "DEPOSITS_FROM_BLOCK_EVENTS", getColumnDepositsFromBlockEvents(),
         "STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot(),
         "HOT_STATES_BY_ROOT", getColumnHotStatesByRoot(),
-        "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot());
+        "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot(),
+        "VALIDATOR_PUBLIC_KEYS", getColumnValidatorPublicKeys());
   }
 
   // Variables
@@ -75,6 +81,8 @@ public interface SchemaHot extends Schema {
 
   KvStoreVariable<Checkpoint> getVariableAnchorCheckpoint();
 
+  KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot();
+
   @Override
   default Collection<KvStoreVariable<?>> getAllVariables() {
     return getVariableMap().values();
@@ -89,6 +97,7 @@ public interface SchemaHot extends Schema {
         "LATEST_FINALIZED_STATE", getVariableLatestFinalizedState(),
         "MIN_GENESIS_TIME_BLOCK", getVariableMinGenesisTimeBlock(),
         "WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint(),
-        "ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint());
+        "ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint(),
+        "FINALIZED_DEPOSIT_SNAPSHOT", getVariableFinalizedDepositSnapshot());
   }
 }
@@ -17,13 +17,17 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSIT_TREE_SNAPSHOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.SLOT_AND_BLOCK_ROOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UNCOMPRESSED_PUBLIC_KEY_SERIALIZER;
 
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.CheckpointEpochs;
@@ -47,6 +51,8 @@ public class V4SchemaHot implements SchemaHot {
   private static final KvStoreColumn<Bytes32, CheckpointEpochs>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
           KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+  private static final KvStoreColumn<UInt64, BLSPublicKey> VALIDATOR_PUBLIC_KEYS =
+      KvStoreColumn.create(8, UINT64_SERIALIZER, UNCOMPRESSED_PUBLIC_KEY_SERIALIZER);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -65,6 +71,8 @@ public class V4SchemaHot implements SchemaHot {
       KvStoreVariable.create(8, CHECKPOINT_SERIALIZER);
   private static final KvStoreVariable<Checkpoint> ANCHOR_CHECKPOINT =
       KvStoreVariable.create(9, CHECKPOINT_SERIALIZER);
+  private static final KvStoreVariable<DepositTreeSnapshot> FINALIZED_DEPOSIT_SNAPSHOT =
+      KvStoreVariable.create(10, DEPOSIT_TREE_SNAPSHOT_SERIALIZER);
 
   public V4SchemaHot(final Spec spec, final boolean storeVotesEquivocation) {
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
@@ -116,6 +124,11 @@ public class V4SchemaHot implements SchemaHot {
     return hotStatesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, BLSPublicKey> getColumnValidatorPublicKeys() {
+    return VALIDATOR_PUBLIC_KEYS;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableGenesisTime() {
     return GENESIS_TIME;
@@ -155,4 +168,9 @@ public class V4SchemaHot implements SchemaHot {
   public KvStoreVariable<Checkpoint> getVariableAnchorCheckpoint() {
     return ANCHOR_CHECKPOINT;
   }
+
+  @Override
+  public KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot() {
+    return FINALIZED_DEPOSIT_SNAPSHOT;
+  }
 }
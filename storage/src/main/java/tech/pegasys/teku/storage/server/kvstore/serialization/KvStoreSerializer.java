@@ -16,8 +16,10 @@ package tech.pegasys.teku.storage.server.kvstore.serialization;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -37,6 +39,8 @@ public interface KvStoreSerializer<T> {
       new DepositsFromBlockEventSerializer();
   KvStoreSerializer<MinGenesisTimeBlockEvent> MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER =
       new MinGenesisTimeBlockEventSerializer();
+  KvStoreSerializer<DepositTreeSnapshot> DEPOSIT_TREE_SNAPSHOT_SERIALIZER =
+      new DepositTreeSnapshotSerializer();
   KvStoreSerializer<SlotAndBlockRoot> SLOT_AND_BLOCK_ROOT_SERIALIZER =
       new SlotAndBlockRootSerializer();
   KvStoreSerializer<CheckpointEpochs> CHECKPOINT_EPOCHS_SERIALIZER =
@@ -44,6 +48,8 @@ public interface KvStoreSerializer<T> {
   KvStoreSerializer<Set<Bytes32>> BLOCK_ROOTS_SERIALIZER = new Bytes32SetSerializer();
   KvStoreSerializer<CompressedBranchInfo> COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER =
       new CompressedBranchInfoSerializer();
+  KvStoreSerializer<BLSPublicKey> UNCOMPRESSED_PUBLIC_KEY_SERIALIZER =
+      new UncompressedPublicKeySerializer();
 
   static KvStoreSerializer<BeaconState> createStateSerializer(final Spec spec) {
     return new BeaconStateSerializer(spec);
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSPublicKey;
+
+/**
+ * Stores public keys in their uncompressed form so they can be loaded without repeating the
+ * expensive point decompression. Only keys that have already been validated may be stored.
+ */
+class UncompressedPublicKeySerializer implements KvStoreSerializer<BLSPublicKey> {
+
+  @Override
+  public BLSPublicKey deserialize(final byte[] data) {
+    return BLSPublicKey.fromTrustedBytesUncompressed(Bytes.wrap(data));
+  }
+
+  @Override
+  public byte[] serialize(final BLSPublicKey value) {
+    return value.toBytesUncompressed().toArrayUnsafe();
+  }
+}
@@ -24,6 +24,7 @@ import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
@@ -167,6 +168,14 @@ public class NoOpDatabase implements Database {
   @Override
   public void addDepositsFromBlockEvent(final DepositsFromBlockEvent event) {}
 
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return Optional.empty();
+  }
+
+  @Override
+  public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {}
+
   @Override
   public void storeVotes(final Map<UInt64, VoteTracker> votes) {}
 
@@ -15,17 +15,20 @@ package tech.pegasys.teku.storage.server.rocksdb;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -42,6 +45,7 @@ import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
+import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 public class RocksDbInstanceFactory {
   static {
@@ -59,20 +63,36 @@ public class RocksDbInstanceFactory {
     checkArgument(
         columns.stream().map(KvStoreColumn::getId).distinct().count() == columns.size(),
         "Column IDs are not distinct");
+    checkArgument(
+        configuration.getBloomFilterBitsPerKey() >= 0,
+        "Bloom filter bits per key must not be negative but was %s",
+        configuration.getBloomFilterBitsPerKey());
 
     // Create options
     final TransactionDBOptions txOptions = new TransactionDBOptions();
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
+    // A single block cache is shared by all columns
     final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
+    final Optional<BloomFilter> bloomFilter = createBloomFilter(configuration);
+    final ColumnFamilyOptions pointLookupColumnOptions =
+        createColumnFamilyOptions(
+            configuration, createPointLookupTableConfig(blockCache, bloomFilter));
+    final ColumnFamilyOptions orderedColumnOptions =
+        createColumnFamilyOptions(configuration, createBlockBasedTableConfig(blockCache));
     final List<AutoCloseable> resources =
         new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+            List.of(
+                txOptions,
+                dbOptions,
+                pointLookupColumnOptions,
+                orderedColumnOptions,
+                rocksDbStats,
+                blockCache));
+    bloomFilter.ifPresent(resources::add);
 
     List<ColumnFamilyDescriptor> columnDescriptors =
-        createColumnFamilyDescriptors(columns, columnFamilyOptions);
+        createColumnFamilyDescriptors(columns, pointLookupColumnOptions, orderedColumnOptions);
     Map<Bytes, KvStoreColumn<?, ?>> columnsById =
         columns.stream().collect(Collectors.toMap(KvStoreColumn::getId, Function.identity()));
 
@@ -140,7 +160,9 @@ public class RocksDbInstanceFactory {
             .setMaxOpenFiles(configuration.getMaxOpenFiles())
             .setCreateMissingColumnFamilies(true)
             .setEnv(Env.getDefault().setBackgroundThreads(configuration.getBackgroundThreadCount()))
-            .setStatistics(stats);
+            .setStatistics(stats)
+            .setUseDirectIoForFlushAndCompaction(
+                configuration.useDirectIoForFlushAndCompaction());
     if (configuration.optimizeForSmallDb()) {
       options.optimizeForSmallDb();
     }
@@ -148,26 +170,62 @@ public class RocksDbInstanceFactory {
   }
 
   private static ColumnFamilyOptions createColumnFamilyOptions(
-      final KvStoreConfiguration configuration, final Cache cache) {
-    return new ColumnFamilyOptions()
-        .setCompressionType(configuration.getCompressionType())
-        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+      final KvStoreConfiguration configuration, final BlockBasedTableConfig tableConfig) {
+    final ColumnFamilyOptions options =
+        new ColumnFamilyOptions()
+            .setCompressionType(configuration.getCompressionType())
+            .setBottommostCompressionType(configuration.getBottomMostCompressionType())
+            .setTableFormatConfig(tableConfig);
+    if (!configuration.getCompressionPerLevel().isEmpty()) {
+      options.setCompressionPerLevel(configuration.getCompressionPerLevel());
+    }
+    return options;
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final ColumnFamilyOptions pointLookupColumnOptions,
+      final ColumnFamilyOptions orderedColumnOptions) {
     List<ColumnFamilyDescriptor> columnDescriptors =
         columns.stream()
             .map(
-                col -> new ColumnFamilyDescriptor(col.getId().toArrayUnsafe(), columnFamilyOptions))
+                col ->
+                    new ColumnFamilyDescriptor(
+                        col.getId().toArrayUnsafe(),
+                        isOrderedColumn(col) ? orderedColumnOptions : pointLookupColumnOptions))
             .collect(Collectors.toList());
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(
+            Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), pointLookupColumnOptions));
     return columnDescriptors;
   }
 
+  /**
+   * Columns keyed by slot or index are mostly read by seeking to a key and iterating in order,
+   * which bloom filters can't help with. All other columns are keyed by root or checkpoint and read
+   * by exact key.
+   */
+  @VisibleForTesting
+  static boolean isOrderedColumn(final KvStoreColumn<?, ?> column) {
+    return column.getKeySerializer() == KvStoreSerializer.UINT64_SERIALIZER;
+  }
+
+  private static Optional<BloomFilter> createBloomFilter(final KvStoreConfiguration configuration) {
+    if (configuration.getBloomFilterBitsPerKey() == 0) {
+      return Optional.empty();
+    }
+    // Use the full filter format, the block based format is deprecated and slower to query
+    return Optional.of(new BloomFilter(configuration.getBloomFilterBitsPerKey(), false));
+  }
+
+  private static BlockBasedTableConfig createPointLookupTableConfig(
+      final Cache cache, final Optional<BloomFilter> bloomFilter) {
+    final BlockBasedTableConfig tableConfig = createBlockBasedTableConfig(cache);
+    bloomFilter.ifPresent(
+        filter -> tableConfig.setFilterPolicy(filter).setPinL0FilterAndIndexBlocksInCache(true));
+    return tableConfig;
+  }
+
   private static BlockBasedTableConfig createBlockBasedTableConfig(final Cache cache) {
     return new BlockBasedTableConfig()
         .setBlockCache(cache)
@@ -44,6 +44,7 @@ public class RocksDbStats implements AutoCloseable {
 
   // Tickers - RocksDB equivalent of counters
   static final TickerType[] TICKERS = {
+    TickerType.BLOCK_CACHE_MISS,
     TickerType.BLOCK_CACHE_ADD,
     TickerType.BLOCK_CACHE_HIT,
     TickerType.BLOCK_CACHE_ADD_FAILURES,
@@ -64,6 +65,8 @@ public class RocksDbStats implements AutoCloseable {
     TickerType.BLOCK_CACHE_BYTES_READ,
     TickerType.BLOCK_CACHE_BYTES_WRITE,
     TickerType.BLOOM_FILTER_USEFUL,
+    TickerType.BLOOM_FILTER_FULL_POSITIVE,
+    TickerType.BLOOM_FILTER_FULL_TRUE_POSITIVE,
     TickerType.PERSISTENT_CACHE_HIT,
     TickerType.PERSISTENT_CACHE_MISS,
     TickerType.SIM_BLOCK_CACHE_HIT,
@@ -201,6 +204,16 @@ public class RocksDbStats implements AutoCloseable {
         "current_size_all_mem_tables",
         "Current size of all RocksDB mem tables combined",
         () -> getLongProperty(database, "rocksdb.cur-size-all-mem-tables"));
+    metricsSystem.createLongGauge(
+        category,
+        "block_cache_usage",
+        "Memory used by entries in the RocksDB block cache",
+        () -> getLongProperty(database, "rocksdb.block-cache-usage"));
+    metricsSystem.createLongGauge(
+        category,
+        "block_cache_pinned_usage",
+        "Memory used by pinned entries in the RocksDB block cache",
+        () -> getLongProperty(database, "rocksdb.block-cache-pinned-usage"));
 
     for (final TickerType ticker : TICKERS) {
       final String promCounterName = ticker.name().toLowerCase();
@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Stream;
 import tech.pegasys.teku.dataproviders.generators.StreamingStateRegenerator;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeInterner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -44,14 +45,29 @@ public class FinalizedStateCache {
   private final LoadingCache<UInt64, BeaconState> stateCache;
   private final Spec spec;
   private final Database database;
+  private final boolean stateNodeInterningEnabled;
 
   public FinalizedStateCache(
       final Spec spec,
       final Database database,
       final int maximumCacheSize,
       final boolean useSoftReferences) {
+    this(spec, database, maximumCacheSize, useSoftReferences, false);
+  }
+
+  /**
+   * @param stateNodeInterningEnabled whether to share identical tree nodes between states loaded
+   *     from the database, see {@link TreeNodeInterner}
+   */
+  public FinalizedStateCache(
+      final Spec spec,
+      final Database database,
+      final int maximumCacheSize,
+      final boolean useSoftReferences,
+      final boolean stateNodeInterningEnabled) {
     this.spec = spec;
     this.database = database;
+    this.stateNodeInterningEnabled = stateNodeInterningEnabled;
     final CacheBuilder<UInt64, BeaconState> cacheBuilder =
         CacheBuilder.newBuilder()
             .maximumSize(maximumCacheSize)
@@ -92,9 +108,14 @@ public class FinalizedStateCache {
     }
 
     private Optional<BeaconState> regenerateState(final UInt64 slot) {
-      return database
-          .getLatestAvailableFinalizedState(slot)
-          .map(state -> regenerateState(slot, state));
+      return loadLatestAvailableFinalizedState(slot).map(state -> regenerateState(slot, state));
+    }
+
+    private Optional<BeaconState> loadLatestAvailableFinalizedState(final UInt64 slot) {
+      if (stateNodeInterningEnabled) {
+        return TreeNodeInterner.intern(() -> database.getLatestAvailableFinalizedState(slot));
+      }
+      return database.getLatestAvailableFinalizedState(slot);
     }
 
     private BeaconState regenerateState(final UInt64 slot, final BeaconState stateFromDisk) {
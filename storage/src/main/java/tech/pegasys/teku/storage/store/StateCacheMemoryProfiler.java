@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeMemoryEstimator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Periodically estimates the memory retained by the store's state caches, reports it as metrics and
+ * evicts states from any cache which exceeds its memory budget.
+ *
+ * <p>Cached states share most of their tree so the memory used by a cache is far less than the sum
+ * of its state sizes. Tree nodes are deduplicated by identity within each cache. When a cache is
+ * over budget, the states with the highest slots are kept and all older states are evicted, which
+ * frees exactly the nodes not shared with any retained state.
+ */
+class StateCacheMemoryProfiler {
+  private static final Logger LOG = LogManager.getLogger();
+  static final Duration PROFILING_INTERVAL = Duration.ofMinutes(1);
+
+  private final List<ProfiledCache<?, ?>> caches = new ArrayList<>();
+  private final AsyncRunner asyncRunner;
+  private SettableLabelledGauge retainedBytesGauge;
+  private LabelledMetric<Counter> evictedStatesCounter;
+
+  StateCacheMemoryProfiler(final AsyncRunner asyncRunner) {
+    this.asyncRunner = asyncRunner;
+  }
+
+  <K, V> StateCacheMemoryProfiler addCache(
+      final String name,
+      final CachingTaskQueue<K, V> cache,
+      final Function<V, BeaconState> stateGetter,
+      final long maxMemoryBytes) {
+    caches.add(new ProfiledCache<>(name, cache, stateGetter, maxMemoryBytes));
+    return this;
+  }
+
+  /**
+   * Registers metrics and starts profiling. Metrics can only be registered once, so this must only
+   * be called for the canonical store.
+   */
+  void start(final MetricsSystem metricsSystem) {
+    retainedBytesGauge =
+        SettableLabelledGauge.create(
+            metricsSystem,
+            TekuMetricCategory.STORAGE,
+            "memory_state_cache_bytes",
+            "Estimated memory retained by the states in each in-memory state cache",
+            "cache");
+    evictedStatesCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            "memory_state_cache_budget_evictions_total",
+            "Number of states evicted from each in-memory state cache to stay within its memory budget",
+            "cache");
+    asyncRunner.runWithFixedDelay(
+        this::update,
+        PROFILING_INTERVAL,
+        error -> LOG.error("Failed to profile state cache memory", error));
+  }
+
+  void update() {
+    caches.forEach(ProfiledCache::update);
+  }
+
+  private class ProfiledCache<K, V> {
+    private final String name;
+    private final CachingTaskQueue<K, V> cache;
+    private final Function<V, BeaconState> stateGetter;
+    private final long maxMemoryBytes;
+
+    private ProfiledCache(
+        final String name,
+        final CachingTaskQueue<K, V> cache,
+        final Function<V, BeaconState> stateGetter,
+        final long maxMemoryBytes) {
+      this.name = name;
+      this.cache = cache;
+      this.stateGetter = stateGetter;
+      this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    void update() {
+      final List<Map.Entry<K, V>> entries = new ArrayList<>(cache.getCachedValues().entrySet());
+      // Newest states first so the oldest are evicted when over budget
+      entries.sort(
+          Comparator.comparing(
+                  (Map.Entry<K, V> entry) -> stateGetter.apply(entry.getValue()).getSlot())
+              .reversed());
+      final TreeNodeMemoryEstimator estimator = new TreeNodeMemoryEstimator();
+      long retainedBytes = 0;
+      for (int i = 0; i < entries.size(); i++) {
+        final BeaconState state = stateGetter.apply(entries.get(i).getValue());
+        final long totalBytes = retainedBytes + estimator.add(state.getBackingNode());
+        // Always keep the newest state, even if it alone exceeds the budget
+        if (maxMemoryBytes > 0 && totalBytes > maxMemoryBytes && i > 0) {
+          final List<Map.Entry<K, V>> evicted = entries.subList(i, entries.size());
+          evicted.forEach(entry -> cache.remove(entry.getKey()));
+          evictedStatesCounter.labels(name).inc(evicted.size());
+          LOG.debug(
+              "Evicted {} states from {} cache to remain within memory budget of {} bytes",
+              evicted.size(),
+              name,
+              maxMemoryBytes);
+          break;
+        }
+        retainedBytes = totalBytes;
+      }
+      retainedBytesGauge.set(retainedBytes, name);
+    }
+  }
+}
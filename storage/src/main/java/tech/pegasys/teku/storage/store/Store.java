@@ -30,6 +30,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -94,6 +95,7 @@ class Store implements UpdatableStore {
   final CachingTaskQueue<Bytes32, StateAndBlockSummary> states;
   final Map<Bytes32, SignedBeaconBlock> blocks;
   final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
+  private final Optional<StateCacheMemoryProfiler> stateCacheMemoryProfiler;
   VoteTracker[] votes;
   UInt64 highestVotedValidatorIndex;
 
@@ -114,7 +116,8 @@ class Store implements UpdatableStore {
       final ForkChoiceStrategy forkChoiceStrategy,
       final Map<UInt64, VoteTracker> votes,
       final Map<Bytes32, SignedBeaconBlock> blocks,
-      final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates) {
+      final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates,
+      final Optional<StateCacheMemoryProfiler> stateCacheMemoryProfiler) {
     checkArgument(
         time.isGreaterThanOrEqualTo(genesisTime),
         "Time must be greater than or equal to genesisTime");
@@ -129,6 +132,7 @@ class Store implements UpdatableStore {
     this.spec = spec;
     this.states = states;
     this.checkpointStates = checkpointStates;
+    this.stateCacheMemoryProfiler = stateCacheMemoryProfiler;
 
     // Store instance variables
     this.initialCheckpoint = initialCheckpoint;
@@ -191,6 +195,21 @@ class Store implements UpdatableStore {
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
         CachingTaskQueue.create(
             asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+    final Optional<StateCacheMemoryProfiler> stateCacheMemoryProfiler =
+        config.isStateCacheMemoryProfilingEnabled()
+            ? Optional.of(
+                new StateCacheMemoryProfiler(asyncRunner)
+                    .addCache(
+                        "states",
+                        stateTaskQueue,
+                        StateAndBlockSummary::getState,
+                        config.getStateCacheMaxMemoryBytes())
+                    .addCache(
+                        "checkpoint_states",
+                        checkpointStateTaskQueue,
+                        Function.identity(),
+                        config.getCheckpointStateCacheMaxMemoryBytes()))
+            : Optional.empty();
 
     final ForkChoiceStrategy forkChoiceStrategy =
         ForkChoiceStrategy.initialize(
@@ -215,7 +234,8 @@ class Store implements UpdatableStore {
         forkChoiceStrategy,
         votes,
         blocks,
-        checkpointStateTaskQueue);
+        checkpointStateTaskQueue,
+        stateCacheMemoryProfiler);
   }
 
   private static ProtoArray buildProtoArray(
@@ -269,6 +289,7 @@ class Store implements UpdatableStore {
                   "Number of beacon blocks held in the in-memory store"));
       states.startMetrics();
       checkpointStates.startMetrics();
+      stateCacheMemoryProfiler.ifPresent(profiler -> profiler.start(metricsSystem));
     } finally {
       lock.writeLock().unlock();
     }
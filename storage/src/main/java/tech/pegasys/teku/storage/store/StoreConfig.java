@@ -26,21 +26,33 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = DEFAULT_STATE_CACHE_SIZE * 2;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  // Memory budgets are disabled by default, limiting caches by entry count only
+  public static final long DEFAULT_STATE_CACHE_MAX_MEMORY_BYTES = 0;
+  public static final long DEFAULT_CHECKPOINT_STATE_CACHE_MAX_MEMORY_BYTES = 0;
 
   private final int stateCacheSize;
   private final int blockCacheSize;
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
+  private final long stateCacheMaxMemoryBytes;
+  private final long checkpointStateCacheMaxMemoryBytes;
+  private final boolean stateCacheMemoryProfilingEnabled;
 
   private StoreConfig(
       final int stateCacheSize,
       final int blockCacheSize,
       final int checkpointStateCacheSize,
-      final int hotStatePersistenceFrequencyInEpochs) {
+      final int hotStatePersistenceFrequencyInEpochs,
+      final long stateCacheMaxMemoryBytes,
+      final long checkpointStateCacheMaxMemoryBytes,
+      final boolean stateCacheMemoryProfilingEnabled) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+    this.stateCacheMaxMemoryBytes = stateCacheMaxMemoryBytes;
+    this.checkpointStateCacheMaxMemoryBytes = checkpointStateCacheMaxMemoryBytes;
+    this.stateCacheMemoryProfilingEnabled = stateCacheMemoryProfilingEnabled;
   }
 
   public static Builder builder() {
@@ -67,6 +79,26 @@ public class StoreConfig {
     return hotStatePersistenceFrequencyInEpochs;
   }
 
+  /** The maximum estimated memory the state cache may retain, or 0 if unlimited */
+  public long getStateCacheMaxMemoryBytes() {
+    return stateCacheMaxMemoryBytes;
+  }
+
+  /** The maximum estimated memory the checkpoint state cache may retain, or 0 if unlimited */
+  public long getCheckpointStateCacheMaxMemoryBytes() {
+    return checkpointStateCacheMaxMemoryBytes;
+  }
+
+  /**
+   * Whether the memory retained by state caches is periodically measured. Always enabled when a
+   * memory budget is configured, as enforcing the budget requires the measurement.
+   */
+  public boolean isStateCacheMemoryProfilingEnabled() {
+    return stateCacheMemoryProfilingEnabled
+        || stateCacheMaxMemoryBytes > 0
+        || checkpointStateCacheMaxMemoryBytes > 0;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -79,7 +111,10 @@ public class StoreConfig {
     return stateCacheSize == that.stateCacheSize
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
-        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs;
+        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && stateCacheMaxMemoryBytes == that.stateCacheMaxMemoryBytes
+        && checkpointStateCacheMaxMemoryBytes == that.checkpointStateCacheMaxMemoryBytes
+        && stateCacheMemoryProfilingEnabled == that.stateCacheMemoryProfilingEnabled;
   }
 
   @Override
@@ -88,7 +123,10 @@ public class StoreConfig {
         stateCacheSize,
         blockCacheSize,
         checkpointStateCacheSize,
-        hotStatePersistenceFrequencyInEpochs);
+        hotStatePersistenceFrequencyInEpochs,
+        stateCacheMaxMemoryBytes,
+        checkpointStateCacheMaxMemoryBytes,
+        stateCacheMemoryProfilingEnabled);
   }
 
   public static class Builder {
@@ -97,6 +135,10 @@ public class StoreConfig {
     private int checkpointStateCacheSize = DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
+    private long stateCacheMaxMemoryBytes = DEFAULT_STATE_CACHE_MAX_MEMORY_BYTES;
+    private long checkpointStateCacheMaxMemoryBytes =
+        DEFAULT_CHECKPOINT_STATE_CACHE_MAX_MEMORY_BYTES;
+    private boolean stateCacheMemoryProfilingEnabled = false;
 
     private Builder() {}
 
@@ -105,7 +147,10 @@ public class StoreConfig {
           stateCacheSize,
           blockCacheSize,
           checkpointStateCacheSize,
-          hotStatePersistenceFrequencyInEpochs);
+          hotStatePersistenceFrequencyInEpochs,
+          stateCacheMaxMemoryBytes,
+          checkpointStateCacheMaxMemoryBytes,
+          stateCacheMemoryProfilingEnabled);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -138,6 +183,32 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder stateCacheMaxMemoryBytes(final long stateCacheMaxMemoryBytes) {
+      validateMaxMemoryBytes(stateCacheMaxMemoryBytes);
+      this.stateCacheMaxMemoryBytes = stateCacheMaxMemoryBytes;
+      return this;
+    }
+
+    public Builder checkpointStateCacheMaxMemoryBytes(
+        final long checkpointStateCacheMaxMemoryBytes) {
+      validateMaxMemoryBytes(checkpointStateCacheMaxMemoryBytes);
+      this.checkpointStateCacheMaxMemoryBytes = checkpointStateCacheMaxMemoryBytes;
+      return this;
+    }
+
+    public Builder stateCacheMemoryProfilingEnabled(
+        final boolean stateCacheMemoryProfilingEnabled) {
+      this.stateCacheMemoryProfilingEnabled = stateCacheMemoryProfilingEnabled;
+      return this;
+    }
+
+    private void validateMaxMemoryBytes(final long maxMemoryBytes) {
+      if (maxMemoryBytes < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid cache memory limit: %d", maxMemoryBytes));
+      }
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
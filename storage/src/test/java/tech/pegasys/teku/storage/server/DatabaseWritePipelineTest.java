@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.Map;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.UpdateResult;
+
+class DatabaseWritePipelineTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+  private final Database database = mock(Database.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final DatabaseWritePipeline pipeline =
+      DatabaseWritePipeline.create(database, asyncRunner, new NoOpMetricsSystem());
+
+  @Test
+  void shouldApplyWritesInOrderOnWriterRunner() {
+    final StorageUpdate update = mock(StorageUpdate.class);
+    when(database.update(update)).thenReturn(UpdateResult.EMPTY);
+    final Map<UInt64, VoteTracker> votes = randomVotes();
+
+    final SafeFuture<UpdateResult> updateResult = pipeline.submit(db -> db.update(update));
+    final SafeFuture<Void> votesResult = pipeline.submitVotes(votes);
+
+    assertThat(pipeline.getQueueSize()).isEqualTo(2);
+    assertThat(updateResult).isNotDone();
+    verifyNoInteractions(database);
+
+    asyncRunner.executeQueuedActions();
+
+    final InOrder inOrder = inOrder(database);
+    inOrder.verify(database).update(update);
+    inOrder.verify(database).storeVotes(votes);
+    assertThat(updateResult).isCompletedWithValue(UpdateResult.EMPTY);
+    assertThat(votesResult).isCompleted();
+    assertThat(pipeline.getQueueSize()).isZero();
+  }
+
+  @Test
+  void shouldMergeConsecutiveVoteUpdates() {
+    final VoteTracker vote1 = dataStructureUtil.randomVoteTracker();
+    final VoteTracker vote2 = dataStructureUtil.randomVoteTracker();
+    final VoteTracker vote3 = dataStructureUtil.randomVoteTracker();
+
+    final SafeFuture<Void> result1 =
+        pipeline.submitVotes(Map.of(UInt64.ZERO, vote1, UInt64.ONE, vote1));
+    final SafeFuture<Void> result2 = pipeline.submitVotes(Map.of(UInt64.ONE, vote2));
+    final SafeFuture<Void> result3 = pipeline.submitVotes(Map.of(UInt64.valueOf(2), vote3));
+
+    asyncRunner.executeQueuedActions();
+
+    verify(database)
+        .storeVotes(Map.of(UInt64.ZERO, vote1, UInt64.ONE, vote2, UInt64.valueOf(2), vote3));
+    assertThat(result1).isCompleted();
+    assertThat(result2).isCompleted();
+    assertThat(result3).isCompleted();
+  }
+
+  @Test
+  void shouldNotMergeVoteUpdatesAcrossOtherWrites() {
+    final Map<UInt64, VoteTracker> votes1 = randomVotes();
+    final Map<UInt64, VoteTracker> votes2 = randomVotes();
+
+    pipeline.submitVotes(votes1);
+    pipeline.execute(Database::getEarliestAvailableBlockSlot);
+    pipeline.submitVotes(votes2);
+
+    asyncRunner.executeQueuedActions();
+
+    final InOrder inOrder = inOrder(database);
+    inOrder.verify(database).storeVotes(votes1);
+    inOrder.verify(database).getEarliestAvailableBlockSlot();
+    inOrder.verify(database).storeVotes(votes2);
+  }
+
+  @Test
+  void shouldContinueApplyingWritesAfterFailure() {
+    final RuntimeException error = new RuntimeException("Nope");
+    final StorageUpdate update = mock(StorageUpdate.class);
+    doThrow(error).when(database).update(update);
+    final Map<UInt64, VoteTracker> votes = randomVotes();
+
+    final SafeFuture<UpdateResult> updateResult = pipeline.submit(db -> db.update(update));
+    final SafeFuture<Void> votesResult = pipeline.submitVotes(votes);
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(updateResult).isCompletedExceptionally();
+    verify(database).storeVotes(votes);
+    assertThat(votesResult).isCompleted();
+  }
+
+  @Test
+  void shouldApplyWritesSubmittedAfterPreviousBatchCompleted() {
+    final Map<UInt64, VoteTracker> votes = randomVotes();
+    pipeline.submitVotes(votes);
+    asyncRunner.executeQueuedActions();
+
+    final SafeFuture<Void> result = pipeline.submitVotes(votes);
+    assertThat(result).isNotDone();
+
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompleted();
+  }
+
+  @Test
+  void close_shouldApplyQueuedWritesOnCallingThread() {
+    final Map<UInt64, VoteTracker> votes = randomVotes();
+    final SafeFuture<Void> result = pipeline.submitVotes(votes);
+
+    pipeline.close();
+
+    verify(database).storeVotes(votes);
+    assertThat(result).isCompleted();
+    assertThat(pipeline.getQueueSize()).isZero();
+
+    // Writer scheduled before closing has nothing left to apply
+    asyncRunner.executeQueuedActions();
+    verify(database).storeVotes(votes);
+  }
+
+  @Test
+  void close_shouldRejectLaterWrites() {
+    pipeline.close();
+
+    final SafeFuture<Void> result = pipeline.submitVotes(randomVotes());
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(IllegalStateException.class);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(database);
+  }
+
+  @Test
+  void createSynchronous_shouldApplyWritesImmediately() {
+    final DatabaseWritePipeline synchronousPipeline =
+        DatabaseWritePipeline.createSynchronous(database);
+    final Map<UInt64, VoteTracker> votes = randomVotes();
+
+    assertThat(synchronousPipeline.submitVotes(votes)).isCompleted();
+    verify(database).storeVotes(votes);
+  }
+
+  private Map<UInt64, VoteTracker> randomVotes() {
+    return Map.of(UInt64.ONE, dataStructureUtil.randomVoteTracker());
+  }
+}
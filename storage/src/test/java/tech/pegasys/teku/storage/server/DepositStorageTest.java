@@ -21,6 +21,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import java.math.BigInteger;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
@@ -33,6 +34,7 @@ import tech.pegasys.teku.ethereum.pow.api.Deposit;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.ethereum.pow.merkletree.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -348,6 +350,38 @@ public class DepositStorageTest {
     assertThat(future.get().isPastMinGenesisBlock()).isTrue();
   }
 
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldPruneFinalizedDepositsAndReplayRemainingEvents(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws ExecutionException, InterruptedException {
+    setup(storageSystemSupplier);
+    database.addDepositsFromBlockEvent(block99);
+    database.addDepositsFromBlockEvent(block100);
+    database.addDepositsFromBlockEvent(block101);
+
+    final DepositTreeSnapshot snapshot =
+        new DepositTreeSnapshot(
+            List.of(dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32()),
+            15,
+            dataStructureUtil.randomBytes32());
+    depositStorage.onFinalizedDepositSnapshot(snapshot);
+
+    assertThat(depositStorage.getFinalizedDepositSnapshot())
+        .isCompletedWithValue(Optional.of(snapshot));
+    // Block 100 contains the last finalized deposit so must be kept
+    try (Stream<DepositsFromBlockEvent> deposits = database.streamDepositsFromBlocks()) {
+      assertThat(deposits).containsExactly(block100, block101);
+    }
+
+    SafeFuture<ReplayDepositsResult> future = depositStorage.replayDepositEvents();
+    assertThat(future).isCompleted();
+    assertThat(eventsChannel.getOrderedList()).containsExactly(block100, block101);
+    assertThat(future.get().getLastProcessedBlockNumber())
+        .isEqualTo(block101.getBlockNumber().bigIntegerValue());
+  }
+
   private static class UnsafeDepositsFromBlockEvent extends DepositsFromBlockEvent {
 
     protected UnsafeDepositsFromBlockEvent(
@@ -29,18 +29,22 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpointEpochs;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.server.AbstractStorageBackedDatabaseTest;
@@ -108,6 +112,46 @@ public abstract class AbstractKvStoreDatabaseTest extends AbstractStorageBackedD
     assertThat(store.getTimeSeconds()).isEqualTo(genesisTime);
   }
 
+  @Test
+  public void shouldStoreValidatorPublicKeysWhenFinalized() {
+    addBlocks(chainBuilder.generateNextBlock(), chainBuilder.generateNextBlock());
+    justifyAndFinalizeEpoch(UInt64.ONE, chainBuilder.getLatestBlockAndState());
+
+    final KvStoreHotDao hotDao = ((KvStoreDatabase) database).hotDao;
+    final SszList<Validator> validators =
+        hotDao.getLatestFinalizedState().orElseThrow().getValidators();
+    assertThat(hotDao.getLastValidatorPublicKeyIndex())
+        .contains(UInt64.valueOf(validators.size() - 1));
+    try (final Stream<ColumnEntry<UInt64, BLSPublicKey>> publicKeys =
+        hotDao.streamValidatorPublicKeys()) {
+      assertThat(publicKeys)
+          .hasSize(validators.size())
+          .allMatch(
+              entry ->
+                  entry
+                      .getValue()
+                      .equals(validators.get(entry.getKey().intValue()).getPublicKey()));
+    }
+  }
+
+  @Test
+  public void createMemoryStore_shouldLoadStoredValidatorPublicKeys() {
+    addBlocks(chainBuilder.generateNextBlock(), chainBuilder.generateNextBlock());
+    justifyAndFinalizeEpoch(UInt64.ONE, chainBuilder.getLatestBlockAndState());
+
+    final BeaconState finalizedState =
+        ((KvStoreDatabase) database)
+            .createMemoryStore()
+            .orElseThrow()
+            .getLatestFinalized()
+            .getState();
+    assertThat(
+            BeaconStateCache.getTransitionCaches(finalizedState)
+                .getValidatorsPubKeys()
+                .getCached(UInt64.ZERO))
+        .contains(finalizedState.getValidators().get(0).getPublicKey());
+  }
+
   @Test
   public void shouldThrowIfClosedDatabaseIsRead_createMemoryStore() throws Exception {
     database.storeInitialAnchor(genesisAnchor);
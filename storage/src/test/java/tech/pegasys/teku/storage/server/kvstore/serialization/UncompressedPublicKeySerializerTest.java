@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSTestUtil;
+
+public class UncompressedPublicKeySerializerTest {
+  private final UncompressedPublicKeySerializer serializer = new UncompressedPublicKeySerializer();
+
+  @Test
+  void shouldSurviveSerialization() {
+    final BLSPublicKey original = BLSTestUtil.randomPublicKey(1);
+    final byte[] serialized = serializer.serialize(original);
+    final BLSPublicKey deserialized = serializer.deserialize(serialized);
+
+    assertThat(serialized).hasSize(96);
+    assertThat(deserialized).isEqualTo(original);
+    assertThat(deserialized.isValid()).isTrue();
+  }
+}
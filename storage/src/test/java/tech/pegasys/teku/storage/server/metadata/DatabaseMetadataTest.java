@@ -22,10 +22,13 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.CompressionType;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 
 class DatabaseMetadataTest {
@@ -72,6 +75,38 @@ class DatabaseMetadataTest {
     assertThat(result.getHotDbConfiguration().getMaxOpenFiles()).isEqualTo(1234);
   }
 
+  @Test
+  void shouldUseColumnTuningValuesFromFileWhenTheyExist(@TempDir final File tempDir)
+      throws Exception {
+    final File metadataFile = new File(tempDir, "metadata.yml");
+    writeMetaData(
+        ImmutableMap.of(
+            HOT_DB_CONFIGURATION_KEY,
+            ImmutableMap.of(
+                "bloomFilterBitsPerKey",
+                0,
+                "compressionPerLevel",
+                List.of("NO_COMPRESSION", "LZ4_COMPRESSION"),
+                "useDirectIoForFlushAndCompaction",
+                true)),
+        metadataFile);
+
+    final KvStoreConfiguration result =
+        V5DatabaseMetadata.init(metadataFile, V5DatabaseMetadata.v5Defaults())
+            .getHotDbConfiguration();
+    assertThat(result.getBloomFilterBitsPerKey()).isZero();
+    assertThat(result.getCompressionPerLevel())
+        .containsExactly(CompressionType.NO_COMPRESSION, CompressionType.LZ4_COMPRESSION);
+    assertThat(result.useDirectIoForFlushAndCompaction()).isTrue();
+
+    // Tuning values are safe to change so should not be written to the file
+    final V5DatabaseMetadata expectedMetadata = V5DatabaseMetadata.v5Defaults();
+    final File newMetadataFile = new File(tempDir, "new-metadata.yml");
+    V5DatabaseMetadata.init(newMetadataFile, expectedMetadata);
+    assertThat(Files.readString(newMetadataFile.toPath()))
+        .doesNotContain("bloomFilterBitsPerKey", "compressionPerLevel");
+  }
+
   @Test
   void shouldPopulateValuesForNewFields(@TempDir final File tempDir) throws Exception {
     final File metadataFile = new File(tempDir, "metadata.yml");
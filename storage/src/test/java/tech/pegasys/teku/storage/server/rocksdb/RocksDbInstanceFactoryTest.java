@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaFinalized;
+import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaHot;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6TreeSchemaFinalized;
+
+class RocksDbInstanceFactoryTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+
+  @Test
+  void shouldOnlyUseBloomFiltersForHotColumnsReadByKey() {
+    final Map<String, KvStoreColumn<?, ?>> columns = new V4SchemaHot(spec, false).getColumnMap();
+
+    assertThat(getColumnsWithBloomFilter(columns))
+        .containsExactlyInAnyOrder(
+            "HOT_BLOCKS_BY_ROOT",
+            "CHECKPOINT_STATES",
+            "STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT",
+            "HOT_STATES_BY_ROOT",
+            "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT");
+  }
+
+  @Test
+  void shouldOnlyUseBloomFiltersForSnapshotFinalizedColumnsReadByKey() {
+    final Map<String, KvStoreColumn<?, ?>> columns = new V4SchemaFinalized(spec).getColumnMap();
+
+    assertThat(getColumnsWithBloomFilter(columns))
+        .containsExactlyInAnyOrder(
+            "SLOTS_BY_FINALIZED_ROOT",
+            "SLOTS_BY_FINALIZED_STATE_ROOT",
+            "NON_CANONICAL_BLOCKS_BY_ROOT");
+  }
+
+  @Test
+  void shouldOnlyUseBloomFiltersForTreeFinalizedColumnsReadByKey() {
+    final Map<String, KvStoreColumn<?, ?>> columns = new V6TreeSchemaFinalized(spec).getColumnMap();
+
+    assertThat(getColumnsWithBloomFilter(columns))
+        .containsExactlyInAnyOrder(
+            "SLOTS_BY_FINALIZED_ROOT",
+            "FINALIZED_STATE_TREE_LEAVES",
+            "FINALIZED_STATE_TREE_BRANCHES",
+            "SLOTS_BY_FINALIZED_STATE_ROOT",
+            "NON_CANONICAL_BLOCKS_BY_ROOT");
+  }
+
+  private static Iterable<String> getColumnsWithBloomFilter(
+      final Map<String, KvStoreColumn<?, ?>> columns) {
+    return columns.entrySet().stream()
+        .filter(entry -> !RocksDbInstanceFactory.isOrderedColumn(entry.getValue()))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+  }
+}
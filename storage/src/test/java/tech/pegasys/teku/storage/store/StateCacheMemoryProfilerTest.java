@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeMemoryEstimator;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateCacheMemoryProfilerTest {
+  private static final String CACHE_NAME = "checkpoint_states";
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final CachingTaskQueue<UInt64, BeaconState> cache =
+      CachingTaskQueue.create(asyncRunner, metricsSystem, "test_states", 10);
+
+  private final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(1));
+  private final BeaconState state2 = state1.updated(state -> state.setSlot(UInt64.valueOf(2)));
+  private final BeaconState state3 = state2.updated(state -> state.setSlot(UInt64.valueOf(3)));
+
+  @Test
+  void shouldReportRetainedBytesCountingSharedNodesOnce() {
+    cacheStates();
+    final StateCacheMemoryProfiler profiler = createProfiler(0);
+
+    profiler.update();
+
+    final long expectedBytes = estimate(state1, state2, state3);
+    assertThat(expectedBytes).isLessThan(estimate(state1) * 2);
+    assertThat(getRetainedBytes()).isEqualTo(expectedBytes);
+    assertThat(cache.getCachedValues()).hasSize(3);
+  }
+
+  @Test
+  void shouldEvictOldestStatesWhenOverBudget() {
+    cacheStates();
+    final long budget = estimate(state3, state2);
+    final StateCacheMemoryProfiler profiler = createProfiler(budget);
+
+    profiler.update();
+
+    assertThat(cache.getCachedValues()).containsOnlyKeys(state2.getSlot(), state3.getSlot());
+    assertThat(getRetainedBytes()).isEqualTo(budget);
+    assertThat(
+            metricsSystem
+                .getCounter(
+                    TekuMetricCategory.STORAGE, "memory_state_cache_budget_evictions_total")
+                .getValue(CACHE_NAME))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldAlwaysKeepNewestState() {
+    cacheStates();
+    final StateCacheMemoryProfiler profiler = createProfiler(1);
+
+    profiler.update();
+
+    assertThat(cache.getCachedValues()).containsOnlyKeys(state3.getSlot());
+    assertThat(getRetainedBytes()).isEqualTo(estimate(state3));
+  }
+
+  @Test
+  void shouldScheduleProfilingWhenStarted() {
+    createProfiler(0);
+
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+  }
+
+  private StateCacheMemoryProfiler createProfiler(final long maxMemoryBytes) {
+    final StateCacheMemoryProfiler profiler =
+        new StateCacheMemoryProfiler(asyncRunner)
+            .addCache(CACHE_NAME, cache, Function.identity(), maxMemoryBytes);
+    profiler.start(metricsSystem);
+    return profiler;
+  }
+
+  private void cacheStates() {
+    cache.cache(state1.getSlot(), state1);
+    cache.cache(state2.getSlot(), state2);
+    cache.cache(state3.getSlot(), state3);
+  }
+
+  private long getRetainedBytes() {
+    return (long)
+        metricsSystem
+            .getLabelledGauge(TekuMetricCategory.STORAGE, "memory_state_cache_bytes")
+            .getValue(CACHE_NAME)
+            .orElseThrow();
+  }
+
+  private long estimate(final BeaconState... states) {
+    final TreeNodeMemoryEstimator estimator = new TreeNodeMemoryEstimator();
+    for (BeaconState state : states) {
+      estimator.add(state.getBackingNode());
+    }
+    return estimator.getTotalBytes();
+  }
+}
@@ -85,6 +85,17 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       hidden = true)
   private int maxKnownNodeCacheSize = StorageConfiguration.DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-state-node-interning-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Share identical tree nodes between states loaded from the database to reduce the memory they use",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean stateNodeInterningEnabled =
+      StorageConfiguration.DEFAULT_STATE_NODE_INTERNING_ENABLED;
+
   public StateStorageMode getDataStorageMode() {
     return dataStorageMode;
   }
@@ -103,7 +114,8 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .dataStorageFrequency(dataStorageFrequency)
                 .dataStorageCreateDbVersion(parseDatabaseVersion())
                 .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled)
-                .maxKnownNodeCacheSize(maxKnownNodeCacheSize));
+                .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
+                .stateNodeInterningEnabled(stateNodeInterningEnabled));
   }
 
   private DatabaseVersion parseDatabaseVersion() {
@@ -119,6 +119,17 @@ public class BeaconRestApiOptions {
       hidden = true)
   private int validatorThreads = BeaconRestApiConfig.DEFAULT_SUBSCRIBE_THREADS_COUNT;
 
+  @Option(
+      names = {"--Xrest-api-response-cache-max-size"},
+      description =
+          "Set the maximum size in bytes of the cache of responses to queries for finalized data. "
+              + "Set to 0 to disable the cache",
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private long responseCacheMaxSizeBytes =
+      BeaconRestApiConfig.DEFAULT_RESPONSE_CACHE_MAX_SIZE_BYTES;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.restApi(
         restApiBuilder ->
@@ -132,6 +143,7 @@ public class BeaconRestApiOptions {
                 .maxUrlLength(maxUrlLength)
                 .beaconLivenessTrackingEnabled(beaconLivenessTrackingEnabled)
                 .maxPendingEvents(maxPendingEvents)
-                .validatorThreads(validatorThreads));
+                .validatorThreads(validatorThreads)
+                .responseCacheMaxSizeBytes(responseCacheMaxSizeBytes));
   }
 }
@@ -15,8 +15,10 @@ package tech.pegasys.teku.cli.options;
 
 import static tech.pegasys.teku.config.TekuConfiguration.Builder;
 
+import org.apache.tuweni.units.bigints.UInt256;
 import picocli.CommandLine;
 import picocli.CommandLine.Option;
+import tech.pegasys.teku.cli.converter.UInt256Converter;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel.Version;
 
 public class ExecutionLayerOptions {
@@ -55,13 +57,24 @@ public class ExecutionLayerOptions {
       hidden = true)
   private String executionBuilderEndpoint = null;
 
+  @Option(
+      names = {"--Xeb-min-bid-value"},
+      paramLabel = "<uint256>",
+      description =
+          "Minimum value in wei of a builder bid for it to be used instead of the local execution engine payload.",
+      arity = "1",
+      hidden = true,
+      converter = UInt256Converter.class)
+  private UInt256 builderBidMinimumValue = UInt256.ZERO;
+
   public void configure(final Builder builder) {
     builder.executionLayer(
         b ->
             b.engineEndpoint(executionEngineEndpoint)
                 .engineVersion(executionEngineVersion)
                 .engineJwtSecretFile(engineJwtSecretFile)
-                .builderEndpoint(executionBuilderEndpoint));
+                .builderEndpoint(executionBuilderEndpoint)
+                .builderBidMinimumValue(builderBidMinimumValue));
     depositOptions.configure(builder);
   }
 }
@@ -52,12 +52,43 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-cache-max-memory"},
+      paramLabel = "<BYTES>",
+      description =
+          "Maximum estimated memory in bytes retained by cached states. Older states are evicted when exceeded. A value of zero disables the limit.",
+      arity = "1")
+  private long stateCacheMaxMemoryBytes = StoreConfig.DEFAULT_STATE_CACHE_MAX_MEMORY_BYTES;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-checkpoint-state-cache-max-memory"},
+      paramLabel = "<BYTES>",
+      description =
+          "Maximum estimated memory in bytes retained by cached checkpoint states. Older states are evicted when exceeded. A value of zero disables the limit.",
+      arity = "1")
+  private long checkpointStateCacheMaxMemoryBytes =
+      StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_MAX_MEMORY_BYTES;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-cache-memory-profiling-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Periodically report the estimated memory retained by cached states",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean stateCacheMemoryProfilingEnabled = false;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.store(
         b ->
             b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs)
                 .blockCacheSize(blockCacheSize)
                 .stateCacheSize(stateCacheSize)
-                .checkpointStateCacheSize(checkpointStateCacheSize));
+                .checkpointStateCacheSize(checkpointStateCacheSize)
+                .stateCacheMaxMemoryBytes(stateCacheMaxMemoryBytes)
+                .checkpointStateCacheMaxMemoryBytes(checkpointStateCacheMaxMemoryBytes)
+                .stateCacheMemoryProfilingEnabled(stateCacheMemoryProfilingEnabled));
   }
 }
@@ -216,4 +216,23 @@ public class BeaconRestApiOptionsTest extends AbstractBeaconNodeCommandTest {
         .usingRecursiveComparison()
         .isEqualTo(tekuConfiguration);
   }
+
+  @Test
+  void responseCacheMaxSize_shouldDefault() {
+    final long responseCacheMaxSize =
+        getConfig(getTekuConfigurationFromArguments()).getResponseCacheMaxSizeBytes();
+    assertThat(responseCacheMaxSize)
+        .isEqualTo(BeaconRestApiConfig.DEFAULT_RESPONSE_CACHE_MAX_SIZE_BYTES);
+  }
+
+  @Test
+  void responseCacheMaxSize_shouldBeAbleToOverride() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xrest-api-response-cache-max-size=1024");
+    final long responseCacheMaxSize = getConfig(tekuConfiguration).getResponseCacheMaxSizeBytes();
+    assertThat(responseCacheMaxSize).isEqualTo(1024);
+    assertThat(createConfigBuilder().restApi(b -> b.responseCacheMaxSizeBytes(1024)).build())
+        .usingRecursiveComparison()
+        .isEqualTo(tekuConfiguration);
+  }
 }
@@ -16,6 +16,7 @@ package tech.pegasys.teku.cli.options;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.cli.AbstractBeaconNodeCommandTest;
 import tech.pegasys.teku.config.TekuConfiguration;
@@ -86,6 +87,20 @@ public class ExecutionLayerOptionsTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(config);
   }
 
+  @Test
+  public void shouldDefaultBuilderBidMinimumValueToZero() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.executionLayer().getBuilderBidMinimumValue()).isEqualTo(UInt256.ZERO);
+  }
+
+  @Test
+  public void shouldSetBuilderBidMinimumValue() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments("--Xeb-min-bid-value", "1000000000000000000");
+    assertThat(config.executionLayer().getBuilderBidMinimumValue())
+        .isEqualTo(UInt256.valueOf(1_000_000_000_000_000_000L));
+  }
+
   @Test
   public void shouldReportEEDisabledIfEndpointNotSpecified() {
     final TekuConfiguration config = getTekuConfigurationFromArguments();
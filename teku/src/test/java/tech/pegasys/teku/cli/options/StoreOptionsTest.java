@@ -66,4 +66,21 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void stateCacheMaxMemory_shouldEnableMemoryProfiling() {
+    final String[] args = {
+      "--Xstore-state-cache-max-memory", "1000000",
+    };
+    final StoreConfig config = getTekuConfigurationFromArguments(args).beaconChain().storeConfig();
+    assertThat(config.getStateCacheMaxMemoryBytes()).isEqualTo(1_000_000L);
+    assertThat(config.getCheckpointStateCacheMaxMemoryBytes()).isZero();
+    assertThat(config.isStateCacheMemoryProfilingEnabled()).isTrue();
+  }
+
+  @Test
+  public void stateCacheMemoryProfiling_shouldBeDisabledByDefault() {
+    final StoreConfig config = getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(config.isStateCacheMemoryProfilingEnabled()).isFalse();
+  }
 }